@@ -0,0 +1,74 @@
+package org.geolatte.geom.benchmarks;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.Unit;
+import org.geolatte.geom.generator.GeometryGenerators;
+
+import java.util.Random;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.addVerticalSystem;
+
+/**
+ * Generates the geometries that are used as benchmark fixtures.
+ *
+ * <p>Fixtures are generated with a fixed seed, so that all runs of a benchmark operate on the same data.</p>
+ */
+final class Fixtures {
+
+    /**
+     * The geometry types that are benchmarked.
+     */
+    enum Type {
+        MULTIPOINT, LINESTRING, POLYGON, MULTIPOLYGON
+    }
+
+    // the number of parts in the multi-part fixtures
+    static final int NUM_PARTS = 8;
+
+    static final CoordinateReferenceSystem<G3D> WGS84_Z = addVerticalSystem(WGS84, G3D.class, Unit.METER);
+
+    private static final long SEED = 20240101L;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Generates a geometry in WGS84 (with a vertical axis if the coordinate dimension is 3).
+     *
+     * @param type      the geometry type
+     * @param vertices  the total number of vertices of the geometry
+     * @param dimension the coordinate dimension, either 2 or 3
+     * @return the generated geometry
+     */
+    static Geometry<?> geometry(String type, int vertices, int dimension) {
+        Type t = Type.valueOf(type);
+        switch (dimension) {
+            case 2:
+                return generate(t, vertices, new Box<>(g(-10, 40), g(10, 60), WGS84));
+            case 3:
+                return generate(t, vertices, new Box<>(g(-10, 40, 0), g(10, 60, 500), WGS84_Z));
+            default:
+                throw new IllegalArgumentException("Unsupported coordinate dimension: " + dimension);
+        }
+    }
+
+    private static <P extends Position> Geometry<P> generate(Type type, int vertices, Box<P> box) {
+        Random rnd = new Random(SEED);
+        switch (type) {
+            case MULTIPOINT:
+                return GeometryGenerators.multiPoint(vertices, box, rnd).generate();
+            case LINESTRING:
+                return GeometryGenerators.lineString(vertices, box, rnd).generate();
+            case POLYGON:
+                return GeometryGenerators.polygon(vertices, box, rnd).generate();
+            case MULTIPOLYGON:
+                return GeometryGenerators.multiPolygon(NUM_PARTS, Math.max(4, vertices / NUM_PARTS), box, rnd).generate();
+            default:
+                throw new IllegalArgumentException("Unsupported geometry type: " + type);
+        }
+    }
+
+}
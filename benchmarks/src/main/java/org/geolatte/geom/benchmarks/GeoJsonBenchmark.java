@@ -0,0 +1,55 @@
+package org.geolatte.geom.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.json.jackson2.GeolatteGeomModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+
+/**
+ * Benchmarks GeoJSON (de)serialization of geometries with the Jackson 2 {@code GeolatteGeomModule}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoJsonBenchmark {
+
+    @Param({"LINESTRING", "POLYGON", "MULTIPOINT", "MULTIPOLYGON"})
+    public String type;
+
+    @Param({"16", "1024", "65536"})
+    public int vertices;
+
+    @Param({"2", "3"})
+    public int dimension;
+
+    private Geometry<?> geometry;
+    private String json;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        geometry = Fixtures.geometry(type, vertices, dimension);
+        mapper = new ObjectMapper();
+        mapper.registerModule(new GeolatteGeomModule(WGS84));
+        json = mapper.writeValueAsString(geometry);
+    }
+
+    @Benchmark
+    public String write() throws JsonProcessingException {
+        return mapper.writeValueAsString(geometry);
+    }
+
+    @Benchmark
+    public Geometry<?> read() throws JsonProcessingException {
+        return mapper.readValue(json, Geometry.class);
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.geolatte.geom.benchmarks;
+
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.jts.JTS;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of geometries to and from JTS.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JtsBenchmark {
+
+    @Param({"LINESTRING", "POLYGON", "MULTIPOINT", "MULTIPOLYGON"})
+    public String type;
+
+    @Param({"16", "1024", "65536"})
+    public int vertices;
+
+    @Param({"2", "3"})
+    public int dimension;
+
+    private Geometry<?> geometry;
+    private org.locationtech.jts.geom.Geometry jtsGeometry;
+
+    @Setup
+    public void setUp() {
+        geometry = Fixtures.geometry(type, vertices, dimension);
+        jtsGeometry = JTS.to(geometry);
+    }
+
+    @Benchmark
+    public org.locationtech.jts.geom.Geometry toJts() {
+        return JTS.to(geometry);
+    }
+
+    @Benchmark
+    public Geometry<?> fromJts() {
+        return JTS.from(jtsGeometry, geometry.getCoordinateReferenceSystem());
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.geolatte.geom.benchmarks;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.crs.trans.TransformOperation;
+import org.geolatte.geom.crs.trans.TransformOperations;
+import org.geolatte.geom.crs.trans.TransformVisitor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+
+/**
+ * Benchmarks the reprojection of geometries from WGS84 to Web Mercator with a {@code TransformVisitor}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransformBenchmark {
+
+    @Param({"LINESTRING", "POLYGON", "MULTIPOINT", "MULTIPOLYGON"})
+    public String type;
+
+    @Param({"16", "1024", "65536"})
+    public int vertices;
+
+    private Geometry<G2D> geometry;
+    private TransformOperation<G2D, C2D> operation;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        geometry = (Geometry<G2D>) Fixtures.geometry(type, vertices, 2);
+        operation = TransformOperations.from(WGS84, WEB_MERCATOR);
+    }
+
+    @Benchmark
+    public Geometry<C2D> transform() {
+        TransformVisitor<G2D, C2D> visitor = new TransformVisitor<>(operation);
+        geometry.accept(visitor);
+        return visitor.getTransformed();
+    }
+
+}
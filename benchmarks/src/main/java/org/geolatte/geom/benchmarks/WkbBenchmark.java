@@ -0,0 +1,56 @@
+package org.geolatte.geom.benchmarks;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.WkbDecoder;
+import org.geolatte.geom.codec.WkbEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Postgis EWKB encoder and decoder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WkbBenchmark {
+
+    @Param({"LINESTRING", "POLYGON", "MULTIPOINT", "MULTIPOLYGON"})
+    public String type;
+
+    @Param({"16", "1024", "65536"})
+    public int vertices;
+
+    @Param({"2", "3"})
+    public int dimension;
+
+    private Geometry<?> geometry;
+    private byte[] wkb;
+    private WkbEncoder encoder;
+    private WkbDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        geometry = Fixtures.geometry(type, vertices, dimension);
+        encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
+        decoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
+        wkb = encoder.encode(geometry, ByteOrder.NDR).toByteArray();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        return encoder.encode(geometry, ByteOrder.NDR);
+    }
+
+    @Benchmark
+    public Geometry<?> decode() {
+        return decoder.decode(ByteBuffer.from(wkb));
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.geolatte.geom.benchmarks;
+
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkt;
+import org.geolatte.geom.codec.WktDecoder;
+import org.geolatte.geom.codec.WktEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Postgis EWKT encoder and decoder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WktBenchmark {
+
+    @Param({"LINESTRING", "POLYGON", "MULTIPOINT", "MULTIPOLYGON"})
+    public String type;
+
+    @Param({"16", "1024", "65536"})
+    public int vertices;
+
+    @Param({"2", "3"})
+    public int dimension;
+
+    private Geometry<?> geometry;
+    private String wkt;
+    private WktEncoder encoder;
+    private WktDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        geometry = Fixtures.geometry(type, vertices, dimension);
+        encoder = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1);
+        decoder = Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1);
+        wkt = encoder.encode(geometry);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(geometry);
+    }
+
+    @Benchmark
+    public Geometry<?> decode() {
+        return decoder.decode(wkt);
+    }
+
+}
@@ -25,6 +25,7 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.*;
 
 import java.io.Serializable;
+import java.lang.ref.SoftReference;
 
 /**
  * @author Karel Maesen, Geovise BVBA, 2011
@@ -35,19 +36,24 @@ abstract class AbstractPositionSequence<P extends Position> implements PositionS
 
     private final PositionFactory<P> factory;
 
+    // cached result of toCoordinateArray(), cleared whenever an ordinate is set
+    private transient SoftReference<org.locationtech.jts.geom.Coordinate[]> coordinateCache;
+
     public AbstractPositionSequence(PositionFactory<P> factory) {
         this.factory = factory;
     }
 
-    private static org.locationtech.jts.geom.Coordinate[] toCoordinateArray(AbstractPositionSequence cseq) {
-        org.locationtech.jts.geom.Coordinate[] coordinates = new org.locationtech.jts.geom.Coordinate[cseq.size()];
-        for (int i = 0; i < cseq.size(); i++) {
-            coordinates[i] = cseq.getCoordinate(i);
-
-        }
-        return coordinates;
+    private org.locationtech.jts.geom.Coordinate[] cachedCoordinates() {
+        SoftReference<org.locationtech.jts.geom.Coordinate[]> ref = coordinateCache;
+        return ref == null ? null : ref.get();
     }
 
+    /**
+     * Clears the cached {@code Coordinate} array. Implementations must call this when an ordinate is modified.
+     */
+    protected void clearCoordinateCache() {
+        coordinateCache = null;
+    }
 
     @SuppressWarnings("unchecked")
     public Class<P> getPositionClass() {
@@ -121,85 +127,65 @@ abstract class AbstractPositionSequence<P extends Position> implements PositionS
         }
     }
 
+    /**
+     * Returns the i'th coordinate.
+     *
+     * <p>If the coordinate array of this sequence has been cached by {@link #toCoordinateArray()}, the cached
+     * instance is returned. Use {@link #getCoordinateCopy(int)} to obtain a copy.</p>
+     */
     public org.locationtech.jts.geom.Coordinate getCoordinate(int i) {
-        double[] c = new double[getCoordinateDimension()];
-        getCoordinates(i, c);
+        org.locationtech.jts.geom.Coordinate[] cached = cachedCoordinates();
+        return cached != null ? cached[i] : newCoordinate(i);
+    }
+
+    private org.locationtech.jts.geom.Coordinate newCoordinate(int i) {
         if (getCoordinateDimension() == 2) {
-            return toCoordinateXY(c);
+            return new CoordinateXY(getX(i), getY(i));
         } else if (factory.hasMComponent() && factory.hasZComponent()) {
-            return toCoordinateXYZM(c);
+            return new CoordinateXYZM(getX(i), getY(i), getOrdinate(i, 2), getOrdinate(i, 3));
         } else if (factory.hasZComponent()) {
-            return toCoordinateXYZ(c);
+            return new Coordinate(getX(i), getY(i), getOrdinate(i, 2));
         } else {
-            return toCoordinateXYM(c);
+            return new CoordinateXYM(getX(i), getY(i), getOrdinate(i, 2));
         }
     }
 
-    private CoordinateXY toCoordinateXY(double[] c) {
-        CoordinateXY co = new CoordinateXY();
-        co.setX(c[0]);
-        co.setY(c[1]);
-        return co;
-    }
-
-    private CoordinateXYM toCoordinateXYM(double[] c) {
-        CoordinateXYM co = new CoordinateXYM();
-        co.setX(c[0]);
-        co.setY(c[1]);
-        co.setM(c[2]);
-        return co;
-    }
-
-    private Coordinate toCoordinateXYZ(double[] c) {
-        Coordinate co = new Coordinate();
-        co.setX(c[0]);
-        co.setY(c[1]);
-        co.setZ(c[2]);
-        return co;
-    }
-
-    private CoordinateXYZM toCoordinateXYZM(double[] c) {
-        CoordinateXYZM co = new CoordinateXYZM();
-        co.setX(c[0]);
-        co.setY(c[1]);
-        co.setZ(c[2]);
-        co.setM(c[3]);
-        return co;
-    }
-
     public org.locationtech.jts.geom.Coordinate getCoordinateCopy(int i) {
-        return getCoordinate(i);
+        return newCoordinate(i);
     }
 
     @Override
     public void getCoordinate(int index, org.locationtech.jts.geom.Coordinate coord) {
-        double[] c = new double[getCoordinateDimension()];
-        getCoordinates(index, c);
-        coord.x = c[0];
-        coord.y = c[1];
+        coord.x = getX(index);
+        coord.y = getY(index);
     }
 
     @Override
     public double getX(int index) {
-        double[] c = new double[getCoordinateDimension()];
-        getCoordinates(index, c);
-        return c[0];
+        return getOrdinate(index, 0);
     }
 
     @Override
     public double getY(int index) {
-        double[] c = new double[getCoordinateDimension()];
-        getCoordinates(index, c);
-        return c[1];
+        return getOrdinate(index, 1);
     }
 
+    /**
+     * Returns the specified ordinate of the i'th position.
+     *
+     * <p>This implementation copies all ordinates of the position. Subclasses should override it with direct indexed
+     * access, since JTS algorithms call it (via {@link #getX(int)} and {@link #getY(int)}) in their inner loops.</p>
+     */
     @Override
     public double getOrdinate(int i, int ordinateIndex) {
+        checkOrdinateIndex(ordinateIndex);
         double[] c = new double[getCoordinateDimension()];
         getCoordinates(i, c);
-        if (ordinateIndex < getCoordinateDimension()) {
-            return c[ordinateIndex];
-        } else {
+        return c[ordinateIndex];
+    }
+
+    protected void checkOrdinateIndex(int ordinateIndex) {
+        if (ordinateIndex < 0 || ordinateIndex >= getCoordinateDimension()) {
             throw new IllegalArgumentException("Ordinate index " + ordinateIndex + " is not supported.");
         }
     }
@@ -209,7 +195,15 @@ abstract class AbstractPositionSequence<P extends Position> implements PositionS
 
     @Override
     public org.locationtech.jts.geom.Coordinate[] toCoordinateArray() {
-        return toCoordinateArray(this);
+        org.locationtech.jts.geom.Coordinate[] coordinates = cachedCoordinates();
+        if (coordinates == null) {
+            coordinates = new org.locationtech.jts.geom.Coordinate[size()];
+            for (int i = 0; i < coordinates.length; i++) {
+                coordinates[i] = newCoordinate(i);
+            }
+            coordinateCache = new SoftReference<>(coordinates);
+        }
+        return coordinates;
     }
 
     @Override
@@ -75,7 +75,7 @@ public class ByteBuffer {
     public static ByteBuffer from(String hexString) {
         if (hexString == null) throw new IllegalArgumentException("Cannot create ByteBuffer from null input String.");
         int size = hexString.length() / 2; // this will drop the last char, if hexString is not even.
-        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(size);
+        byte[] bytes = new byte[size];
         for (int i = 0; i < size * 2; i += 2) {
             final char firstLetterOrNumber = hexString.charAt(i);
             final char secondLetterOrNumber = hexString.charAt(i + 1);
@@ -95,11 +95,9 @@ public class ByteBuffer {
                 secondDigit = charToHex(secondLetterOrNumber);
             }
 
-            final byte b = (byte)((firstDigit << 4) | secondDigit);
-            buffer.put(b);
+            bytes[i >> 1] = (byte)((firstDigit << 4) | secondDigit);
         }
-        buffer.rewind();
-        return new ByteBuffer(buffer);
+        return from(bytes);
     }
 
     /**
@@ -148,6 +146,55 @@ public class ByteBuffer {
         return new ByteBuffer(buffer);
     }
 
+    /**
+     * Wraps a region of a byte array into a <code>ByteBuffer</code>.
+     *
+     * The new buffer will be backed by the given byte array, without copying. Its first byte will be the byte at
+     * <code>offset</code> in the array, and its capacity and limit will be <code>length</code>.
+     *
+     * @param bytes  The array that will back this buffer
+     * @param offset The index in the array of the first byte of the new buffer
+     * @param length The number of bytes in the new buffer
+     * @return The new byte buffer.
+     * @throws IndexOutOfBoundsException If the region is not contained in the array
+     */
+    public static ByteBuffer from(byte[] bytes, int offset, int length) {
+        return new ByteBuffer(java.nio.ByteBuffer.wrap(bytes).slice(offset, length));
+    }
+
+    /**
+     * Wraps the remaining bytes of a <code>java.nio.ByteBuffer</code> into a <code>ByteBuffer</code>.
+     *
+     * <p>The new buffer shares its content with the specified buffer, which may be a heap, direct or memory-mapped
+     * buffer. Its first byte will be the byte at the current position of the specified buffer, and its capacity and limit
+     * will be the number of bytes remaining in the specified buffer. The position, limit and byte order of the
+     * specified buffer are not modified by reading from the new buffer.</p>
+     *
+     * @param buffer The buffer holding the bytes
+     * @return The new byte buffer.
+     */
+    public static ByteBuffer from(java.nio.ByteBuffer buffer) {
+        return new ByteBuffer(buffer.slice());
+    }
+
+    /**
+     * Wraps a region of a <code>java.nio.ByteBuffer</code> into a <code>ByteBuffer</code>.
+     *
+     * <p>The new buffer shares its content with the specified buffer, which may be a heap, direct or memory-mapped
+     * buffer. Its first byte will be the byte at index <code>offset</code> of the specified buffer, and its capacity and
+     * limit will be <code>length</code>. The position, limit and byte order of the specified buffer are not
+     * modified.</p>
+     *
+     * @param buffer The buffer holding the bytes
+     * @param offset The index in the specified buffer of the first byte of the new buffer
+     * @param length The number of bytes in the new buffer
+     * @return The new byte buffer.
+     * @throws IndexOutOfBoundsException If the region is not contained in the specified buffer
+     */
+    public static ByteBuffer from(java.nio.ByteBuffer buffer, int offset, int length) {
+        return new ByteBuffer(buffer.slice(offset, length));
+    }
+
     /**
      * Transforms a List of ByteBuffers to a single ByteBuffer
      */
@@ -225,6 +272,24 @@ public class ByteBuffer {
         return buffer.limit();
     }
 
+    /**
+     * Returns this buffer's position.
+     *
+     * @return The index of the next byte to be read or written
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Clears this buffer.
+     *
+     * <p>The position is set to zero, the limit is set to the capacity. The content of the buffer is not erased.</p>
+     */
+    public void clear() {
+        buffer.clear();
+    }
+
     /**
      * Rewinds the buffer.
      *
@@ -357,6 +422,36 @@ public class ByteBuffer {
         }
     }
 
+    /**
+     * Reads <code>length</code> doubles from this instance at the current position into the specified array, taking
+     * into account the byte-order, and then increments the position by eight times <code>length</code>.
+     *
+     * @param dst    The array into which the doubles are written
+     * @param offset The index in <code>dst</code> of the first double to be written
+     * @param length The number of doubles to read
+     * @throws BufferAccessException If there are fewer than <code>8 * length</code> bytes remaining in this buffer.
+     */
+    public void getDoubles(double[] dst, int offset, int length) {
+        if ((long) length * DOUBLE_SIZE > buffer.remaining()) {
+            throw new BufferAccessException(String.format("Can't read %d doubles: only %d bytes remaining", length, buffer.remaining()));
+        }
+        buffer.asDoubleBuffer().get(dst, offset, length);
+        buffer.position(buffer.position() + length * DOUBLE_SIZE);
+    }
+
+    /**
+     * Skips the specified number of bytes, by incrementing the position of this instance.
+     *
+     * @param numBytes The number of bytes to skip
+     * @throws BufferAccessException If there are fewer than <code>numBytes</code> bytes remaining in this buffer.
+     */
+    public void skip(int numBytes) {
+        if (numBytes < 0 || numBytes > buffer.remaining()) {
+            throw new BufferAccessException(String.format("Can't skip %d bytes: only %d bytes remaining", numBytes, buffer.remaining()));
+        }
+        buffer.position(buffer.position() + numBytes);
+    }
+
     /**
      * Writes the specified double-value as 8 bytes to this instance at the current position, respecting the byte-order,
      * and then increments the position by eight.
@@ -418,10 +513,31 @@ public class ByteBuffer {
     /**
      * Returns the byte array that backs this buffer.
      *
-     * @return The array that backs this buffer
+     * <p>If this buffer is not backed by an accessible array, or only wraps a region of its array, a copy of its
+     * bytes is returned.</p>
+     *
+     * @return The array that backs this buffer, or a copy of its content
      */
     public byte[] toByteArray(){
-        return buffer.array();
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.array().length == buffer.capacity()) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.capacity()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns a copy of the bytes of this buffer up to its limit.
+     *
+     * <p>The returned array is never shared with this buffer, and the position of this buffer is not modified.</p>
+     *
+     * @return A new array holding the bytes from index zero up to the limit of this buffer
+     */
+    public byte[] copyToLimit() {
+        byte[] bytes = new byte[buffer.limit()];
+        buffer.get(0, bytes);
+        return bytes;
     }
 
     @Override
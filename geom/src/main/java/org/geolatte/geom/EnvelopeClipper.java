@@ -0,0 +1,384 @@
+/*
+ * This file is part of the GeoLatte project.
+ *
+ *     GeoLatte is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU Lesser General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     GeoLatte is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU Lesser General Public License for more details.
+ *
+ *     You should have received a copy of the GNU Lesser General Public License
+ *     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.geolatte.geom;
+
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.jts.JTS;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+import org.locationtech.jts.operation.overlay.snap.SnapIfNeededOverlayOp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Clips {@code Geometry}s to a rectangle, working directly on their position sequences.
+ *
+ * <p>Line segments are clipped with the Liang-Barsky algorithm; a {@code LineString} that leaves and re-enters the
+ * rectangle results in several parts. Rings are clipped with the Sutherland-Hodgman algorithm. For concave rings this
+ * can result in zero-width edges running along the border of the rectangle, rather than in separate polygons. All
+ * ordinates, including Z and M, are linearly interpolated at the intersections with the border.</p>
+ *
+ * <p>A hole that crosses or touches the border would end up sharing an edge with the clipped exterior ring, which makes
+ * the polygon invalid. Polygons with such holes are therefore intersected with the rectangle by the JTS overlay
+ * instead.</p>
+ */
+class EnvelopeClipper<P extends Position> {
+
+    final private Envelope<P> envelope;
+    final private CoordinateReferenceSystem<P> crs;
+    final private int dim;
+    final private double minX;
+    final private double minY;
+    final private double maxX;
+    final private double maxY;
+    //scratch buffer for a single position
+    final private double[] position;
+
+    EnvelopeClipper(Envelope<P> envelope) {
+        this.envelope = envelope;
+        this.crs = envelope.getCoordinateReferenceSystem();
+        this.dim = crs.getCoordinateDimension();
+        this.minX = envelope.getMinC0();
+        this.minY = envelope.getMinC1();
+        this.maxX = envelope.getMaxC0();
+        this.maxY = envelope.getMaxC1();
+        this.position = new double[dim];
+    }
+
+    @SuppressWarnings("unchecked")
+    Geometry<P> clip(Geometry<P> geometry) {
+        if (geometry.isEmpty()) return geometry;
+        if (envelope.isEmpty()) return empty(geometry);
+        Envelope<P> geometryEnvelope = geometry.getEnvelope();
+        if (geometryEnvelope.within(envelope)) return geometry;
+        if (!geometryEnvelope.intersects(envelope)) return empty(geometry);
+        switch (geometry.getGeometryType()) {
+            case POINT:
+                return Geometries.mkEmptyPoint(crs);
+            case LINESTRING:
+                return clipLineString((LineString<P>) geometry);
+            case LINEARRING:
+                //a clipped ring is no longer closed, so it is clipped as a line
+                return clipLinearRing((LinearRing<P>) geometry);
+            case POLYGON:
+                return clipPolygon((Polygon<P>) geometry);
+            case MULTIPOINT:
+                return clipMultiPoint((MultiPoint<P>) geometry);
+            case MULTILINESTRING:
+                return clipMultiLineString((MultiLineString<P>) geometry);
+            case MULTIPOLYGON:
+                return clipMultiPolygon((MultiPolygon<P>) geometry);
+            default:
+                if (geometry instanceof AbstractGeometryCollection) {
+                    return clipCollection((AbstractGeometryCollection<P, ?>) geometry);
+                }
+                throw new IllegalArgumentException("Can't clip geometry of type: " + geometry.getGeometryType());
+        }
+    }
+
+    private Geometry<P> empty(Geometry<P> geometry) {
+        if (geometry.getGeometryType() == GeometryType.LINEARRING) return Geometries.mkEmptyLineString(crs);
+        return Geometries.mkEmptyGeometry(geometry.getGeometryType(), crs);
+    }
+
+    private Geometry<P> clipMultiPoint(MultiPoint<P> multiPoint) {
+        List<Point<P>> points = new ArrayList<>();
+        for (Point<P> point : multiPoint.components()) {
+            if (!point.isEmpty() && envelope.contains(point.getPosition())) points.add(point);
+        }
+        return points.isEmpty() ? Geometries.mkEmptyMultiPoint(crs) : Geometries.mkMultiPoint(points);
+    }
+
+    private Geometry<P> clipLineString(LineString<P> lineString) {
+        List<LineString<P>> parts = new ArrayList<>();
+        clipLine(lineString, parts);
+        if (parts.isEmpty()) return Geometries.mkEmptyLineString(crs);
+        if (parts.size() == 1) return parts.get(0);
+        return Geometries.mkMultiLineString(parts);
+    }
+
+    private Geometry<P> clipLinearRing(LinearRing<P> ring) {
+        List<LineString<P>> parts = new ArrayList<>();
+        clipLine(ring, parts);
+        if (parts.size() > 1 && envelope.contains(ring.getStartPosition())) {
+            //the ring was split at its closing position, so the last part continues in the first
+            double[] last = toArray(parts.get(parts.size() - 1).getPositions());
+            double[] first = toArray(parts.get(0).getPositions());
+            if (samePoint(last, last.length - dim, first, 0)) {
+                double[] joined = Arrays.copyOf(last, last.length + first.length - dim);
+                System.arraycopy(first, dim, joined, last.length, first.length - dim);
+                parts.set(0, new LineString<>(toPositions(joined, joined.length / dim), crs));
+                parts.remove(parts.size() - 1);
+            }
+        }
+        if (parts.isEmpty()) return Geometries.mkEmptyLineString(crs);
+        if (parts.size() == 1) return parts.get(0);
+        return Geometries.mkMultiLineString(parts);
+    }
+
+    private Geometry<P> clipMultiLineString(MultiLineString<P> multiLineString) {
+        List<LineString<P>> parts = new ArrayList<>();
+        for (LineString<P> lineString : multiLineString.components()) {
+            clipLine(lineString, parts);
+        }
+        return parts.isEmpty() ? Geometries.mkEmptyMultiLineString(crs) : Geometries.mkMultiLineString(parts);
+    }
+
+    private Geometry<P> clipPolygon(Polygon<P> polygon) {
+        List<Polygon<P>> polygons = new ArrayList<>();
+        clipPolygon(polygon, polygons);
+        if (polygons.isEmpty()) return Geometries.mkEmptyPolygon(crs);
+        if (polygons.size() == 1) return polygons.get(0);
+        return Geometries.mkMultiPolygon(polygons);
+    }
+
+    private Geometry<P> clipMultiPolygon(MultiPolygon<P> multiPolygon) {
+        List<Polygon<P>> polygons = new ArrayList<>();
+        for (Polygon<P> polygon : multiPolygon.components()) {
+            clipPolygon(polygon, polygons);
+        }
+        return polygons.isEmpty() ? Geometries.mkEmptyMultiPolygon(crs) : Geometries.mkMultiPolygon(polygons);
+    }
+
+    private Geometry<P> clipCollection(AbstractGeometryCollection<P, ?> collection) {
+        List<Geometry<P>> parts = new ArrayList<>();
+        for (Geometry<P> part : collection.components()) {
+            Geometry<P> clipped = clip(part);
+            if (!clipped.isEmpty()) parts.add(clipped);
+        }
+        return parts.isEmpty() ? Geometries.mkEmptyGeometryCollection(crs) : Geometries.mkGeometryCollection(parts);
+    }
+
+    private void clipLine(LineString<P> lineString, List<LineString<P>> parts) {
+        if (lineString.isEmpty()) return;
+        Envelope<P> lineEnvelope = lineString.getEnvelope();
+        if (lineEnvelope.within(envelope)) {
+            parts.add(lineString);
+            return;
+        }
+        if (!lineEnvelope.intersects(envelope)) return;
+
+        double[] coords = toArray(lineString.getPositions());
+        int n = coords.length / dim;
+        double[] part = new double[2 * coords.length];
+        int partLength = 0;
+        double[] t = new double[2];
+        for (int i = 0; i < n - 1; i++) {
+            int s = i * dim;
+            int e = s + dim;
+            if (!clipSegment(coords[s], coords[s + 1], coords[e], coords[e + 1], t)) {
+                partLength = addLine(part, partLength, parts);
+                continue;
+            }
+            if (partLength == 0) {
+                partLength = append(part, partLength, coords, s, e, t[0]);
+            }
+            partLength = append(part, partLength, coords, s, e, t[1]);
+            if (t[1] < 1) {
+                partLength = addLine(part, partLength, parts);
+            }
+        }
+        addLine(part, partLength, parts);
+    }
+
+    private int addLine(double[] part, int partLength, List<LineString<P>> parts) {
+        if (partLength >= 2) {
+            parts.add(new LineString<>(toPositions(part, partLength), crs));
+        }
+        return 0;
+    }
+
+    private void clipPolygon(Polygon<P> polygon, List<Polygon<P>> polygons) {
+        if (polygon.isEmpty()) return;
+        Envelope<P> polygonEnvelope = polygon.getEnvelope();
+        if (polygonEnvelope.within(envelope)) {
+            polygons.add(polygon);
+            return;
+        }
+        if (!polygonEnvelope.intersects(envelope)) return;
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            if (onBorder(polygon.getInteriorRingN(i).getEnvelope())) {
+                overlay(polygon, polygons);
+                return;
+            }
+        }
+
+        List<LinearRing<P>> rings = new ArrayList<>();
+        for (LinearRing<P> ring : polygon.components()) {
+            LinearRing<P> clipped = clipRing(ring);
+            if (clipped == null && rings.isEmpty()) return; // the exterior ring vanished
+            if (clipped != null) rings.add(clipped);
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        LinearRing<P>[] ringArray = rings.toArray(new LinearRing[0]);
+        polygons.add(new Polygon<>(ringArray));
+    }
+
+    /**
+     * Checks whether a ring with the specified envelope may cross or touch the border of the rectangle.
+     */
+    private boolean onBorder(Envelope<P> ringEnvelope) {
+        boolean inside = ringEnvelope.getMinC0() > minX && ringEnvelope.getMaxC0() < maxX
+                && ringEnvelope.getMinC1() > minY && ringEnvelope.getMaxC1() < maxY;
+        return !inside && ringEnvelope.intersects(envelope);
+    }
+
+    /**
+     * Adds the polygons of the intersection of the polygon with the rectangle, as computed by the JTS overlay.
+     */
+    private void overlay(Polygon<P> polygon, List<Polygon<P>> polygons) {
+        org.locationtech.jts.geom.Polygon jtsPolygon = JTS.to(polygon);
+        org.locationtech.jts.geom.Geometry rectangle = jtsPolygon.getFactory().toGeometry(JTS.to(envelope));
+        org.locationtech.jts.geom.Geometry intersection =
+                SnapIfNeededOverlayOp.overlayOp(jtsPolygon, rectangle, OverlayOp.INTERSECTION);
+        for (int i = 0; i < intersection.getNumGeometries(); i++) {
+            org.locationtech.jts.geom.Geometry part = intersection.getGeometryN(i);
+            if (part instanceof org.locationtech.jts.geom.Polygon && !part.isEmpty()) {
+                polygons.add(JTS.from((org.locationtech.jts.geom.Polygon) part, crs));
+            }
+        }
+    }
+
+    private LinearRing<P> clipRing(LinearRing<P> ring) {
+        Envelope<P> ringEnvelope = ring.getEnvelope();
+        if (ringEnvelope.within(envelope)) return ring;
+        if (!ringEnvelope.intersects(envelope)) return null;
+
+        double[] coords = toArray(ring.getPositions());
+        coords = Arrays.copyOf(coords, coords.length - dim); // the closing position is not used
+        coords = clipRing(coords, 0, minX, false);
+        coords = clipRing(coords, 0, maxX, true);
+        coords = clipRing(coords, 1, minY, false);
+        coords = clipRing(coords, 1, maxY, true);
+        int n = coords.length / dim;
+
+        //remove consecutive duplicates, and close the ring
+        double[] result = new double[(n + 1) * dim];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            m = appendDistinct(result, m, coords, i * dim);
+        }
+        if (m > 1 && samePoint(result, 0, result, (m - 1) * dim)) m--;
+        if (m < 3) return null;
+        System.arraycopy(result, 0, result, m * dim, dim);
+        return new LinearRing<>(toPositions(result, m + 1), crs);
+    }
+
+    /**
+     * Clips an (unclosed) ring against one side of the rectangle (Sutherland-Hodgman).
+     *
+     * @param axis 0 for a vertical side, 1 for a horizontal side
+     * @param max whether the side bounds the maximum (instead of minimum) coordinate
+     * @return the coordinates of the clipped ring
+     */
+    private double[] clipRing(double[] in, int axis, double bound, boolean max) {
+        int n = in.length / dim;
+        double[] out = new double[2 * Math.max(n, 1) * dim];
+        int m = 0;
+        if (n > 0) {
+            int prev = (n - 1) * dim;
+            boolean prevIn = max ? in[prev + axis] <= bound : in[prev + axis] >= bound;
+            for (int i = 0; i < n * dim; i += dim) {
+                boolean curIn = max ? in[i + axis] <= bound : in[i + axis] >= bound;
+                if (curIn != prevIn) {
+                    double f = (bound - in[prev + axis]) / (in[i + axis] - in[prev + axis]);
+                    interpolate(in, prev, i, f, out, m * dim);
+                    out[m * dim + axis] = bound;
+                    m++;
+                }
+                if (curIn) {
+                    System.arraycopy(in, i, out, m * dim, dim);
+                    m++;
+                }
+                prev = i;
+                prevIn = curIn;
+            }
+        }
+        return Arrays.copyOf(out, m * dim);
+    }
+
+    /**
+     * Computes the parameter range [t0, t1] of the part of the segment within the rectangle (Liang-Barsky).
+     *
+     * @return false if no part of the segment is within the rectangle
+     */
+    private boolean clipSegment(double x0, double y0, double x1, double y1, double[] t) {
+        double dx = x1 - x0, dy = y1 - y0;
+        t[0] = 0;
+        t[1] = 1;
+        return clipT(-dx, x0 - minX, t) && clipT(dx, maxX - x0, t)
+                && clipT(-dy, y0 - minY, t) && clipT(dy, maxY - y0, t);
+    }
+
+    private static boolean clipT(double p, double q, double[] t) {
+        if (p == 0) return q >= 0;
+        double r = q / p;
+        if (p < 0) {
+            if (r > t[1]) return false;
+            if (r > t[0]) t[0] = r;
+        } else {
+            if (r < t[0]) return false;
+            if (r < t[1]) t[1] = r;
+        }
+        return true;
+    }
+
+    /**
+     * Appends the position at parameter t of the segment from s to e, unless it equals the last position.
+     */
+    private int append(double[] part, int partLength, double[] coords, int s, int e, double t) {
+        if (t <= 0) return appendDistinct(part, partLength, coords, s);
+        if (t >= 1) return appendDistinct(part, partLength, coords, e);
+        interpolate(coords, s, e, t, position, 0);
+        return appendDistinct(part, partLength, position, 0);
+    }
+
+    private int appendDistinct(double[] target, int length, double[] src, int offset) {
+        if (length > 0 && samePoint(target, (length - 1) * dim, src, offset)) return length;
+        System.arraycopy(src, offset, target, length * dim, dim);
+        return length + 1;
+    }
+
+    private void interpolate(double[] coords, int s, int e, double t, double[] out, int offset) {
+        for (int k = 0; k < dim; k++) {
+            out[offset + k] = coords[s + k] + t * (coords[e + k] - coords[s + k]);
+        }
+    }
+
+    private boolean samePoint(double[] a, int offsetA, double[] b, int offsetB) {
+        for (int k = 0; k < dim; k++) {
+            if (a[offsetA + k] != b[offsetB + k]) return false;
+        }
+        return true;
+    }
+
+    private double[] toArray(PositionSequence<P> positions) {
+        double[] coords = new double[positions.size() * dim];
+        for (int i = 0; i < positions.size(); i++) {
+            positions.getCoordinates(i, position);
+            System.arraycopy(position, 0, coords, i * dim, dim);
+        }
+        return coords;
+    }
+
+    private PositionSequence<P> toPositions(double[] coords, int n) {
+        double[] packed = coords.length == n * dim ? coords : Arrays.copyOf(coords, n * dim);
+        return PositionSequenceBuilders.fromPackedArray(packed, crs.getPositionClass());
+    }
+}
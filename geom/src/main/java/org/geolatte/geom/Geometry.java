@@ -48,6 +48,10 @@ public abstract class Geometry<P extends Position> implements Serializable {
     private final PositionSequence<P> positions;
     private final CoordinateReferenceSystem<P> crs;
 
+    // Geometries are immutable, so the extent is computed on first use and then cached.
+    private transient volatile Box<P> boundingBox;
+    private transient volatile Envelope<P> envelope;
+
 
     /**
      * Creates a new {@code Geometry} with the positions from the specified geometry and having the specified
@@ -256,11 +260,18 @@ public abstract class Geometry<P extends Position> implements Serializable {
      * @return the {@code Envelope} of this instance.
      */
     public Envelope<P> getEnvelope() {
+        Envelope<P> result = envelope;
+        if (result == null) {
+            result = computeEnvelope();
+            envelope = result;
+        }
+        return result;
+    }
+
+    private Envelope<P> computeEnvelope() {
         if (isEmpty()) return new Envelope<P>(getCoordinateReferenceSystem());
-        PositionSequence<P> positions = getPositions();
-        EnvelopeVisitor<P> visitor = new EnvelopeVisitor<P>(getCoordinateReferenceSystem());
-        positions.accept(visitor);
-        return visitor.result();
+        Box<P> box = getBoundingBox();
+        return new Envelope<P>(box.lowerLeft(), box.upperRight(), getCoordinateReferenceSystem());
     }
 
     /**
@@ -268,8 +279,17 @@ public abstract class Geometry<P extends Position> implements Serializable {
      * @return Returns a {@code Box} that encloses this geometry
      */
     public Box<P> getBoundingBox(){
+        Box<P> result = boundingBox;
+        if (result == null) {
+            result = computeBoundingBox();
+            boundingBox = result;
+        }
+        return result;
+    }
+
+    private Box<P> computeBoundingBox() {
         if (isEmpty()) return Box.mkEmpty(crs);
-        BoxVisitor bv = new BoxVisitor<P>(crs);
+        BoxVisitor<P> bv = new BoxVisitor<P>(crs);
         getPositions().accept(bv);
         return bv.build();
     }
@@ -368,35 +388,6 @@ public abstract class Geometry<P extends Position> implements Serializable {
         }
     }
 
-    private static class EnvelopeVisitor<P extends Position> implements PositionVisitor<P> {
-
-            double[] coordinates;
-            double xMin = Double.POSITIVE_INFINITY;
-            double yMin = Double.POSITIVE_INFINITY;
-            double xMax = Double.NEGATIVE_INFINITY;
-            double yMax = Double.NEGATIVE_INFINITY;
-            final CoordinateReferenceSystem<P> crs;
-
-            EnvelopeVisitor(CoordinateReferenceSystem<P> crs) {
-                this.crs = crs;
-                coordinates = new double[crs.getCoordinateDimension()];
-            }
-
-
-            @Override
-            public void visit(P position) {
-                position.toArray(coordinates);
-                xMin = Math.min(xMin, coordinates[0]);
-                xMax = Math.max(xMax, coordinates[0]);
-                yMin = Math.min(yMin, coordinates[1]);
-                yMax = Math.max(yMax, coordinates[1]);
-            }
-
-            public Envelope<P> result() {
-                return new Envelope<P>(xMin, yMin, xMax, yMax, crs);
-            }
-        }
-
     private static class BoxVisitor<P extends Position> implements LLAPositionVisitor {
         private double[] lowerLeft;
         private double[] upperRight;
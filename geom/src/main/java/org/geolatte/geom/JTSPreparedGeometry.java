@@ -0,0 +1,77 @@
+/*
+* This file is part of the GeoLatte project.
+*
+*     GeoLatte is free software: you can redistribute it and/or modify
+*     it under the terms of the GNU Lesser General Public License as published by
+*     the Free Software Foundation, either version 3 of the License, or
+*     (at your option) any later version.
+*
+*     GeoLatte is distributed in the hope that it will be useful,
+*     but WITHOUT ANY WARRANTY; without even the implied warranty of
+*     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*     GNU Lesser General Public License for more details.
+*
+*     You should have received a copy of the GNU Lesser General Public License
+*     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package org.geolatte.geom;
+
+import org.geolatte.geom.jts.JTS;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+/**
+ * A {@code PreparedGeometry} that delegates to a JTS {@code PreparedGeometry}.
+ *
+ * <p>The prepared {@code Geometry} is converted to JTS only once, when this instance is created.</p>
+ */
+class JTSPreparedGeometry<P extends C2D> implements PreparedGeometry<P> {
+
+    final private Geometry<P> geometry;
+    final private org.locationtech.jts.geom.prep.PreparedGeometry prepared;
+
+    JTSPreparedGeometry(Geometry<P> geometry) {
+        this.geometry = geometry;
+        this.prepared = PreparedGeometryFactory.prepare(JTS.to(geometry));
+    }
+
+    @Override
+    public Geometry<P> getGeometry() {
+        return geometry;
+    }
+
+    @Override
+    public boolean intersects(final Geometry<P> other) {
+        if (geometry.isEmpty() || other.isEmpty()) return Boolean.FALSE;
+        checkCompatibleCRS(other);
+        return prepared.intersects(JTS.to(other));
+    }
+
+    @Override
+    public boolean contains(final Geometry<P> other) {
+        if (geometry.isEmpty() || other.isEmpty()) return Boolean.FALSE;
+        checkCompatibleCRS(other);
+        return prepared.contains(JTS.to(other));
+    }
+
+    @Override
+    public boolean covers(final Geometry<P> other) {
+        if (geometry.isEmpty() || other.isEmpty()) return Boolean.FALSE;
+        checkCompatibleCRS(other);
+        return prepared.covers(JTS.to(other));
+    }
+
+    @Override
+    public boolean within(final Geometry<P> other) {
+        if (geometry.isEmpty() || other.isEmpty()) return Boolean.FALSE;
+        checkCompatibleCRS(other);
+        return prepared.within(JTS.to(other));
+    }
+
+    private void checkCompatibleCRS(Geometry<?> other) {
+        if (!geometry.getCoordinateReferenceSystem().equals(other.getCoordinateReferenceSystem())) {
+            throw new IllegalArgumentException("Geometries have different CRS's");
+        }
+    }
+
+}
@@ -33,12 +33,15 @@ class NestedPositionSequence<P extends Position> extends AbstractPositionSequenc
 
     protected final PositionSequence<P>[] children;
     private final int size;
+    //offsets[i] is the index of the first position of children[i]; offsets[children.length] equals size
+    private final int[] offsets;
 
 
     NestedPositionSequence(PositionSequence<P>[] children) {
         super(extractFactory(children));
         this.children = children;
-        this.size = calculateSize();
+        this.offsets = calculateOffsets();
+        this.size = offsets[children.length];
     }
 
     private static <C extends Position> PositionFactory<C> extractFactory(PositionSequence<C>[] children) {
@@ -61,13 +64,34 @@ class NestedPositionSequence<P extends Position> extends AbstractPositionSequenc
         }
     }
 
-    private int calculateSize() {
-        int size = 0;
-        for (PositionSequence<P> child : getChildren()) {
-            size += child.size();
+    private int[] calculateOffsets() {
+        int[] result = new int[children.length + 1];
+        for (int i = 0; i < children.length; i++) {
+            result[i + 1] = result[i] + children[i].size();
         }
-        return size;
+        return result;
+    }
 
+    /**
+     * Returns the index of the child that holds the specified position.
+     *
+     * <p>This is the last child that starts at or before the position, so that empty children are skipped.</p>
+     */
+    private int childIndex(int position) {
+        if (position < 0 || position >= size) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Index %d not found in collection of size %d", position, size()));
+        }
+        int low = 0;
+        int high = children.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
     }
 
     public PositionSequence<P>[] getChildren() {
@@ -98,46 +122,44 @@ class NestedPositionSequence<P extends Position> extends AbstractPositionSequenc
 
     @Override
     public void setOrdinate(int position, int ordinateIndex, double value) {
-        int childOffset = position;
-        for (PositionSequence<P> pChild : getChildren()) {
-            CoordinateSequence child = (CoordinateSequence)pChild;
-            if (childOffset < child.size()) {
-                child.setOrdinate(childOffset, ordinateIndex, value);
-                return;
-            } else {
-                childOffset -= child.size();
-            }
-        }
-        throw new ArrayIndexOutOfBoundsException(String.format("Index %d not found in collection of size %d", position, size()));
+        int i = childIndex(position);
+        ((CoordinateSequence) children[i]).setOrdinate(position - offsets[i], ordinateIndex, value);
+        clearCoordinateCache();
     }
 
     @Override
     public void getCoordinates(int position, double[] coordinates) {
-        int childOffset = position;
-        for (PositionSequence<P> child : getChildren()) {
-            if (childOffset < child.size()) {
-                child.getCoordinates(childOffset, coordinates);
-                return;
-            } else {
-                childOffset -= child.size();
-            }
-        }
-        throw new ArrayIndexOutOfBoundsException(String.format("Index %d not found in collection of size %d", position, size()));
-
+        int i = childIndex(position);
+        children[i].getCoordinates(position - offsets[i], coordinates);
     }
 
+    @Override
+    public void copyCoordinates(double[] target, int offset) {
+        int dim = getCoordinateDimension();
+        for (int i = 0; i < children.length; i++) {
+            children[i].copyCoordinates(target, offset + offsets[i] * dim);
+        }
+    }
 
+    @Override
+    public double getOrdinate(int position, int ordinateIndex) {
+        int i = childIndex(position);
+        if (children[i] instanceof CoordinateSequence) {
+            return ((CoordinateSequence) children[i]).getOrdinate(position - offsets[i], ordinateIndex);
+        }
+        return super.getOrdinate(position, ordinateIndex);
+    }
 
     @Override
     public void accept(PositionVisitor<P> visitor) {
-        for (PositionSequence<P> child : getChildren()) {
+        for (PositionSequence<P> child : children) {
             child.accept(visitor);
         }
     }
 
     @Override
     public void accept(LLAPositionVisitor visitor) {
-        for (PositionSequence<P> child : getChildren()) {
+        for (PositionSequence<P> child : children) {
             child.accept(visitor);
         }
     }
@@ -190,7 +212,7 @@ class NestedPositionSequence<P extends Position> extends AbstractPositionSequenc
         builder.append("[");
         for (int i = 0; i < children.length; i++) {
             if (i > 0) builder.append(",");
-            builder.append(getChildren()[i].toString());
+            builder.append(children[i].toString());
         }
         builder.append("]");
         return builder.toString();
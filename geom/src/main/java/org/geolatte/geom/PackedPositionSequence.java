@@ -107,6 +107,23 @@ class PackedPositionSequence<P extends Position> extends AbstractPositionSequenc
     public void setOrdinate(int index, int ordinateIndex, double value) {
         int dim = getCoordinateDimension();
         this.coordinates[index * dim + ordinateIndex] = value;
+        clearCoordinateCache();
+    }
+
+    @Override
+    public double getOrdinate(int index, int ordinateIndex) {
+        checkOrdinateIndex(ordinateIndex);
+        return this.coordinates[index * getCoordinateDimension() + ordinateIndex];
+    }
+
+    @Override
+    public double getX(int index) {
+        return this.coordinates[index * getCoordinateDimension()];
+    }
+
+    @Override
+    public double getY(int index) {
+        return this.coordinates[index * getCoordinateDimension() + 1];
     }
 
     @Override
@@ -115,9 +132,12 @@ class PackedPositionSequence<P extends Position> extends AbstractPositionSequenc
         if(coordinates.length < dim) {
             throw new IllegalArgumentException("Position argument must be an array of size at least " + dim);
         }
-        for(int i = 0; i < dim; i++) {
-            coordinates[i] = this.coordinates[position * dim + i];
-        }
+        System.arraycopy(this.coordinates, position * dim, coordinates, 0, dim);
+    }
+
+    @Override
+    public void copyCoordinates(double[] target, int offset) {
+        System.arraycopy(this.coordinates, 0, target, offset, this.coordinates.length);
     }
 
 
@@ -78,6 +78,25 @@ public interface PositionSequence<P extends Position> extends Iterable<P> {
      */
     void getCoordinates(int position, double[] coordinates);
 
+    /**
+     * Copies the coordinates of all positions into the specified array, position after position.
+     *
+     * <p>The coordinates of position i are copied to the destination array starting at index
+     * <code>offset + i * getCoordinateDimension()</code>.</p>
+     *
+     * @param target the destination array
+     * @param offset the index in the destination array of the first coordinate of the first position
+     * @throws IndexOutOfBoundsException if the destination array is too small.
+     */
+    default void copyCoordinates(double[] target, int offset) {
+        int dim = getCoordinateDimension();
+        double[] coordinates = new double[dim];
+        for (int i = 0; i < size(); i++) {
+            getCoordinates(i, coordinates);
+            System.arraycopy(coordinates, 0, target, offset + i * dim, dim);
+        }
+    }
+
     P getPositionN(int index);
 
     default P first() {
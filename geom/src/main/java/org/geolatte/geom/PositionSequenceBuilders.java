@@ -54,4 +54,19 @@ public class PositionSequenceBuilders {
 
     }
 
+    /**
+     * Creates a <code>PositionSequence</code> backed by the specified array of packed coordinates.
+     *
+     * <p>The array is not copied, so it should not be modified after this call. Its length must be a multiple of
+     * the coordinate dimension of <code>posType</code>.</p>
+     *
+     * @param coordinates the coordinates of all positions, one position after the other
+     * @param posType the class of {@code Position}
+     * @return a <code>PositionSequence</code> that wraps the coordinate array
+     * @throws IllegalArgumentException if the array length is not a multiple of the coordinate dimension
+     */
+    public static <P extends Position> PositionSequence<P> fromPackedArray(double[] coordinates, Class<P> posType) {
+        return new PackedPositionSequence<P>(Positions.getFactoryFor(posType), coordinates);
+    }
+
 }
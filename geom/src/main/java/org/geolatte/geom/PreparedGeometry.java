@@ -0,0 +1,75 @@
+/*
+* This file is part of the GeoLatte project.
+*
+*     GeoLatte is free software: you can redistribute it and/or modify
+*     it under the terms of the GNU Lesser General Public License as published by
+*     the Free Software Foundation, either version 3 of the License, or
+*     (at your option) any later version.
+*
+*     GeoLatte is distributed in the hope that it will be useful,
+*     but WITHOUT ANY WARRANTY; without even the implied warranty of
+*     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*     GNU Lesser General Public License for more details.
+*
+*     You should have received a copy of the GNU Lesser General Public License
+*     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package org.geolatte.geom;
+
+/**
+ * A {@code Geometry} that has been prepared for the repeated evaluation of spatial predicates against other
+ * {@code Geometry}s.
+ *
+ * <p>Preparing a {@code Geometry} builds the data structures (e.g. spatial indexes on its segments) that are needed
+ * for the evaluation of the predicates once, so that testing many {@code Geometry}s against the same prepared
+ * {@code Geometry} is significantly faster than using the corresponding methods of
+ * {@link ProjectedGeometryOperations}.</p>
+ *
+ * <p>Instances are created by {@link ProjectedGeometryOperations#prepare(Geometry)}.</p>
+ *
+ * @param <P> the type of {@code Position} of the prepared {@code Geometry}
+ */
+public interface PreparedGeometry<P extends C2D> {
+
+    /**
+     * Returns the {@code Geometry} that has been prepared.
+     *
+     * @return the {@code Geometry} that has been prepared
+     */
+    Geometry<P> getGeometry();
+
+    /**
+     * Checks if the prepared {@code Geometry} intersects the specified {@code Geometry}.
+     *
+     * @param other the <code>Geometry</code> to test
+     * @return true iff the prepared <code>Geometry</code> and the specified <code>Geometry</code> spatially intersect
+     */
+    boolean intersects(final Geometry<P> other);
+
+    /**
+     * Checks if the prepared {@code Geometry} spatially contains the specified {@code Geometry}.
+     *
+     * @param other the <code>Geometry</code> to test
+     * @return true iff the prepared <code>Geometry</code> spatially contains the specified <code>Geometry</code>
+     */
+    boolean contains(final Geometry<P> other);
+
+    /**
+     * Checks if the prepared {@code Geometry} covers the specified {@code Geometry}, i.e. whether no point of the
+     * specified {@code Geometry} lies in the exterior of the prepared {@code Geometry}.
+     *
+     * @param other the <code>Geometry</code> to test
+     * @return true iff the prepared <code>Geometry</code> covers the specified <code>Geometry</code>
+     */
+    boolean covers(final Geometry<P> other);
+
+    /**
+     * Checks if the prepared {@code Geometry} is spatially within the specified {@code Geometry}.
+     *
+     * @param other the <code>Geometry</code> to test
+     * @return true iff the prepared <code>Geometry</code> lies spatially within the specified <code>Geometry</code>
+     */
+    boolean within(final Geometry<P> other);
+
+}
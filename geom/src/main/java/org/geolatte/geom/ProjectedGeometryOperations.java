@@ -63,6 +63,21 @@ public interface ProjectedGeometryOperations {
     <P extends C2D, G extends Geometry<P>> G reverse (final G geometry);
 
 
+    /**
+     * Prepares the specified <code>Geometry</code> for the repeated evaluation of spatial predicates.
+     *
+     * <p>Use this when the same <code>Geometry</code> is tested against many other <code>Geometry</code>s,
+     * e.g. when filtering candidates by a fixed polygon.</p>
+     *
+     * <p>The default implementation prepares the <code>Geometry</code> with JTS.</p>
+     *
+     * @param geometry the <code>Geometry</code> to prepare
+     * @return a <code>PreparedGeometry</code> for the specified <code>Geometry</code>
+     */
+    default <P extends C2D> PreparedGeometry<P> prepare(final Geometry<P> geometry) {
+        return new JTSPreparedGeometry<>(geometry);
+    }
+
     /**
      * Checks if the specified <code>Geometry</code>s intersect.
      *
@@ -165,6 +180,27 @@ public interface ProjectedGeometryOperations {
      */
     <P extends C2D> Geometry<P> intersection(final Geometry<P> geometry, final Geometry<P> other);
 
+    /**
+     * Clips the specified <code>Geometry</code> to the specified <code>Envelope</code>.
+     *
+     * <p>This is a fast alternative to the intersection with the polygon of the <code>Envelope</code>. A
+     * <code>Geometry</code> that lies within the <code>Envelope</code> is returned unchanged. Clipped polygons may have
+     * degenerate edges along the border of the <code>Envelope</code> where an intersection would have split them in
+     * several polygons.</p>
+     *
+     * @param geometry the <code>Geometry</code> to clip
+     * @param envelope the clipping <code>Envelope</code>
+     * @return the parts of the <code>Geometry</code> within the <code>Envelope</code>
+     * @throws IllegalArgumentException when the <code>Geometry</code> and the <code>Envelope</code> have different
+     * coordinate reference systems
+     */
+    default <P extends C2D> Geometry<P> clip(final Geometry<P> geometry, final Envelope<P> envelope) {
+        if (!geometry.getCoordinateReferenceSystem().equals(envelope.getCoordinateReferenceSystem())) {
+            throw new IllegalArgumentException("Geometry and envelope have different CRS's");
+        }
+        return new EnvelopeClipper<>(envelope).clip(geometry);
+    }
+
     /**
      * Calculates the point set union of the specified <code>Geometry</code>s.
      *
@@ -4,6 +4,8 @@ import org.geolatte.geom.LinearRing;
 import org.geolatte.geom.Position;
 import org.geolatte.geom.PositionSequence;
 
+import java.util.List;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
@@ -18,6 +20,11 @@ public class NumericalMethods {
     public final static int ClockWise = 1;
     public final static int CounterClockWise = 2;
 
+    /**
+     * The total number of positions above which the batch methods process the rings in parallel.
+     */
+    public final static int PARALLEL_THRESHOLD = 1 << 16;
+
 
     /**
      * Calculates the determinant of a 2x2 matrix
@@ -29,8 +36,13 @@ public class NumericalMethods {
      * @return the determinant
      */
     public static double determinant(double a11, double a12, double a21, double a22) {
-        TwoSum ts = new TwoSum(a11 * a22, -a12 * a21);
-        return ts.estimate + ts.error; // this is different from just the estimate, if the estimate is zero
+        // inlined TwoSum, so that no object is allocated in tight loops
+        double a = a11 * a22;
+        double b = -a12 * a21;
+        double s = a + b;
+        double a1 = s - b;
+        double b1 = s - a1;
+        return s + ((a - a1) + (b - b1)); // this is different from just the estimate, if the estimate is zero
     }
 
 
@@ -91,17 +103,47 @@ public class NumericalMethods {
      *
      * @param ring
      * @return
+     * @throws IllegalArgumentException if the ring is collinear in 2D
      */
     public static double area(LinearRing<?> ring) {
-        return IntStream.range(1, ring.getPositions().size()).parallel().boxed().
-                map(idx -> shoelaceStep(idx, ring.getPositions())).
-                reduce((a, b) -> a + b).
-                filter(orientation -> orientation != 0).
-                orElseThrow(() -> new IllegalArgumentException("Ring is collinear in 2D")) ;
+        double area = shoelace(ring.getPositions());
+        if (area == 0) {
+            throw new IllegalArgumentException("Ring is collinear in 2D");
+        }
+        return area;
     }
 
-    private static double shoelaceStep(Integer idx, PositionSequence<?> positions) {
-        return  determinant(positions.getPositionN(idx - 1), positions.getPositionN(idx));
+    /**
+     * Determine the (signed) areas of the specified linearrings, as in {@link #area(LinearRing)}.
+     *
+     * <p>Rings that are collinear in 2D have area 0. The rings are processed in parallel if their total number of
+     * positions exceeds {@link #PARALLEL_THRESHOLD}.</p>
+     *
+     * @param rings the linearrings
+     * @return the signed areas, in the order of the specified rings
+     */
+    public static double[] areas(List<? extends LinearRing<?>> rings) {
+        double[] result = new double[rings.size()];
+        forEachRing(rings, i -> result[i] = shoelace(rings.get(i).getPositions()));
+        return result;
+    }
+
+    private static double shoelace(PositionSequence<?> positions) {
+        int size = positions.size();
+        if (size < 2) return 0;
+        int dim = positions.getCoordinateDimension();
+        double[] prev = new double[dim];
+        double[] cur = new double[dim];
+        positions.getCoordinates(0, prev);
+        double sum = 0;
+        for (int i = 1; i < size; i++) {
+            positions.getCoordinates(i, cur);
+            sum += determinant(prev[0], prev[1], cur[0], cur[1]);
+            double[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return sum;
     }
 
     /**
@@ -134,16 +176,51 @@ public class NumericalMethods {
         return orient2d(ring.getPositions());
     }
 
+    /**
+     * Determine the orientations of the specified linearrings, as in {@link #orient2d(LinearRing)}.
+     *
+     * <p>The rings are processed in parallel if their total number of positions exceeds
+     * {@link #PARALLEL_THRESHOLD}.</p>
+     *
+     * @param rings the linearrings
+     * @return the orientations, in the order of the specified rings
+     */
+    public static double[] orient2d(List<? extends LinearRing<?>> rings) {
+        double[] result = new double[rings.size()];
+        forEachRing(rings, i -> result[i] = orient2d(rings.get(i).getPositions()));
+        return result;
+    }
+
     private static double orient2d(PositionSequence<?> positions) {
+        int size = positions.size();
+        if (size < 2) return 0;
+        int dim = positions.getCoordinateDimension();
+        double[] p1 = new double[dim];
+        double[] p2 = new double[dim];
+        positions.getCoordinates(0, p1);
         double d = 0;
-        for (int i = 0; i < positions.size() - 1; i++) {
-            double[] p1 = positions.getPositionN(i).toArray(null);
-            double[] p2 = positions.getPositionN(i+1).toArray(null);
+        for (int i = 1; i < size; i++) {
+            positions.getCoordinates(i, p2);
             d += (p1[0] - p2[0]) * (p1[1] + p2[1]);
+            double[] tmp = p1;
+            p1 = p2;
+            p2 = tmp;
         }
         return Math.signum(d);
     }
 
+    private static void forEachRing(List<? extends LinearRing<?>> rings, IntConsumer action) {
+        long totalSize = 0;
+        for (LinearRing<?> ring : rings) {
+            totalSize += ring.getNumPositions();
+        }
+        IntStream indices = IntStream.range(0, rings.size());
+        if (totalSize > PARALLEL_THRESHOLD && rings.size() > 1) {
+            indices = indices.parallel();
+        }
+        indices.forEach(action);
+    }
+
     public static boolean collinear(Position p0, Position p1, Position p2) {
         double det = deltaDeterminant(p0, p1, p2);
         return det == 0;
@@ -0,0 +1,24 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.Position;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+
+/**
+ * Base class for the <code>WkbDecoder</code>s that decode with a {@link BaseWkbParser}.
+ *
+ * <p>Each decoder knows which parser handles its dialect, so that {@link Wkb#newParser(Wkb.Dialect, ByteBuffer,
+ * CoordinateReferenceSystem)} can obtain the parser through the registered decoder.</p>
+ */
+abstract class AbstractWkbDecoder implements WkbDecoder {
+
+    /**
+     * Creates the parser for the WKB dialect of this decoder.
+     *
+     * @param byteBuffer the WKB to parse
+     * @param crs        the base coordinate reference system assumed for the WKB
+     * @return a parser positioned at the start of the WKB
+     */
+    abstract <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs);
+
+}
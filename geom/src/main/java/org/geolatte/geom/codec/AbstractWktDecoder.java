@@ -0,0 +1,23 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.Position;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+
+/**
+ * Base class for the <code>WktDecoder</code>s that decode with a {@link BaseWktParser}.
+ *
+ * <p>Each decoder knows which parser handles its dialect, so that {@link Wkt#newParser(Wkt.Dialect, CharSequence,
+ * CoordinateReferenceSystem)} can obtain the parser through the registered decoder.</p>
+ */
+abstract class AbstractWktDecoder implements WktDecoder {
+
+    /**
+     * Creates the parser for the WKT dialect of this decoder.
+     *
+     * @param wkt the WKT to parse
+     * @param crs the base coordinate reference system assumed for the WKT
+     * @return a parser positioned at the start of the WKT
+     */
+    abstract <P extends Position> BaseWktParser<P> newParser(CharSequence wkt, CoordinateReferenceSystem<P> crs);
+
+}
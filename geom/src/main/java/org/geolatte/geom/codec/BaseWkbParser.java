@@ -17,6 +17,8 @@ class BaseWkbParser<P extends Position> {
     protected GeometryType gtype;
     protected CoordinateReferenceSystem<P> outputCRS;
     protected CoordinateReferenceSystem<?> embeddedCRS;
+    private GeometryType scannedType;
+    private ByteOrder scannedByteOrder;
 
     @SuppressWarnings("unchecked")
     BaseWkbParser(WkbDialect dialect, ByteBuffer buffer, CoordinateReferenceSystem<P> crs) {
@@ -47,6 +49,85 @@ class BaseWkbParser<P extends Position> {
         }
     }
 
+    /**
+     * Reads the type and structure of the WKB without decoding the coordinates.
+     *
+     * @return the number of positions in the WKB
+     */
+    int scan() throws WkbDecodeException {
+        parseByteOrder();
+        scannedByteOrder = buffer.getByteOrder();
+        parseWkbType();
+        scannedType = gtype;
+        return countPositions(gtype);
+    }
+
+    GeometryType getScannedType() {
+        return scannedType;
+    }
+
+    ByteOrder getScannedByteOrder() {
+        return scannedByteOrder;
+    }
+
+    private int countPositions(GeometryType type) {
+        int dim = coordinateDimension();
+        int count = 0;
+        switch (type) {
+            case POINT:
+                double x = buffer.getDouble();
+                double y = buffer.getDouble();
+                buffer.skip((dim - 2) * ByteBuffer.DOUBLE_SIZE);
+                return Double.isNaN(x) && Double.isNaN(y) ? 0 : 1;
+            case LINESTRING:
+                return skipLinestring();
+            case POLYGON:
+                return skipPolygon();
+            case MULTIPOINT:
+                long numPoints = buffer.getUInt();
+                for (long i = 0; i < numPoints; i++) {
+                    parseByteOrder();
+                    buffer.getUInt();
+                    buffer.skip(dim * ByteBuffer.DOUBLE_SIZE);
+                }
+                return (int) numPoints;
+            case MULTILINESTRING:
+            case MULTIPOLYGON:
+                long numGeoms = buffer.getUInt();
+                for (long i = 0; i < numGeoms; i++) {
+                    parseByteOrder();
+                    buffer.getUInt();
+                    count += type == GeometryType.MULTIPOLYGON ? skipPolygon() : skipLinestring();
+                }
+                return count;
+            case GEOMETRYCOLLECTION:
+                long numg = buffer.getUInt();
+                for (long i = 0; i < numg; i++) {
+                    parseByteOrder();
+                    parseWkbType();
+                    count += countPositions(gtype);
+                }
+                return count;
+            default:
+                throw new WkbDecodeException("Can't decode a WKB of type " + type);
+        }
+    }
+
+    private int skipLinestring() {
+        long numPositions = buffer.getUInt();
+        buffer.skip(checkedArraySize(numPositions, coordinateDimension()) * ByteBuffer.DOUBLE_SIZE);
+        return (int) numPositions;
+    }
+
+    private int skipPolygon() {
+        int count = 0;
+        long numRings = buffer.getUInt();
+        for (long i = 0; i < numRings; i++) {
+            count += skipLinestring();
+        }
+        return count;
+    }
+
     protected GeometryBuilder parseGeometry() {
         parseByteOrder();
         GeometryBuilder builder = parseWkbType();
@@ -113,12 +194,23 @@ class BaseWkbParser<P extends Position> {
     }
 
     protected LinearPositionsHolder readLinestring() {
-        LinearPositionsHolder lh = new LinearPositionsHolder();
-        long numPositions = buffer.getUInt();
-        for (long i = 0; i < numPositions; i++) {
-            lh.push(readPosition());
+        int dim = coordinateDimension();
+        double[] coordinates = new double[checkedArraySize(buffer.getUInt(), dim)];
+        buffer.getDoubles(coordinates, 0, coordinates.length);
+        return new PackedPositionsHolder(coordinates, dim);
+    }
+
+    protected int coordinateDimension() {
+        return 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+    }
+
+    // guards against allocating huge arrays for corrupt or truncated input
+    protected int checkedArraySize(long numPositions, int dim) {
+        long size = numPositions * dim;
+        if (size * ByteBuffer.DOUBLE_SIZE > buffer.limit()) {
+            throw new WkbDecodeException(String.format("WKB declares %d positions, but buffer is too small", numPositions));
         }
-        return lh;
+        return (int) size;
     }
 
     protected void matchPolygon(GeometryBuilder builder) {
@@ -136,14 +228,14 @@ class BaseWkbParser<P extends Position> {
     }
 
     protected void matchMultiPoint(GeometryBuilder builder) {
-        LinearPositionsHolder lh = new LinearPositionsHolder();
-        long numPnts = buffer.getUInt();
-        for (long i = 0; i < numPnts; i++) {
+        int dim = coordinateDimension();
+        double[] coordinates = new double[checkedArraySize(buffer.getUInt(), dim)];
+        for (int i = 0; i < coordinates.length; i += dim) {
             parseByteOrder();
             buffer.getUInt(); //not necessary
-            lh.push(readPosition());
+            buffer.getDoubles(coordinates, i, dim);
         }
-        builder.setPositions(lh);
+        builder.setPositions(new PackedPositionsHolder(coordinates, dim));
     }
 
     protected void matchMultiLineString(GeometryBuilder builder) {
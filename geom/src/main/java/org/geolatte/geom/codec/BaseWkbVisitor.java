@@ -23,6 +23,9 @@ package org.geolatte.geom.codec;
 
 import org.geolatte.geom.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 
 /**
@@ -32,8 +35,16 @@ import java.util.Arrays;
 class BaseWkbVisitor<P extends Position> implements GeometryVisitor<P> {
 
 
+    /**
+     * Minimum capacity of a chunk buffer. This must exceed the largest block of bytes that is written in one go: either
+     * the header of a geometry (byte-order, type code, SRID and number of elements), or the coordinates of a 4D position.
+     */
+    static final int MIN_CHUNK_SIZE = 64;
+
     private final ByteBuffer output;
     private final WkbDialect dialect;
+    //when set, output is used as a fixed-size chunk that is written to the sink when full
+    private OutputStream sink;
 
 
     BaseWkbVisitor(ByteBuffer byteBuffer, WkbDialect dialect) {
@@ -54,6 +65,37 @@ class BaseWkbVisitor<P extends Position> implements GeometryVisitor<P> {
         return this.dialect;
     }
 
+    void streamTo(OutputStream sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Writes the specified geometry to the sink, and flushes the remaining bytes in the output chunk.
+     */
+    void stream(Geometry<P> geometry) throws IOException {
+        try {
+            geometry.accept(this);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        flush();
+    }
+
+    void flush() throws IOException {
+        if (sink == null || output.position() == 0) return;
+        sink.write(output.toByteArray(), 0, output.position());
+        output.clear();
+    }
+
+    protected void ensureCapacity(int numBytes) {
+        if (sink == null || output.limit() - output.position() >= numBytes) return;
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void visit(Point<P> geom) {
         writeByteOrder(geom, output);
@@ -62,6 +104,7 @@ class BaseWkbVisitor<P extends Position> implements GeometryVisitor<P> {
             if (dialect.emptyPointAsNaN()) {
                 double[] co = new double[geom.getCoordinateDimension()];
                 Arrays.fill(co, Double.NaN);
+                ensureCapacity(co.length * ByteBuffer.DOUBLE_SIZE);
                 writePoint(co, output);
             } else {
                 //empty point encoded as something that can have 0 subsequent elements (positions or rings or geometries)
@@ -106,6 +149,7 @@ class BaseWkbVisitor<P extends Position> implements GeometryVisitor<P> {
     }
 
     protected void writeRing(LinearRing<P> geom) {
+        ensureCapacity(ByteBuffer.UINT_SIZE);
         output.putUInt(geom.getNumPositions());
         writePoints(geom.getPositions(), geom.getCoordinateDimension(), output);
     }
@@ -124,11 +168,14 @@ class BaseWkbVisitor<P extends Position> implements GeometryVisitor<P> {
         double[] coordinates = new double[coordinateDimension];
         for (int i = 0; i < points.size(); i++) {
             points.getCoordinates(i, coordinates);
+            ensureCapacity(coordinateDimension * ByteBuffer.DOUBLE_SIZE);
             writePoint(coordinates, output);
         }
     }
 
     protected void writeByteOrder(Geometry<P> geom, ByteBuffer output) {
+        //reserves room for the complete header of the geometry
+        ensureCapacity(1 + 3 * ByteBuffer.UINT_SIZE);
         output.put(output.getByteOrder().byteValue());
     }
 
@@ -8,16 +8,13 @@ import org.geolatte.geom.codec.support.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.crs.CoordinateReferenceSystems;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 import static org.geolatte.geom.codec.SimpleTokenizer.*;
 
 class BaseWktParser<P extends Position> {
 
     private final static CoordinateReferenceSystem<C2D> DEFAULT_CRS = CoordinateReferenceSystems.PROJECTED_2D_METER;
-    private final static Pattern EMPTY_PATTERN = Pattern.compile("empty", Pattern.CASE_INSENSITIVE);
 
     private final WktDialect dialect;
     private final CoordinateReferenceSystem<P> overrideCrs;
@@ -43,7 +40,7 @@ class BaseWktParser<P extends Position> {
      * @param wkt        The WKT string to parser
      * @param crs        the CoordinateReferenceSystem for the parse result
      */
-    BaseWktParser(WktDialect wktDialect, String wkt, CoordinateReferenceSystem<P> crs) {
+    BaseWktParser(WktDialect wktDialect, CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         dialect = wktDialect;
         tokenizer = new SimpleTokenizer(wkt);
         this.overrideCrs = crs;
@@ -94,11 +91,9 @@ class BaseWktParser<P extends Position> {
     }
 
     protected void matchesGeometryKeyword() {
-        for (Map.Entry<GeometryType, Pattern> entry : dialect.geometryTypePatternMap().entrySet()) {
-            if (tokenizer.matchPattern(entry.getValue())) {
-                type = entry.getKey();
-                return;
-            }
+        type = dialect.matchGeometryKeyword(tokenizer);
+        if (type != null) {
+            return;
         }
         throw new WktDecodeException("Expected geometryKeyword starting at position: " + tokenizer.currentPos());
     }
@@ -108,7 +103,7 @@ class BaseWktParser<P extends Position> {
     }
 
     protected void matchesTaggedText(GeometryBuilder builder) {
-        if (tokenizer.matchPattern(EMPTY_PATTERN)) {
+        if (tokenizer.matchesKeyword("empty")) {
             return;
         }
         matchesPositionText(builder);
@@ -207,19 +202,52 @@ class BaseWktParser<P extends Position> {
         return pnt;
     }
 
+    /**
+     * Reads a list of positions directly into a packed coordinate array.
+     *
+     * <p>If the positions don't all have the same number of coordinates, this falls back to a holder per position.</p>
+     */
     protected LinearPositionsHolder matchesPositionList() {
         if (!tokenizer.matchesOpenList()) {
             throw new WktDecodeException("Expected '(' near position " + tokenizer.currentPos());
         }
-        LinearPositionsHolder lph = new LinearPositionsHolder();
+        double[] coordinates = new double[32];
+        int size = 0;
+        int dim = 0;
         Delimiter d;
         do {
+            int start = size;
+            do {
+                if (size == coordinates.length) {
+                    coordinates = Arrays.copyOf(coordinates, 2 * size);
+                }
+                coordinates[size++] = tokenizer.fastReadNumber();
+                d = matchesDelimiter();
+            } while (!(d == Delimiter.CLOSE || d == Delimiter.SEP));
+            if (dim == 0) {
+                dim = size - start;
+            } else if (size - start != dim) {
+                return matchesRemainingPositions(coordinates, start, size, dim, d);
+            }
+        } while (d != Delimiter.CLOSE);
+        return new PackedPositionsHolder(Arrays.copyOf(coordinates, size), dim);
+    }
+
+    //continues reading a list of positions with varying number of coordinates, one holder per position
+    private LinearPositionsHolder matchesRemainingPositions(double[] coordinates, int start, int size, int dim,
+                                                           Delimiter d) {
+        LinearPositionsHolder lph = new LinearPositionsHolder();
+        for (int i = 0; i < start; i += dim) {
+            lph.push(new PointHolder(Arrays.copyOfRange(coordinates, i, i + dim)));
+        }
+        lph.push(new PointHolder(Arrays.copyOfRange(coordinates, start, size)));
+        while (d != Delimiter.CLOSE) {
             lph.push(matchesPosition());
             d = matchesDelimiter();
             if (d == Delimiter.NO_DELIM) {
                 throw new WktDecodeException(String.format("Expected ')' or ',' near %d", tokenizer.currentPos()));
             }
-        } while (d != Delimiter.CLOSE);
+        }
         return lph;
     }
 
@@ -256,21 +284,24 @@ class BaseWktParser<P extends Position> {
     }
 
     protected Delimiter matchesDelimiter() {
-        Optional<Character> match = tokenizer.matchesOneOf(openListChar, closeListChar, elementSeparator);
-        if (match.isPresent()) {
-            switch (match.get()) {
-                case ',':
-                    return Delimiter.SEP;
-                case '(':
-                    return Delimiter.OPEN;
-                case ')':
-                    return Delimiter.CLOSE;
-                default:
-                    return Delimiter.NO_DELIM;
-            }
-        } else {
-            return Delimiter.NO_DELIM;
+        tokenizer.skipWhitespace();
+        char c = tokenizer.currentChar();
+        Delimiter d;
+        switch (c) {
+            case elementSeparator:
+                d = Delimiter.SEP;
+                break;
+            case openListChar:
+                d = Delimiter.OPEN;
+                break;
+            case closeListChar:
+                d = Delimiter.CLOSE;
+                break;
+            default:
+                return Delimiter.NO_DELIM;
         }
+        tokenizer.matchesChar(c, false);
+        return d;
     }
 
 }
@@ -1,18 +1,57 @@
 package org.geolatte.geom.codec;
 
 import org.geolatte.geom.*;
+import org.geolatte.geom.codec.support.DecimalFormatter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 class BaseWktWriter {
 
+    /**
+     * The value for <code>maxFractionDigits</code> that selects the shortest representation that reads back as the
+     * same double.
+     */
+    final static int SHORTEST = -1;
+
+    /**
+     * The maximum value for <code>maxFractionDigits</code>.
+     */
+    final static int MAX_FRACTION_DIGITS = DecimalFormatter.MAX_FRACTION_DIGITS;
+
+    //when writing to an Appendable, the builder is flushed once it holds this many characters
+    private final static int FLUSH_THRESHOLD = 8192;
+
     private final StringBuilder builder;
     private final WktDialect dialect;
+    private final int maxFractionDigits;
+    private final char[] digits = new char[DecimalFormatter.BUFFER_SIZE];
+    private Appendable out;
 
     /**
      * Constructs an instance.
      */
     public BaseWktWriter(WktDialect variant, StringBuilder builder) {
+        this(variant, builder, SHORTEST);
+    }
+
+    /**
+     * Constructs an instance that writes coordinates with at most the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits, or {@link #SHORTEST}
+     */
+    public BaseWktWriter(WktDialect variant, StringBuilder builder, int maxFractionDigits) {
         this.dialect = variant;
         this.builder = builder;
+        this.maxFractionDigits = checkFractionDigits(maxFractionDigits);
+    }
+
+    static int checkFractionDigits(int maxFractionDigits) {
+        if (maxFractionDigits != SHORTEST && (maxFractionDigits < 0 || maxFractionDigits > MAX_FRACTION_DIGITS)) {
+            throw new IllegalArgumentException(String.format("Number of fraction digits must be between 0 and %d",
+                    MAX_FRACTION_DIGITS));
+        }
+        return maxFractionDigits;
     }
 
     public <P extends Position> String writeGeometry(Geometry<P> geometry) {
@@ -21,6 +60,33 @@ class BaseWktWriter {
         return result();
     }
 
+    /**
+     * Writes the WKT to the specified <code>Appendable</code>.
+     *
+     * <p>The WKT is written in chunks, so that the complete WKT string is never built.</p>
+     */
+    public <P extends Position> void writeGeometry(Geometry<P> geometry, Appendable out) throws IOException {
+        this.out = out;
+        try {
+            addSrid(geometry.getSRID());
+            addGeometry(geometry, true);
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.out = null;
+        }
+    }
+
+    private void flush() {
+        try {
+            out.append(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        builder.setLength(0);
+    }
+
     protected void addSrid(int srid) {
         dialect.addSrid(builder, srid);
     }
@@ -146,16 +212,36 @@ class BaseWktWriter {
             for (int k = 0; k < coords.length; k++) {
                 //this is locale independent as it should be
                 if (k > 0) builder.append(' ');
-                builder.append(formatCoordinate(coords[k]));
+                appendCoordinate(coords[k]);
+            }
+            if (out != null && builder.length() >= FLUSH_THRESHOLD) {
+                flush();
             }
         }
     }
 
-    private String formatCoordinate(double coord) {
+    /**
+     * Appends the coordinate to the builder, without creating intermediate Strings.
+     *
+     * <p>In the default mode, the coordinate is written as the decimal with the fewest fraction digits that reads back
+     * as the same double. When a maximum number of fraction digits is set, the coordinate is rounded to that number
+     * of digits, and trailing zeros are dropped. See {@link DecimalFormatter}.</p>
+     *
+     * <p>Very small or large values, and values that need more than 17 fraction digits, are formatted as before by
+     * {@link String#valueOf(double)}.</p>
+     */
+    private void appendCoordinate(double coord) {
         if (coord == (long) coord) {
-            return String.valueOf((long) coord);
+            builder.append((long) coord);
+            return;
+        }
+        int length = maxFractionDigits == SHORTEST ?
+                DecimalFormatter.formatShortest(coord, digits) :
+                DecimalFormatter.formatFixed(coord, maxFractionDigits, digits);
+        if (length < 0) {
+            builder.append(coord);
         } else {
-            return String.valueOf(coord);
+            builder.append(digits, 0, length);
         }
     }
 
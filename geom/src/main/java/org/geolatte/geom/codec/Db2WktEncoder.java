@@ -14,5 +14,18 @@ public class Db2WktEncoder extends HANAWktEncoder {
     //DB2 and HANA use the same (E)WKT format, so we just inherit.
     //Later we can substitute a different implementation should the need arise.
 
+    public Db2WktEncoder() {
+        super();
+    }
+
+    /**
+     * Creates an instance that rounds coordinates to the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     */
+    public Db2WktEncoder(int maxFractionDigits) {
+        super(maxFractionDigits);
+    }
+
 
 }
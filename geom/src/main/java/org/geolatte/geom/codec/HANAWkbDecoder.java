@@ -33,12 +33,12 @@ import org.geolatte.geom.crs.CrsRegistry;
  *
  * @author Jonathan Bregler, SAP
  */
-public class HANAWkbDecoder implements WkbDecoder {
+public class HANAWkbDecoder extends AbstractWkbDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
         byteBuffer.rewind();
-        BaseWkbParser<P> parser = new HANAWkbParser<>(byteBuffer, crs);
+        BaseWkbParser<P> parser = newParser(byteBuffer, crs);
         try {
             return parser.parse();
         } catch (WkbDecodeException e) {
@@ -48,6 +48,11 @@ public class HANAWkbDecoder implements WkbDecoder {
         }
     }
 
+    @Override
+    <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
+        return new HANAWkbParser<>(byteBuffer, crs);
+    }
+
 }
 
 class HANAWkbParser<P extends Position> extends BaseWkbParser<P> {
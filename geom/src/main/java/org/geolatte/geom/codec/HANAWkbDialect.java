@@ -29,7 +29,7 @@ class HANAWkbDialect extends WkbDialect {
     }
 
     @Override
-    <P extends Position> BaseWkbVisitor<P> mkVisitor(Geometry<P> geom, ByteOrder bo) {
-        return new HANAWkbVisitor<>(mkByteBuffer(geom, bo), this);
+    <P extends Position> BaseWkbVisitor<P> mkVisitor(ByteBuffer buffer) {
+        return new HANAWkbVisitor<>(buffer, this);
     }
 }
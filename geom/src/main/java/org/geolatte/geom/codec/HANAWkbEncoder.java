@@ -23,6 +23,9 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * The HANA EWKB representation differs from the Postgis EWKB representation in
  * that HANA always requires an SRID to be written, even if its not specified or 0.
@@ -36,6 +39,12 @@ public class HANAWkbEncoder implements WkbEncoder {
         geometry.accept(visitor);
         return visitor.result();
     }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out, ByteBuffer chunkBuffer) throws IOException {
+        BaseWkbVisitor<P> visitor = HANAWkbDialect.INSTANCE.mkStreamingVisitor(out, chunkBuffer, byteOrder);
+        visitor.stream(geometry);
+    }
 }
 
 class HANAWkbVisitor<P extends Position> extends BaseWkbVisitor<P> {
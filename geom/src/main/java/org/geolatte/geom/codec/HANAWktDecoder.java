@@ -30,18 +30,23 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
  *
  * @author Jonathan Bregler, SAP
  */
-public class HANAWktDecoder implements WktDecoder {
+public class HANAWktDecoder extends AbstractWktDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(String wkt, CoordinateReferenceSystem<P> crs) {
-        return new HANAWktParser<>(wkt, crs).parse();
+        return newParser(wkt, crs).parse();
+    }
+
+    @Override
+    <P extends Position> BaseWktParser<P> newParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
+        return new HANAWktParser<>(wkt, crs);
     }
 }
 
 class HANAWktParser<P extends Position> extends PostgisWktParser<P> {
     private final static HANAWktDialect dialect = new HANAWktDialect();
 
-    public HANAWktParser(String wkt, CoordinateReferenceSystem<P> crs) {
+    public HANAWktParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         super(dialect, wkt, crs);
     }
 
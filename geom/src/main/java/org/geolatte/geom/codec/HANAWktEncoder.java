@@ -23,6 +23,8 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+
 /**
  * The HANA EWKT representation differs from the Postgis EWKT representation in that HANA always requires an SRID to be
  * written, even if its not specified or 0. Also, HANA uses a slightly different set of keywords.
@@ -31,17 +33,39 @@ import org.geolatte.geom.Position;
  */
 public class HANAWktEncoder implements WktEncoder {
 
+    private final int maxFractionDigits;
+
+    /**
+     * Creates an instance that writes coordinates in the shortest form that reads back as the same value.
+     */
+    public HANAWktEncoder() {
+        this.maxFractionDigits = BaseWktWriter.SHORTEST;
+    }
+
+    /**
+     * Creates an instance that rounds coordinates to the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     */
+    public HANAWktEncoder(int maxFractionDigits) {
+        this.maxFractionDigits = BaseWktWriter.checkFractionDigits(maxFractionDigits);
+    }
 
     @Override
     public <P extends Position> String encode(Geometry<P> geometry) {
-        return new HANAWktWriter(new StringBuilder()).writeGeometry(geometry);
+        return new HANAWktWriter(new StringBuilder(), maxFractionDigits).writeGeometry(geometry);
+    }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, Appendable out) throws IOException {
+        new HANAWktWriter(new StringBuilder(), maxFractionDigits).writeGeometry(geometry, out);
     }
 }
 
 class HANAWktWriter extends BaseWktWriter {
 
-    public HANAWktWriter(StringBuilder builder) {
-        super(HANAWktDialect.INSTANCE, builder);
+    public HANAWktWriter(StringBuilder builder, int maxFractionDigits) {
+        super(HANAWktDialect.INSTANCE, builder, maxFractionDigits);
     }
 
     protected <P extends Position> void addGeometry(Geometry<P> geometry, boolean topLevel) {
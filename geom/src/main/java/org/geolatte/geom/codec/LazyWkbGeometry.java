@@ -0,0 +1,193 @@
+/*
+ * This file is part of the GeoLatte project.
+ *
+ *     GeoLatte is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU Lesser General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     GeoLatte is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU Lesser General Public License for more details.
+ *
+ *     You should have received a copy of the GNU Lesser General Public License
+ *     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.GeometryType;
+import org.geolatte.geom.Position;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+
+/**
+ * A WKB encoded <code>Geometry</code> that is only decoded when its positions are needed.
+ *
+ * <p>On creation only the type and structure of the WKB are read, so that the geometry type, SRID, number of
+ * positions and emptiness are known without decoding the coordinates. The <code>Geometry</code> is decoded on the
+ * first call to {@link #getGeometry()}. Encoding to the WKB dialect and byte order of the original returns a copy
+ * of the original bytes.</p>
+ *
+ * <p>This instance retains the specified <code>ByteBuffer</code>, so the buffer should not be modified afterwards.</p>
+ *
+ * @param <P> the Position type
+ */
+public class LazyWkbGeometry<P extends Position> {
+
+    final private ByteBuffer bytes;
+    final private Wkb.Dialect dialect;
+    final private CoordinateReferenceSystem<P> requestedCrs;
+    final private CoordinateReferenceSystem<P> crs;
+    final private GeometryType geometryType;
+    final private ByteOrder byteOrder;
+    final private int numPositions;
+
+    private Geometry<P> geometry;
+
+    /**
+     * Reads the type and structure of a WKB encoded <code>Geometry</code>.
+     *
+     * @param bytes   the WKB encoded binary representation
+     * @param dialect the WKB dialect
+     * @param crs     the base coordinate reference system assumed for the WKB, or null to use the embedded one
+     * @throws WkbDecodeException if the specified ByteBuffer is an illegal or unsupported WKB representation
+     */
+    LazyWkbGeometry(ByteBuffer bytes, Wkb.Dialect dialect, CoordinateReferenceSystem<P> crs) {
+        this.bytes = bytes;
+        this.dialect = dialect;
+        this.requestedCrs = crs;
+        BaseWkbParser<P> parser = Wkb.newParser(dialect, bytes, crs);
+        try {
+            this.numPositions = parser.scan();
+            this.crs = parser.resolveCrs();
+        } catch (WkbDecodeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new WkbDecodeException(e);
+        }
+        this.geometryType = parser.getScannedType();
+        this.byteOrder = parser.getScannedByteOrder();
+    }
+
+    /**
+     * Returns the type of the encoded <code>Geometry</code>.
+     *
+     * @return the <code>GeometryType</code> declared in the WKB
+     */
+    public GeometryType getGeometryType() {
+        return geometryType;
+    }
+
+    /**
+     * Returns the coordinate reference system of the encoded <code>Geometry</code>.
+     *
+     * @return the coordinate reference system
+     */
+    public CoordinateReferenceSystem<P> getCoordinateReferenceSystem() {
+        return crs;
+    }
+
+    /**
+     * Returns the SRID of the encoded <code>Geometry</code>.
+     *
+     * @return the code of the identifier of the coordinate reference system
+     */
+    public int getSRID() {
+        return crs.getCrsId().getCode();
+    }
+
+    /**
+     * Returns the number of positions of the encoded <code>Geometry</code>.
+     *
+     * @return the number of positions
+     */
+    public int getNumPositions() {
+        return numPositions;
+    }
+
+    /**
+     * Checks whether the encoded <code>Geometry</code> has no positions.
+     *
+     * @return true iff the encoded <code>Geometry</code> has no positions
+     */
+    public boolean isEmpty() {
+        return numPositions == 0;
+    }
+
+    /**
+     * Returns the WKB dialect of the original bytes.
+     *
+     * @return the WKB dialect
+     */
+    public Wkb.Dialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Returns the byte order of the original bytes.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Returns the decoded <code>Geometry</code>, decoding it on the first call.
+     *
+     * @return the encoded <code>Geometry</code>
+     * @throws WkbDecodeException if the coordinates can't be decoded
+     */
+    public synchronized Geometry<P> getGeometry() {
+        if (geometry == null) {
+            geometry = Wkb.newDecoder(dialect).decode(bytes, requestedCrs);
+        }
+        return geometry;
+    }
+
+    /**
+     * Checks whether the <code>Geometry</code> has already been decoded.
+     *
+     * @return true iff the <code>Geometry</code> has been decoded
+     */
+    public synchronized boolean isDecoded() {
+        return geometry != null;
+    }
+
+    /**
+     * Encodes the <code>Geometry</code> in the specified WKB dialect, using the byte order of the original bytes.
+     *
+     * @param dialect the WKB dialect
+     * @return A buffer of bytes that contains the WKB-encoded <code>Geometry</code>.
+     */
+    public ByteBuffer toWkb(Wkb.Dialect dialect) {
+        return toWkb(dialect, byteOrder);
+    }
+
+    /**
+     * Encodes the <code>Geometry</code> in the specified WKB dialect and byte order.
+     *
+     * <p>When the dialect and byte order are those of the original bytes, and no coordinate reference system was
+     * specified on creation, this returns a copy of the original bytes without decoding the <code>Geometry</code>.</p>
+     *
+     * @param dialect   the WKB dialect
+     * @param byteOrder the byte order
+     * @return A buffer of bytes that contains the WKB-encoded <code>Geometry</code>.
+     */
+    public ByteBuffer toWkb(Wkb.Dialect dialect, ByteOrder byteOrder) {
+        if (dialect == this.dialect && byteOrder == this.byteOrder && requestedCrs == null) {
+            return ByteBuffer.from(bytes.copyToLimit());
+        }
+        return Wkb.toWkb(getGeometry(), byteOrder, dialect);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LazyWkbGeometry{%s, SRID=%d, %d positions%s}", geometryType, getSRID(), numPositions,
+                isDecoded() ? ", decoded" : "");
+    }
+}
@@ -35,18 +35,24 @@ import org.geolatte.geom.crs.CrsRegistry;
  * @author Karel Maesen, Geovise BVBA
  * creation-date: 11/1/12
  */
-public class MySqlWkbDecoder implements WkbDecoder {
+public class MySqlWkbDecoder extends AbstractWkbDecoder {
 
 
     @Override
     public <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
-        BaseWkbParser<P> parser = new MySqlWkbParser<P>(MySqlWkbDialect.INSTANCE, byteBuffer, crs);
+        BaseWkbParser<P> parser = newParser(byteBuffer, crs);
         try {
             return parser.parse();
         } catch (Throwable t) {
             throw new WkbDecodeException(t);
         }
     }
+
+    @Override
+    <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
+        return new MySqlWkbParser<>(MySqlWkbDialect.INSTANCE, byteBuffer, crs);
+    }
+
 }
 
 @SuppressWarnings("unchecked")
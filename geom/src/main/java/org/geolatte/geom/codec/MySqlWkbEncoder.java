@@ -23,6 +23,9 @@ package org.geolatte.geom.codec;
 
 import org.geolatte.geom.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * A WKB Encoder for MySQL
  *
@@ -44,5 +47,17 @@ public class MySqlWkbEncoder implements WkbEncoder {
         return visitor.result();
     }
 
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out, ByteBuffer chunkBuffer) throws IOException {
+        Geometry<P> toEncode = geometry;
+        if(geometry.isEmpty()) {
+            toEncode = Geometries.mkEmptyGeometryCollection(geometry.getCoordinateReferenceSystem());
+        }
+        BaseWkbVisitor<P> visitor = MySqlWkbDialect.INSTANCE.mkStreamingVisitor(out, chunkBuffer, byteOrder);
+        //first write SRID
+        visitor.buffer().putInt(Math.max(toEncode.getSRID(), 0));
+        visitor.stream(toEncode);
+    }
+
 }
 
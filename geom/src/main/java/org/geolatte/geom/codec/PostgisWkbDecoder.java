@@ -38,11 +38,11 @@ import org.geolatte.geom.crs.CrsRegistry;
  * @author Karel Maesen, Geovise BVBA
  * creation-date: Nov 11, 2010
  */
-public class PostgisWkbDecoder implements WkbDecoder {
+public class PostgisWkbDecoder extends AbstractWkbDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
-        BaseWkbParser<P> parser = new PostgisWkbParser<>(PostgisWkbV1Dialect.INSTANCE, byteBuffer, crs);
+        BaseWkbParser<P> parser = newParser(byteBuffer, crs);
         try {
             return parser.parse();
         } catch (WkbDecodeException e) {
@@ -52,6 +52,11 @@ public class PostgisWkbDecoder implements WkbDecoder {
         }
     }
 
+    @Override
+    <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
+        return new PostgisWkbParser<>(PostgisWkbV1Dialect.INSTANCE, byteBuffer, crs);
+    }
+
 }
 
 class PostgisWkbParser<P extends Position> extends BaseWkbParser<P> {
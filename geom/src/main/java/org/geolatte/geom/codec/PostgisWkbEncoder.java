@@ -27,6 +27,9 @@ import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * A WKBEncoder for the PostGIS EWKB dialect (for Postgis  versions &lt; 2.2.2).
  *
@@ -55,6 +58,12 @@ public class PostgisWkbEncoder implements WkbEncoder {
         geometry.accept(visitor);
         return visitor.result();
     }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out, ByteBuffer chunkBuffer) throws IOException {
+        BaseWkbVisitor<P> visitor = dialect.mkStreamingVisitor(out, chunkBuffer, byteOrder);
+        visitor.stream(geometry);
+    }
 }
 
 
@@ -30,8 +30,8 @@ class PostgisWkbV1Dialect extends WkbDialect {
     }
 
     @Override
-    <P extends Position> BaseWkbVisitor<P> mkVisitor(Geometry<P> geom, ByteOrder bo) {
-        return new PostgisWkbVisitor<P>(mkByteBuffer(geom, bo), this);
+    <P extends Position> BaseWkbVisitor<P> mkVisitor(ByteBuffer buffer) {
+        return new PostgisWkbVisitor<P>(buffer, this);
     }
 
     static class PostgisWkbVisitor<P extends Position> extends BaseWkbVisitor<P> {
@@ -27,32 +27,34 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.crs.CoordinateReferenceSystems;
 import org.geolatte.geom.crs.CrsRegistry;
 
-import java.util.Optional;
-import java.util.regex.Pattern;
 
 /**
  * A decoder for the Postgis WKT/EWKT representations as used in Postgis (at least 1.0 to 1.5+).
  *
  * @author Karel Maesen, Geovise BVBA, 2011
  */
-public class PostgisWktDecoder implements WktDecoder {
+public class PostgisWktDecoder extends AbstractWktDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(String wkt, CoordinateReferenceSystem<P> crs) {
-        return new PostgisWktParser<P>(wkt, crs).parse();
+        return newParser(wkt, crs).parse();
+    }
+
+    @Override
+    <P extends Position> BaseWktParser<P> newParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
+        return new PostgisWktParser<>(wkt, crs);
     }
 }
 
 class PostgisWktParser<P extends Position> extends BaseWktParser<P> {
 
     private final static PostgisWktDialect dialect = new PostgisWktDialect();
-    private final static Pattern SRID_RE = Pattern.compile("^SRID=(.*);", Pattern.CASE_INSENSITIVE);
 
-    public PostgisWktParser(String wkt, CoordinateReferenceSystem<P> crs) {
+    public PostgisWktParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         super(dialect, wkt, crs);
     }
 
-    public PostgisWktParser(PostgisWktDialect dialect, String wkt, CoordinateReferenceSystem<P> crs) {
+    public PostgisWktParser(PostgisWktDialect dialect, CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         super(dialect, wkt, crs);
     }
 
@@ -69,13 +71,13 @@ class PostgisWktParser<P extends Position> extends BaseWktParser<P> {
 
     @Override
     protected void matchesOptionalSrid() {
-        Optional<String> sridOpt = tokenizer.extractGroupFromPattern(SRID_RE, 1);
-        if (sridOpt.isPresent()) {
+        if (tokenizer.matchesKeyword("srid=")) {
+            String srid = tokenizer.readUntil(';');
             try {
-                int sridCode = Integer.parseInt(sridOpt.get());
+                int sridCode = Integer.parseInt(srid);
                 setMatchedSrid(CrsRegistry.getCoordinateReferenceSystemForEPSG(sridCode, CoordinateReferenceSystems.PROJECTED_2D_METER));
             } catch (NumberFormatException e) {
-                throw new WktDecodeException("Not a valid SRID code in WKT " + sridOpt.get());
+                throw new WktDecodeException("Not a valid SRID code in WKT " + srid);
             }
         }
     }
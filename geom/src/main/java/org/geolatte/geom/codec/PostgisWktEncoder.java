@@ -24,6 +24,8 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+
 /**
  * Encodes geometries to Postgis WKT/EWKT representations.
  *
@@ -31,9 +33,35 @@ import org.geolatte.geom.Position;
  */
 public class PostgisWktEncoder implements WktEncoder {
 
+    private final int maxFractionDigits;
+
+    /**
+     * Creates an instance that writes coordinates in the shortest form that reads back as the same value.
+     */
+    public PostgisWktEncoder() {
+        this.maxFractionDigits = BaseWktWriter.SHORTEST;
+    }
+
+    /**
+     * Creates an instance that rounds coordinates to the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     */
+    public PostgisWktEncoder(int maxFractionDigits) {
+        this.maxFractionDigits = BaseWktWriter.checkFractionDigits(maxFractionDigits);
+    }
 
     @Override
     public <P extends Position> String encode(Geometry<P> geometry) {
-        return new BaseWktWriter(PostgisWktDialect.INSTANCE, new StringBuilder()).writeGeometry(geometry);
+        return newWriter(new StringBuilder()).writeGeometry(geometry);
+    }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, Appendable out) throws IOException {
+        newWriter(new StringBuilder()).writeGeometry(geometry, out);
+    }
+
+    private BaseWktWriter newWriter(StringBuilder builder) {
+        return new BaseWktWriter(PostgisWktDialect.INSTANCE, builder, maxFractionDigits);
     }
 }
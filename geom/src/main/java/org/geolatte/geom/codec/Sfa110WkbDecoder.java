@@ -8,12 +8,12 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
 /**
  * A WKB decoder for the format specified in Simple Feature Access, version 1.1.0
  */
-public class Sfa110WkbDecoder implements WkbDecoder {
+public class Sfa110WkbDecoder extends AbstractWkbDecoder {
 
 
     @Override
     public <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
-        BaseWkbParser<P> parser = new BaseWkbParser<>(Sfa110WkbDialect.INSTANCE, byteBuffer, crs);
+        BaseWkbParser<P> parser = newParser(byteBuffer, crs);
         try {
             return parser.parse();
         } catch( WkbDecodeException e) {
@@ -23,5 +23,9 @@ public class Sfa110WkbDecoder implements WkbDecoder {
         }
     }
 
+    @Override
+    <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
+        return new BaseWkbParser<>(Sfa110WkbDialect.INSTANCE, byteBuffer, crs);
+    }
 
 }
@@ -1,7 +1,6 @@
 package org.geolatte.geom.codec;
 
 import org.geolatte.geom.ByteBuffer;
-import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
@@ -18,8 +17,7 @@ class Sfa110WkbDialect extends WkbDialect {
     }
 
     @Override
-    <P extends Position> BaseWkbVisitor<P> mkVisitor(Geometry<P> geom, ByteOrder bo) {
-        ByteBuffer buffer = mkByteBuffer(geom, bo);
+    <P extends Position> BaseWkbVisitor<P> mkVisitor(ByteBuffer buffer) {
         return new SFA110WkbVisitor<>(buffer, this);
     }
 }
@@ -5,6 +5,9 @@ import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * A WKB encoder for the format specified in Simple Feature Access, version 1.1.0
  */
@@ -17,4 +20,10 @@ public class Sfa110WkbEncoder implements WkbEncoder {
         return visitor.result();
     }
 
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out, ByteBuffer chunkBuffer) throws IOException {
+        BaseWkbVisitor<P> visitor = Sfa110WkbDialect.INSTANCE.mkStreamingVisitor(out, chunkBuffer, byteOrder);
+        visitor.stream(geometry);
+    }
+
 }
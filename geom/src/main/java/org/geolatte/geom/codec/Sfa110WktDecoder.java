@@ -5,11 +5,16 @@ import org.geolatte.geom.Position;
 import org.geolatte.geom.codec.support.Holder;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
-public class Sfa110WktDecoder implements WktDecoder {
+public class Sfa110WktDecoder extends AbstractWktDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(String wkt, CoordinateReferenceSystem<P> crs) {
-        return new Sfa110WktParser<>(wkt, crs).parse();
+        return newParser(wkt, crs).parse();
+    }
+
+    @Override
+    <P extends Position> BaseWktParser<P> newParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
+        return new Sfa110WktParser<>(wkt, crs);
     }
 
 }
@@ -18,7 +23,7 @@ class Sfa110WktParser<P extends Position> extends BaseWktParser<P> {
 
     private final static WktDialect dialect = new WktDialect();
 
-    Sfa110WktParser(String wkt, CoordinateReferenceSystem<P> crs) {
+    Sfa110WktParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         super(dialect, wkt, crs);
     }
 
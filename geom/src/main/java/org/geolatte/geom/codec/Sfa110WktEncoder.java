@@ -3,21 +3,46 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+
 /**
  * A WKT encoder for the format specified in Simple Feature Access, version 1.1.0
  */
 public class Sfa110WktEncoder implements WktEncoder {
 
+    private final int maxFractionDigits;
+
+    /**
+     * Creates an instance that writes coordinates in the shortest form that reads back as the same value.
+     */
+    public Sfa110WktEncoder() {
+        this.maxFractionDigits = BaseWktWriter.SHORTEST;
+    }
+
+    /**
+     * Creates an instance that rounds coordinates to the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     */
+    public Sfa110WktEncoder(int maxFractionDigits) {
+        this.maxFractionDigits = BaseWktWriter.checkFractionDigits(maxFractionDigits);
+    }
+
     @Override
     public <P extends Position> String encode(Geometry<P> geometry) {
-        return new Sfa110WktWriter().writeGeometry(geometry);
+        return new Sfa110WktWriter(maxFractionDigits).writeGeometry(geometry);
+    }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, Appendable out) throws IOException {
+        new Sfa110WktWriter(maxFractionDigits).writeGeometry(geometry, out);
     }
 }
 
 class Sfa110WktWriter extends BaseWktWriter {
 
-    public Sfa110WktWriter() {
-        super(Sfa110WktDialect.INSTANCE, new StringBuilder());
+    public Sfa110WktWriter(int maxFractionDigits) {
+        super(Sfa110WktDialect.INSTANCE, new StringBuilder(), maxFractionDigits);
     }
 
     @Override
@@ -8,10 +8,10 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
 /**
  * A WKB decoder for the format specified in Simple Feature Access, version 1.2.1
  */
-public class Sfa121WkbDecoder implements WkbDecoder {
+public class Sfa121WkbDecoder extends AbstractWkbDecoder {
     @Override
     public <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
-        BaseWkbParser<P> parser = new BaseWkbParser<>(Sfa121WkbDialect.INSTANCE, byteBuffer, crs);
+        BaseWkbParser<P> parser = newParser(byteBuffer, crs);
         try {
             return parser.parse();
         } catch( WkbDecodeException e) {
@@ -20,4 +20,10 @@ public class Sfa121WkbDecoder implements WkbDecoder {
             throw new WkbDecodeException(e);
         }
     }
+
+    @Override
+    <P extends Position> BaseWkbParser<P> newParser(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs) {
+        return new BaseWkbParser<>(Sfa121WkbDialect.INSTANCE, byteBuffer, crs);
+    }
+
 }
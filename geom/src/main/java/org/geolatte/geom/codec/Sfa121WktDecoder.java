@@ -7,18 +7,23 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
 /**
  * A WKT decoder for the format specified in Simple Feature Access, version 1.2.1
  */
-public class Sfa121WktDecoder implements WktDecoder {
+public class Sfa121WktDecoder extends AbstractWktDecoder {
 
     @Override
     public <P extends Position> Geometry<P> decode(String wkt, CoordinateReferenceSystem<P> crs) {
-        return new Sfa121WktParser<>(wkt, crs).parse();
+        return newParser(wkt, crs).parse();
+    }
+
+    @Override
+    <P extends Position> BaseWktParser<P> newParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
+        return new Sfa121WktParser<>(wkt, crs);
     }
 
 }
 
 class Sfa121WktParser<P extends Position> extends BaseWktParser<P> {
 
-    Sfa121WktParser(String wkt, CoordinateReferenceSystem<P> crs) {
+    Sfa121WktParser(CharSequence wkt, CoordinateReferenceSystem<P> crs) {
         super(Sfa110WktDialect.INSTANCE, wkt, crs);
     }
 
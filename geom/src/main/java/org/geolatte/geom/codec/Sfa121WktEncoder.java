@@ -3,14 +3,43 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+
 /**
  * A WKT encoder for the format specified in Simple Feature Access, version 1.2.1
  */
 public class Sfa121WktEncoder implements WktEncoder {
 
+    private final int maxFractionDigits;
+
+    /**
+     * Creates an instance that writes coordinates in the shortest form that reads back as the same value.
+     */
+    public Sfa121WktEncoder() {
+        this.maxFractionDigits = BaseWktWriter.SHORTEST;
+    }
+
+    /**
+     * Creates an instance that rounds coordinates to the specified number of fraction digits.
+     *
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     */
+    public Sfa121WktEncoder(int maxFractionDigits) {
+        this.maxFractionDigits = BaseWktWriter.checkFractionDigits(maxFractionDigits);
+    }
+
     @Override
     public <P extends Position> String encode(Geometry<P> geometry) {
-        return new BaseWktWriter(Sfa121WktDialect.INSTANCE, new StringBuilder()).writeGeometry(geometry);
+        return newWriter().writeGeometry(geometry);
+    }
+
+    @Override
+    public <P extends Position> void encode(Geometry<P> geometry, Appendable out) throws IOException {
+        newWriter().writeGeometry(geometry, out);
+    }
+
+    private BaseWktWriter newWriter() {
+        return new BaseWktWriter(Sfa121WktDialect.INSTANCE, new StringBuilder(), maxFractionDigits);
     }
 
 }
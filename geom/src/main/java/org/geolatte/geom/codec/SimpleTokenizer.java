@@ -15,7 +15,7 @@ class SimpleTokenizer {
     private int currentPos = 0;
 
 
-    public SimpleTokenizer(String input) {
+    public SimpleTokenizer(CharSequence input) {
         this.input = input;
     }
 
@@ -57,38 +57,9 @@ class SimpleTokenizer {
     }
 
     public double readNumber() {
-        skipWhitespace();
-
-        StringBuilder stb = new StringBuilder();
-        char c = currentChar();
-        if (c == '-') {
-            stb.append(c);
-            nextChar();
-        }
-        readDigits(stb);
-        if (!endOfInput() && currentChar() == '.') {
-            stb.append(currentChar());
-            nextChar();
-            readDigits(stb);
-        }
-        try {
-            return Double.parseDouble(stb.toString());
-        } catch (NumberFormatException ex) {
-            throw new WktDecodeException("Expected double", ex);
-        }
+        return fastReadNumber();
     }
 
-    private void readDigits(StringBuilder stb) {
-        if (!endOfInput() && !Character.isDigit(currentChar())) {
-            nextChar();
-        }
-        while (!endOfInput() && Character.isDigit(currentChar())) {
-            stb.append(currentChar());
-            nextChar();
-        }
-    }
-
-
     public String readLiteralText() {
         skipWhitespace();
         if (currentChar() != '"') throw new WktDecodeException("Expected quote character");
@@ -176,6 +147,48 @@ class SimpleTokenizer {
     }
 
 
+    /**
+     * Matches the keyword at the current position, ignoring case.
+     *
+     * <p>The position is only advanced if the keyword matches.</p>
+     *
+     * @param keyword the keyword, in lower case
+     * @return true iff the input at the current position starts with the keyword
+     */
+    public boolean matchesKeyword(String keyword) {
+        skipWhitespace();
+        int n = keyword.length();
+        if (currentPos + n > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (Character.toLowerCase(input.charAt(currentPos + i)) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        currentPos += n;
+        return true;
+    }
+
+    /**
+     * Reads the text up to the specified terminator, and advances the position to just beyond the terminator.
+     *
+     * @param terminator the character that ends the text
+     * @return the text before the terminator
+     */
+    public String readUntil(char terminator) {
+        int start = currentPos;
+        while (!endOfInput() && currentChar() != terminator) {
+            nextChar();
+        }
+        if (endOfInput()) {
+            throw new WktDecodeException(String.format("Expected '%c' after position %d", terminator, start));
+        }
+        String text = input.subSequence(start, currentPos).toString();
+        nextChar();
+        return text;
+    }
+
     public boolean matchesOpenList() {
         return matchesChar(openListChar, true);
     }
@@ -190,108 +203,131 @@ class SimpleTokenizer {
 
     /**
      * Reads a number at the current position.
-     * <p>Note that this method loses precision, e.g. 51.16666723333333 becomes 51.16666723333332) </p>
+     *
+     * <p>The number is parsed directly from the input characters. If it has no more than 19 significant digits and
+     * the result can be computed by a single exact multiplication or division, it is computed directly (this is
+     * the case for nearly all coordinates in practice). Otherwise, the characters of the number are handed to
+     * {@link Double#parseDouble(String)}. In both cases, the result is the correctly rounded double.</p>
      *
      * @return a double
      */
     protected double fastReadNumber() {
         skipWhitespace();
         int startPos = currentPos;
-        char c = input.charAt(currentPos);
-        double sign = 1.0d;
-        //read the sign
-        if (c == '-') {
-            sign = -1.0d;
-            c = input.charAt(++currentPos);
+        boolean negative = false;
+        if (!endOfInput() && (input.charAt(currentPos) == '-' || input.charAt(currentPos) == '+')) {
+            negative = input.charAt(currentPos) == '-';
+            nextChar();
         }
 
-        //read the number and put it in form <long>E<long>
-        long s = 0L;
+        //read the number in the form <mantissa>E<exponent>, keeping at most MAX_DIGITS significant digits
+        long mantissa = 0L;
+        int numDigits = 0;
+        int exponent = 0;
         boolean digitsSeen = false;
-        boolean decPntSeen = false;
-        long decPos = -1;
-        while (true) {
-
-            if (Character.isDigit(c)) {
-                s = 10 * s + (c - '0');
-                digitsSeen = true;
-            } else if (c == '.') {
-                if (decPntSeen) {
-                    throw new WktDecodeException("Invalid number format at position " + currentPos);
-                }
-                decPntSeen = true;
+        boolean truncated = false;
+        char c;
+        while (!endOfInput() && isDigit(c = input.charAt(currentPos))) {
+            digitsSeen = true;
+            if (numDigits < MAX_DIGITS) {
+                mantissa = 10 * mantissa + (c - '0');
+                if (mantissa != 0) numDigits++;
             } else {
-                break;
-            }
-            if (decPntSeen) {
-                decPos++;
+                exponent++;
+                truncated |= c != '0';
             }
-
             nextChar();
-            if (endOfInput()) break;
-            c = currentChar();
         }
-
-        //read the exponent (scientific notation)
-        long exp = 0L;
-        long expSign = 1L;
-        if (c == 'e' || c == 'E') {
-            c = input.charAt(++currentPos);
-            if (c == '-') {
-                expSign = -1L;
-                c = input.charAt(++currentPos);
-            }
-            while (Character.isDigit(c)) {
-                exp = 10 * exp + (c - '0');
+        if (!endOfInput() && input.charAt(currentPos) == '.') {
+            nextChar();
+            while (!endOfInput() && isDigit(c = input.charAt(currentPos))) {
+                digitsSeen = true;
+                if (numDigits < MAX_DIGITS) {
+                    mantissa = 10 * mantissa + (c - '0');
+                    if (mantissa != 0) numDigits++;
+                    exponent--;
+                } else {
+                    truncated |= c != '0';
+                }
                 nextChar();
-                if (endOfInput()) break;
-                c = currentChar();
             }
         }
         if (!digitsSeen) {
             throw new WktDecodeException("Invalid number format at position " + currentPos);
         }
-        long p = decPos >= 0 ? expSign * exp - decPos : expSign * exp;
-        int endPos = currentPos;
-        return toDouble(sign, s, p, startPos, endPos);
+
+        //read the exponent (scientific notation), but only if it has digits
+        if (!endOfInput() && (input.charAt(currentPos) == 'e' || input.charAt(currentPos) == 'E')) {
+            int ePos = currentPos;
+            nextChar();
+            boolean negativeExp = false;
+            if (!endOfInput() && (input.charAt(currentPos) == '-' || input.charAt(currentPos) == '+')) {
+                negativeExp = input.charAt(currentPos) == '-';
+                nextChar();
+            }
+            if (endOfInput() || !isDigit(input.charAt(currentPos))) {
+                currentPos = ePos;
+            } else {
+                int exp = 0;
+                while (!endOfInput() && isDigit(c = input.charAt(currentPos))) {
+                    if (exp < MAX_EXPONENT) exp = 10 * exp + (c - '0');
+                    nextChar();
+                }
+                exponent += negativeExp ? -exp : exp;
+            }
+        }
+        return toDouble(negative, mantissa, exponent, truncated, startPos);
     }
 
     /**
      * Converts the decimal number representation into a double
      * <p>
-     * This routine tries to apply the "Fast path" to get a really fast conversion, if applicable. If not, it
-     * delegates to the more expensive Double.parseDouble() StdLib conversion.
+     * This routine applies the "Fast path" when the mantissa and the power of ten are both exactly representable
+     * as a double, so that a single (correctly rounded) multiplication or division gives the correctly rounded
+     * result. If not, it delegates to the more expensive Double.parseDouble() StdLib conversion.
      * <p>
      * See: http://www.exploringbinary.com/fast-path-decimal-to-floating-point-conversion/
      * and Handbook of Floating-Point Arithmetic, p. 47-8 (Muller e.a)
      *
-     * @param sign     the sign of the number
-     * @param s        the decimal mantissa or significand as a long
-     * @param p        the exponent as a long
-     * @param startPos the start position in the input for the parsed number
-     * @param endPos   the end position in the input for the parsed number
+     * @param negative  whether the number is negative
+     * @param mantissa  the decimal mantissa or significand
+     * @param exponent  the decimal exponent
+     * @param truncated whether significant digits were dropped from the mantissa
+     * @param startPos  the start position in the input for the parsed number
      * @return the double at the specified positions
      */
-    private double toDouble(double sign, long s, long p, int startPos, int endPos) {
-        //check if the Fast-path is applicable.
-        // we also test for negative s values to account for overrun/underrun conditions in the calling fastNumber procedure
-        if (s == 0) {
-            return 0.0d;
-        } else if (s > 0 && s <= S_MAX && Math.abs(p) <= P_MAX) {
-            if (p == 0l) {
-                return sign * s;
-            } else if (p < 0) {
-                return sign * (s / Math.pow(10, -p));
-            } else {
-                return sign * (s * Math.pow(10, p));
+    private double toDouble(boolean negative, long mantissa, int exponent, boolean truncated, int startPos) {
+        if (mantissa == 0) {
+            return negative ? -0.0d : 0.0d;
+        }
+        if (!truncated && mantissa > 0 && mantissa <= S_MAX) {
+            if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+                double d = mantissa * POWERS_OF_TEN[exponent];
+                return negative ? -d : d;
+            }
+            if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+                double d = mantissa / POWERS_OF_TEN[-exponent];
+                return negative ? -d : d;
             }
-        } else {
-            return Double.parseDouble(input.subSequence(startPos, endPos).toString());
         }
+        return Double.parseDouble(input.subSequence(startPos, currentPos).toString());
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
+    //the largest mantissa that is exactly representable as a double (2^53 - 1)
     private static final long S_MAX = 9007199254740991L;
-    private static final long P_MAX = 22L;
+    //the number of decimal digits that always fit in a long (19 nines would overflow)
+    private static final int MAX_DIGITS = 18;
+    //exponents are capped here, the double range is exceeded long before
+    private static final int MAX_EXPONENT = 100000;
+    //the powers of ten that are exactly representable as a double
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
 
     private void nextChar() {
         currentPos++;
@@ -25,6 +25,7 @@ import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -167,6 +168,32 @@ public class Wkb {
         return decoder.decode(byteBuffer);
     }
 
+    /**
+     * Reads a WKB representation in a <code>ByteBuffer</code> into a <code>LazyWkbGeometry</code>, which only decodes
+     * the coordinates when they are needed.
+     *
+     * @param byteBuffer A buffer of bytes that contains a WKB-encoded <code>Geometry</code>.
+     * @param dialect the WKB dialect to use
+     * @return The <code>LazyWkbGeometry</code> for the WKB.
+     */
+    public static LazyWkbGeometry<?> fromWkbLazily(ByteBuffer byteBuffer, Dialect dialect) {
+        return fromWkbLazily(byteBuffer, dialect, null);
+    }
+
+    /**
+     * Reads a WKB representation in a <code>ByteBuffer</code> into a <code>LazyWkbGeometry</code>, which only decodes
+     * the coordinates when they are needed, assuming the specified {@code CoordinateReferenceSystem}.
+     *
+     * @param byteBuffer A buffer of bytes that contains a WKB-encoded <code>Geometry</code>.
+     * @param dialect the WKB dialect to use
+     * @param crs the base coordinate reference system assumed for the wkb
+     * @return The <code>LazyWkbGeometry</code> for the WKB.
+     */
+    public static <P extends Position> LazyWkbGeometry<P> fromWkbLazily(ByteBuffer byteBuffer, Dialect dialect,
+                                                                         CoordinateReferenceSystem<P> crs) {
+        return new LazyWkbGeometry<>(byteBuffer, dialect, crs);
+    }
+
     /**
      * Creates a <code>WkbDecoder</code> for the specified WKB <code>Dialect</code>.
      *
@@ -214,6 +241,15 @@ public class Wkb {
         return createInstance(decoderClass);
     }
 
+    static <P extends Position> BaseWkbParser<P> newParser(Dialect dialect, ByteBuffer byteBuffer,
+                                                           CoordinateReferenceSystem<P> crs) {
+        WkbDecoder decoder = newDecoder(dialect);
+        if (!(decoder instanceof AbstractWkbDecoder)) {
+            throw new IllegalArgumentException("Unsupported WKB dialect: " + dialect);
+        }
+        return ((AbstractWkbDecoder) decoder).newParser(byteBuffer, crs);
+    }
+
     private static <T> T createInstance(Class<? extends T> codecClass) {
         if (codecClass == null) {
             throw new IllegalArgumentException("Null WKB codec class argument not allowed.");
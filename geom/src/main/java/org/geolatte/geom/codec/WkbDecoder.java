@@ -59,4 +59,38 @@ public interface WkbDecoder {
      * @throws WkbDecodeException if the specified ByteBuffer is an illegal or unsupported WKB representation
      */
     <P extends Position> Geometry<P> decode(ByteBuffer byteBuffer, CoordinateReferenceSystem<P> crs);
+
+    /**
+     * Decodes the WKB encoded representation in the remaining bytes of a <code>java.nio.ByteBuffer</code>.
+     *
+     * <p>The bytes are read in place, without copying, so this works equally well for heap, direct and memory-mapped
+     * buffers. The position, limit and byte order of the specified buffer are not modified.</p>
+     *
+     * @param byteBuffer the buffer holding the WKB encoded binary representation
+     * @return the represented <code>Geometry</code>
+     * @throws WkbDecodeException if the remaining bytes are an illegal or unsupported WKB representation
+     */
+    default Geometry<? extends Position> decode(java.nio.ByteBuffer byteBuffer) {
+        return decode(ByteBuffer.from(byteBuffer), null);
+    }
+
+    /**
+     * Decodes the WKB encoded representation in a region of a <code>java.nio.ByteBuffer</code>, assuming the
+     * specified {@code CoordinateReferenceSystem}.
+     *
+     * <p>The bytes are read in place, without copying, so this works equally well for heap, direct and memory-mapped
+     * buffers. The position, limit and byte order of the specified buffer are not modified.</p>
+     *
+     * @param byteBuffer the buffer holding the WKB encoded binary representation
+     * @param offset     the index in the buffer of the first byte of the WKB
+     * @param length     the number of bytes of the WKB
+     * @param crs        the base coordinate reference system assumed for the wkb
+     * @param <P>        the Position type for the (base)
+     * @return the represented <code>Geometry</code>
+     * @throws WkbDecodeException if the specified region is an illegal or unsupported WKB representation
+     */
+    default <P extends Position> Geometry<P> decode(java.nio.ByteBuffer byteBuffer, int offset, int length,
+                                                    CoordinateReferenceSystem<P> crs) {
+        return decode(ByteBuffer.from(byteBuffer, offset, length), crs);
+    }
 }
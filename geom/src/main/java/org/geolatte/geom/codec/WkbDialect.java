@@ -2,6 +2,8 @@ package org.geolatte.geom.codec;
 
 import org.geolatte.geom.*;
 
+import java.io.OutputStream;
+
 import static org.geolatte.geom.GeometryType.*;
 
 class WkbDialect {
@@ -45,10 +47,30 @@ class WkbDialect {
     }
 
     <P extends Position> BaseWkbVisitor<P> mkVisitor(Geometry<P> geom, ByteOrder bo) {
-        ByteBuffer buffer = mkByteBuffer(geom, bo);
+        return mkVisitor(mkByteBuffer(geom, bo));
+    }
+
+    <P extends Position> BaseWkbVisitor<P> mkVisitor(ByteBuffer buffer) {
         return new BaseWkbVisitor<>(buffer, this);
     }
 
+    /**
+     * Creates a visitor that uses the specified buffer as a fixed-size chunk, and writes it to the output stream each
+     * time it is full (and when the visitor is flushed).
+     */
+    <P extends Position> BaseWkbVisitor<P> mkStreamingVisitor(OutputStream out, ByteBuffer chunkBuffer, ByteOrder bo) {
+        if (chunkBuffer.capacity() < BaseWkbVisitor.MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk buffer must have a capacity of at least " + BaseWkbVisitor.MIN_CHUNK_SIZE + " bytes");
+        }
+        chunkBuffer.clear();
+        if (bo != null) {
+            chunkBuffer.setByteOrder(bo);
+        }
+        BaseWkbVisitor<P> visitor = mkVisitor(chunkBuffer);
+        visitor.streamTo(out);
+        return visitor;
+    }
+
     protected <P extends Position> ByteBuffer mkByteBuffer(Geometry<P> geom, ByteOrder bo) {
         ByteBuffer buffer = ByteBuffer.allocate(calculateSize(geom, true));
         if (bo != null) {
@@ -26,6 +26,11 @@ import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
 /**
  * An encoder for WKB (Well-Known Binary) encoded <code>Geometries</code>.
  *
@@ -54,4 +59,57 @@ public interface WkbEncoder {
         return encode(geometry, ByteOrder.NDR);
     }
 
+    /**
+     * Encodes a <code>Geometry</code> to its WKB representation, and writes it to the specified output stream
+     * in chunks of at most {@link #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @param geometry  the geometry to encode
+     * @param byteOrder the bye-order for the WKB representation
+     * @param out       the stream to write to
+     * @throws IOException if writing to the output stream fails
+     */
+    default <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out) throws IOException {
+        encode(geometry, byteOrder, out, ByteBuffer.allocate(DEFAULT_CHUNK_SIZE));
+    }
+
+    /**
+     * Encodes a <code>Geometry</code> to its WKB representation, and writes it to the specified channel
+     * in chunks of at most {@link #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @param geometry  the geometry to encode
+     * @param byteOrder the bye-order for the WKB representation
+     * @param channel   the channel to write to
+     * @throws IOException if writing to the channel fails
+     */
+    default <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, WritableByteChannel channel) throws IOException {
+        encode(geometry, byteOrder, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Encodes a <code>Geometry</code> to its WKB representation, and writes it to the specified output stream
+     * using the specified buffer as a chunk buffer.
+     *
+     * <p>The chunk buffer is filled, written to the output stream, and then reused, so that memory use is bounded by
+     * its capacity regardless of the size of the geometry. This allows a single (pooled) buffer to be used for encoding
+     * any number of geometries. The chunk buffer should be created with {@link ByteBuffer#allocate(int)} and
+     * must have a capacity of at least 64 bytes.</p>
+     *
+     * <p>The default implementation encodes the geometry to a single <code>ByteBuffer</code> first.</p>
+     *
+     * @param geometry    the geometry to encode
+     * @param byteOrder   the bye-order for the WKB representation
+     * @param out         the stream to write to
+     * @param chunkBuffer the buffer used to hold the bytes before they are written
+     * @throws IOException if writing to the output stream fails
+     */
+    default <P extends Position> void encode(Geometry<P> geometry, ByteOrder byteOrder, OutputStream out, ByteBuffer chunkBuffer) throws IOException {
+        ByteBuffer wkb = encode(geometry, byteOrder);
+        out.write(wkb.toByteArray(), 0, wkb.limit());
+    }
+
+    /**
+     * The size in bytes of the chunks written by {@link #encode(Geometry, ByteOrder, OutputStream)}.
+     */
+    int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
 }
@@ -25,6 +25,9 @@ import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -143,6 +146,48 @@ public class Wkt {
         return encoder.encode(geometry);
     }
 
+    /**
+     * Encodes a <code>Geometry</code> to a WKT representation according to a specific dialect, and appends it to the
+     * specified <code>Appendable</code>.
+     *
+     * @param geometry the <code>Geometry</code> to encode
+     * @param dialect the WKT dialect
+     * @param out the <code>Appendable</code> (e.g. a <code>Writer</code>) to write to
+     * @throws IOException if appending to the output fails
+     */
+    public static void toWkt(Geometry<?> geometry, Dialect dialect, Appendable out) throws IOException {
+        WktEncoder encoder = newEncoder(dialect);
+        encoder.encode(geometry, out);
+    }
+
+    /**
+     * Creates a <code>WktGeometryReader</code> that reads a sequence of newline- or semicolon-separated WKT
+     * geometries from the specified <code>Reader</code>.
+     *
+     * @param in the <code>Reader</code> to read the WKT from
+     * @param dialect the WKT dialect
+     * @return a <code>WktGeometryReader</code> for the specified input
+     */
+    public static WktGeometryReader<?> newReader(Reader in, Dialect dialect) {
+        return new WktGeometryReader<>(in, dialect, null);
+    }
+
+    /**
+     * Creates a <code>WktGeometryReader</code> that reads a sequence of newline- or semicolon-separated WKT
+     * geometries from the specified <code>Reader</code>, using the specified {@code CoordinateReferenceSystem}.
+     *
+     * <p>If a (non-null) {@code CoordinateReferenceSystem} is provided, the SRID information in the WKT will be ignored.</p>
+     *
+     * @param in the <code>Reader</code> to read the WKT from
+     * @param dialect the WKT dialect
+     * @param crs the Coordinate Reference System for the geometries
+     * @return a <code>WktGeometryReader</code> for the specified input
+     */
+    public static <P extends Position> WktGeometryReader<P> newReader(Reader in, Dialect dialect,
+                                                                       CoordinateReferenceSystem<P> crs) {
+        return new WktGeometryReader<>(in, dialect, crs);
+    }
+
     /**
      * Creates a <code>WktDecoder</code> for the specified WKT <code>Dialect</code>.
      *
@@ -176,6 +221,27 @@ public class Wkt {
         return createInstance(decoderClass);
     }
 
+    /**
+     * Creates a <code>WktEncoder</code> for the specified WKT <code>Dialect</code> that rounds coordinates to the
+     * specified number of fraction digits.
+     *
+     * @param dialect the WKT dialect
+     * @param maxFractionDigits the maximum number of fraction digits (between 0 and 17)
+     * @return an <code>WktEncoder</code> that supports the specified dialect
+     */
+    public static WktEncoder newEncoder(Dialect dialect, int maxFractionDigits) {
+        Class<? extends WktEncoder> encoderClass = ENCODERS.get(dialect);
+        assert (encoderClass != null) : "A variant declared, but no encoder/decoder registered.";
+        try {
+            return encoderClass.getConstructor(int.class).newInstance(maxFractionDigits);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Creates a <code>WktEncoder</code> for the default dialect (Postgis 1.x EWKT).
      *
@@ -185,6 +251,15 @@ public class Wkt {
         return newEncoder(DEFAULT_DIALECT);
     }
 
+    static <P extends Position> BaseWktParser<P> newParser(Dialect dialect, CharSequence wkt,
+                                                           CoordinateReferenceSystem<P> crs) {
+        WktDecoder decoder = newDecoder(dialect);
+        if (!(decoder instanceof AbstractWktDecoder)) {
+            throw new IllegalArgumentException("Unsupported WKT dialect: " + dialect);
+        }
+        return ((AbstractWktDecoder) decoder).newParser(wkt, crs);
+    }
+
     private static <T> T createInstance(Class<? extends T> codecClass) {
         if (codecClass == null) {
             throw new IllegalArgumentException("Null WKT codec class is not allowed.");
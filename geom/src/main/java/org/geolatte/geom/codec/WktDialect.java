@@ -3,33 +3,35 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.GeometryType;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Pattern;
-
 import static org.geolatte.geom.GeometryType.*;
 
 class WktDialect {
 
-    final static Map<GeometryType, Pattern> GEOMETRY_TYPE_PATTERN_MAP = new HashMap<>();
-
-    static {
-        addToMap(POINT, "point");
-        addToMap(LINESTRING, "linestring");
-        addToMap(POLYGON, "polygon");
-        addToMap(GEOMETRYCOLLECTION, "geometrycollection");
-        addToMap(MULTIPOINT, "multipoint");
-        addToMap(MULTILINESTRING, "multilinestring");
-        addToMap(MULTIPOLYGON, "multipolygon");
-    }
-
-    private static void addToMap(GeometryType tpe, String pattern) {
-        GEOMETRY_TYPE_PATTERN_MAP.put(tpe, Pattern.compile(pattern, Pattern.CASE_INSENSITIVE));
-    }
-
-    public Map<GeometryType, Pattern> geometryTypePatternMap() {
-        return Collections.unmodifiableMap(GEOMETRY_TYPE_PATTERN_MAP);
+    /**
+     * Matches the geometry keyword at the current position of the tokenizer, ignoring case.
+     *
+     * @param tokenizer the tokenizer
+     * @return the matched <code>GeometryType</code>, or null if there is no geometry keyword at the current position
+     */
+    GeometryType matchGeometryKeyword(SimpleTokenizer tokenizer) {
+        if (!tokenizer.hasMoreInput()) return null;
+        switch (Character.toLowerCase(tokenizer.currentChar())) {
+            case 'p':
+                if (tokenizer.matchesKeyword("point")) return POINT;
+                if (tokenizer.matchesKeyword("polygon")) return POLYGON;
+                return null;
+            case 'l':
+                return tokenizer.matchesKeyword("linestring") ? LINESTRING : null;
+            case 'g':
+                return tokenizer.matchesKeyword("geometrycollection") ? GEOMETRYCOLLECTION : null;
+            case 'm':
+                if (tokenizer.matchesKeyword("multipoint")) return MULTIPOINT;
+                if (tokenizer.matchesKeyword("multilinestring")) return MULTILINESTRING;
+                if (tokenizer.matchesKeyword("multipolygon")) return MULTIPOLYGON;
+                return null;
+            default:
+                return null;
+        }
     }
 
     void addGeometryTag(StringBuilder buffer, Geometry<?> geometry) {
@@ -24,6 +24,8 @@ package org.geolatte.geom.codec;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Position;
 
+import java.io.IOException;
+
 /**
  * An Encoder for WKT (Well-Known Text) representations.
  * <p>In general <code>WktEncoder</code> implementations are not be thread-safe.</p>
@@ -38,4 +40,17 @@ public interface WktEncoder {
      * @return a WKT representation of the specified object.
      */
     <P extends Position> String encode(Geometry<P> geometry);
+
+    /**
+     * Encodes an object to its WKT representation, and appends it to the specified <code>Appendable</code>.
+     *
+     * <p>The default implementation appends the result of {@link #encode(Geometry)}.</p>
+     *
+     * @param geometry the <code>Geometry</code> instance to encode
+     * @param out      the <code>Appendable</code> (e.g. a <code>Writer</code>) to write to
+     * @throws IOException if appending to the output fails
+     */
+    default <P extends Position> void encode(Geometry<P> geometry, Appendable out) throws IOException {
+        out.append(encode(geometry));
+    }
 }
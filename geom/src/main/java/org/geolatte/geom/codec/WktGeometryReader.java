@@ -0,0 +1,231 @@
+/*
+ * This file is part of the GeoLatte project.
+ *
+ *     GeoLatte is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU Lesser General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     GeoLatte is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU Lesser General Public License for more details.
+ *
+ *     You should have received a copy of the GNU Lesser General Public License
+ *     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.Position;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+import org.geolatte.geom.crs.CrsRegistry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a sequence of WKT encoded <code>Geometries</code> from a <code>Reader</code>.
+ *
+ * <p>The geometries are separated by a newline or a semicolon. Input is read incrementally, and only the WKT of the
+ * geometry that is being decoded is held in memory, so that arbitrarily large files can be read. Empty lines are
+ * skipped, and a geometry may itself span several lines. A semicolon that ends an EWKT SRID prefix
+ * (e.g. <code>SRID=4326;POINT(1 2)</code>) does not separate geometries.</p>
+ *
+ * <p>Instances are not thread-safe. Closing an instance closes the underlying <code>Reader</code>.</p>
+ *
+ * @param <P> the Position type of the geometries
+ */
+public class WktGeometryReader<P extends Position> implements Iterator<Geometry<P>>, Closeable {
+
+    final private static int BUFFER_SIZE = 8192;
+
+    final private Reader in;
+    final private Wkt.Dialect dialect;
+    final private CoordinateReferenceSystem<P> crs;
+    final private char[] buffer = new char[BUFFER_SIZE];
+    final private StringBuilder record = new StringBuilder();
+
+    private CoordinateReferenceSystem<?> defaultCrs;
+    private int bufferPos = 0;
+    private int bufferEnd = 0;
+    private boolean endOfInput = false;
+    private boolean hasRecord = false;
+    private boolean unbalanced = false;
+
+    /**
+     * Creates an instance
+     *
+     * @param in      the <code>Reader</code> to read the WKT from
+     * @param dialect the WKT dialect
+     * @param crs     the coordinate reference system for the geometries, or null to use the SRID in the WKT
+     */
+    WktGeometryReader(Reader in, Wkt.Dialect dialect, CoordinateReferenceSystem<P> crs) {
+        this.in = in;
+        this.dialect = dialect;
+        this.crs = crs;
+    }
+
+    /**
+     * Sets the SRID to use for geometries whose WKT doesn't specify one.
+     *
+     * @param srid the EPSG code of the coordinate reference system
+     * @return this instance
+     */
+    public WktGeometryReader<P> withDefaultSrid(int srid) {
+        this.defaultCrs = CrsRegistry.getCoordinateReferenceSystemForEPSG(srid, CoordinateReferenceSystems.PROJECTED_2D_METER);
+        return this;
+    }
+
+    /**
+     * Checks whether there is another geometry in the input.
+     *
+     * @return true iff there is another geometry
+     * @throws UncheckedIOException if reading from the <code>Reader</code> fails
+     */
+    @Override
+    public boolean hasNext() {
+        if (!hasRecord) {
+            try {
+                hasRecord = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return hasRecord;
+    }
+
+    /**
+     * Reads and decodes the next geometry.
+     *
+     * @return the next geometry
+     * @throws WktDecodeException when the next geometry is an invalid or unsupported WKT representation
+     * @throws UncheckedIOException if reading from the <code>Reader</code> fails
+     */
+    @Override
+    public Geometry<P> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasRecord = false;
+        if (unbalanced) {
+            throw new WktDecodeException("Unbalanced closing parenthesis in WKT: " + record);
+        }
+        BaseWktParser<P> parser = Wkt.newParser(dialect, record, crs);
+        if (defaultCrs != null) {
+            parser.setMatchedSrid(defaultCrs);
+        }
+        return parser.parse();
+    }
+
+    /**
+     * Returns the remaining geometries as a sequential <code>Stream</code>.
+     *
+     * <p>Closing the stream closes this instance.</p>
+     *
+     * @return a <code>Stream</code> of the remaining geometries
+     */
+    public Stream<Geometry<P>> stream() {
+        Spliterator<Geometry<P>> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the WKT of the next geometry into the record buffer.
+     *
+     * <p>A closing parenthesis without a matching opening parenthesis ends the record, which is then marked as
+     * unbalanced, so that it doesn't swallow the geometries that follow it.</p>
+     *
+     * @return false if there are no more geometries
+     */
+    private boolean readRecord() throws IOException {
+        record.setLength(0);
+        unbalanced = false;
+        int depth = 0;
+        while (true) {
+            if (bufferPos == bufferEnd && !fill()) {
+                return !isBlank();
+            }
+            char c = buffer[bufferPos++];
+            if ((c == '\n' || c == '\r' || c == ';') && depth == 0) {
+                if (isComplete()) {
+                    return true;
+                }
+                if (isBlank()) {
+                    record.setLength(0);
+                    continue;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth < 0) {
+                record.append(c);
+                unbalanced = true;
+                return true;
+            }
+            record.append(c);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) return false;
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        bufferPos = 0;
+        bufferEnd = read;
+        return true;
+    }
+
+    private boolean isBlank() {
+        return lastNonWhitespace() < 0;
+    }
+
+    //a geometry is complete when its text ends with a closing parenthesis or the EMPTY keyword
+    private boolean isComplete() {
+        int last = lastNonWhitespace();
+        if (last < 0) return false;
+        if (record.charAt(last) == ')') return true;
+        String empty = "empty";
+        int start = last - empty.length() + 1;
+        if (start < 0) return false;
+        for (int i = 0; i < empty.length(); i++) {
+            if (Character.toLowerCase(record.charAt(start + i)) != empty.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private int lastNonWhitespace() {
+        int i = record.length() - 1;
+        while (i >= 0 && Character.isWhitespace(record.charAt(i))) {
+            i--;
+        }
+        return i;
+    }
+}
@@ -2,13 +2,11 @@ package org.geolatte.geom.codec.db.db2;
 
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.codec.Wkt;
-import org.geolatte.geom.codec.WktDecoder;
+import org.geolatte.geom.codec.WktGeometryReader;
 import org.geolatte.geom.codec.db.Decoder;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.sql.Clob;
 import java.sql.SQLException;
 
@@ -35,14 +33,14 @@ public class Db2ClobDecoder implements Decoder<Clob> {
 
     @Override
     public Geometry<?> decode(Clob clob) {
-        String wkt = clobToString(clob);
-        WktDecoder decoder = Wkt.newDecoder(Wkt.Dialect.DB2_WKT);
-        if (wkt.substring(0, 4).toUpperCase().startsWith("SRID")) {
-            return decoder.decode(wkt);
-        } else {
-            return decoder.decode(String.format("SRID=%d;%s", srid, wkt));
+        try (WktGeometryReader<?> reader = Wkt.newReader(new InputStreamReader(clob.getAsciiStream()), Wkt.Dialect.DB2_WKT)) {
+            if (srid != null) {
+                reader.withDefaultSrid(srid);
+            }
+            return reader.next();
+        } catch (IOException | SQLException ex) {
+            throw new RuntimeException(ex);
         }
-
     }
 
     @Override
@@ -50,41 +48,4 @@ public class Db2ClobDecoder implements Decoder<Clob> {
         return true;
     }
 
-    /**
-     * @param clob - spatial value represented as WKT comes in as Clob type
-     * @return The spatial value as WKT String type
-     */
-    private String clobToString(Clob clob) {
-        InputStream in = null;
-        Reader in2 = null;
-        final char[] buffer = new char[0x10000];
-        StringBuilder out = new StringBuilder();
-        try {
-            in = clob.getAsciiStream();
-            in2 = new InputStreamReader(in);
-            int read;
-            do {
-                read = in2.read(buffer, 0, buffer.length);
-                if (read > 0) {
-                    out.append(buffer, 0, read);
-                }
-            } while (read >= 0);
-
-        } catch (IOException | SQLException ex) {
-            throw new RuntimeException(ex);
-        } finally {
-            try {
-                if (in != null) {
-                    in.close();
-                }
-                if (in2 != null) {
-                    in2.close();
-                }
-            } catch (IOException e) {
-                // nothing to do
-            }
-        }
-        return out.toString();
-    }
-
 }
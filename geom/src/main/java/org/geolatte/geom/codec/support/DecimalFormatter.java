@@ -0,0 +1,111 @@
+package org.geolatte.geom.codec.support;
+
+/**
+ * Formats coordinates as plain decimals into a char buffer, without creating intermediate Strings.
+ *
+ * <p>Both the WKT and the GeoJSON writers format their coordinates with this class. A value is formatted as
+ * <code>m * 10^-k</code>, for a long <code>m</code> that is exactly representable as a double, and trailing
+ * zeros in the fraction are dropped. Values that cannot be written in this form are left to the caller, which
+ * should then write them at full precision, e.g. with {@link Double#toString(double)}.</p>
+ */
+public final class DecimalFormatter {
+
+    /**
+     * The maximum number of fraction digits.
+     */
+    public static final int MAX_FRACTION_DIGITS = 17;
+
+    /**
+     * The minimum size of the buffer passed to the format methods.
+     */
+    public static final int BUFFER_SIZE = 24;
+
+    //the largest long that is exactly representable as a double (2^53)
+    private static final double MAX_EXACT = 9007199254740992d;
+
+    //below this magnitude, Double.toString() uses scientific notation, which is kept for the shortest representation
+    private static final double MIN_SHORTEST = 1e-3;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17
+    };
+
+    private DecimalFormatter() {
+    }
+
+    /**
+     * Writes the value, rounded to at most the specified number of fraction digits, to the start of the buffer.
+     *
+     * @param value          the value to format
+     * @param fractionDigits the maximum number of fraction digits, between 0 and {@link #MAX_FRACTION_DIGITS}
+     * @param buf            the buffer, of at least {@link #BUFFER_SIZE} chars
+     * @return the number of chars written, or -1 if the value is not finite or too large to be rounded exactly
+     */
+    public static int formatFixed(double value, int fractionDigits, char[] buf) {
+        double scaled = Math.abs(value) * POWERS_OF_TEN[fractionDigits];
+        if (!(scaled < MAX_EXACT)) {
+            return -1;
+        }
+        return writeDecimal(value < 0, Math.round(scaled), fractionDigits, buf);
+    }
+
+    /**
+     * Writes the decimal with the fewest fraction digits that reads back as the same double to the start of the
+     * buffer.
+     *
+     * <p>The decimal is found by scaling with increasing powers of ten until the rounded result, divided by that same
+     * power, gives the value back. That division is exact up to a single rounding, just as when reading the decimal
+     * back.</p>
+     *
+     * @param value the value to format
+     * @param buf   the buffer, of at least {@link #BUFFER_SIZE} chars
+     * @return the number of chars written, or -1 if the value is not finite, very small or large, or needs more than
+     * {@link #MAX_FRACTION_DIGITS} fraction digits
+     */
+    public static int formatShortest(double value, char[] buf) {
+        double abs = Math.abs(value);
+        if (!(abs < MAX_EXACT) || abs < MIN_SHORTEST) {
+            return abs == 0 ? writeDecimal(false, 0, 0, buf) : -1;
+        }
+        for (int k = 0; k < POWERS_OF_TEN.length; k++) {
+            double scaled = abs * POWERS_OF_TEN[k];
+            if (scaled >= MAX_EXACT) break;
+            long m = Math.round(scaled);
+            if (m / POWERS_OF_TEN[k] == abs) {
+                return writeDecimal(value < 0, m, k, buf);
+            }
+        }
+        return -1;
+    }
+
+    // writes m * 10^-k, without trailing zeros in the fraction
+    private static int writeDecimal(boolean negative, long m, int k, char[] buf) {
+        while (k > 0 && m % 10 == 0) {
+            m /= 10;
+            k--;
+        }
+        if (m == 0) {
+            buf[0] = '0';
+            return 1;
+        }
+        // write the digits backwards from the end of the buffer, then move them to the start
+        int pos = buf.length;
+        for (int i = 0; i < k; i++) {
+            buf[--pos] = (char) ('0' + m % 10);
+            m /= 10;
+        }
+        if (k > 0) {
+            buf[--pos] = '.';
+        }
+        do {
+            buf[--pos] = (char) ('0' + m % 10);
+            m /= 10;
+        } while (m > 0);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+        int length = buf.length - pos;
+        System.arraycopy(buf, pos, buf, 0, length);
+        return length;
+    }
+}
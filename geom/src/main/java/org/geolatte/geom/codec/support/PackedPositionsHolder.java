@@ -0,0 +1,64 @@
+package org.geolatte.geom.codec.support;
+
+import org.geolatte.geom.Position;
+import org.geolatte.geom.PositionSequence;
+import org.geolatte.geom.PositionSequenceBuilders;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+
+/**
+ * A {@code LinearPositionsHolder} that holds its coordinates in a single packed {@code double[]}.
+ *
+ * <p>Decoders that know the number of positions up front (e.g. WKB) can fill the array directly, without
+ * creating a {@code PointHolder} per position. When the coordinate dimension matches the target
+ * {@code CoordinateReferenceSystem}, the array is adopted as-is by the resulting {@code PositionSequence}.</p>
+ */
+public class PackedPositionsHolder extends LinearPositionsHolder {
+
+    final private double[] coordinates;
+    final private int coordinateDimension;
+
+    /**
+     * Creates an instance
+     *
+     * @param coordinates         the packed coordinates, ownership is transferred to this instance
+     * @param coordinateDimension the number of coordinates per position
+     */
+    public PackedPositionsHolder(double[] coordinates, int coordinateDimension) {
+        if (coordinateDimension <= 0 || coordinates.length % coordinateDimension != 0) {
+            throw new IllegalArgumentException(String.format("coordinate array size should be a multiple of %d. Current size = %d", coordinateDimension, coordinates.length));
+        }
+        this.coordinates = coordinates;
+        this.coordinateDimension = coordinateDimension;
+    }
+
+    @Override
+    public void push(PointHolder holder) {
+        throw new IllegalStateException("Can't push positions to a packed positions holder");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return coordinates.length == 0;
+    }
+
+    @Override
+    public int getCoordinateDimension() {
+        return isEmpty() ? 0 : coordinateDimension;
+    }
+
+    @Override
+    public <P extends Position> PositionSequence<P> toPositionSequence(CoordinateReferenceSystem<P> crs) {
+        int targetDim = crs.getCoordinateDimension();
+        if (targetDim == coordinateDimension) {
+            return PositionSequenceBuilders.fromPackedArray(coordinates, crs.getPositionClass());
+        }
+        int size = coordinates.length / coordinateDimension;
+        int common = Math.min(targetDim, coordinateDimension);
+        double[] target = new double[size * targetDim];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(coordinates, i * coordinateDimension, target, i * targetDim, common);
+        }
+        return PositionSequenceBuilders.fromPackedArray(target, crs.getPositionClass());
+    }
+
+}
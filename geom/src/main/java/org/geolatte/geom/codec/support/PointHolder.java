@@ -3,62 +3,53 @@ package org.geolatte.geom.codec.support;
 import org.geolatte.geom.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.DoubleStream;
 
 /**
  * Created by Karel Maesen, Geovise BVBA on 09/09/17.
  */
 public class PointHolder extends Holder {
 
-    final private List<Double> coordinates;
+    private double[] coordinates;
+    private int size = 0;
 
     public PointHolder() {
-        this.coordinates = new ArrayList<>(4);
+        this.coordinates = new double[4];
     }
 
     public PointHolder(double[] co) {
-        coordinates = DoubleStream.of(co)
-                .boxed()
-                .collect(Collectors.toList());
+        this.coordinates = Arrays.copyOf(co, co.length);
+        this.size = co.length;
     }
 
     public void push(double co) {
-        this.coordinates.add(co);
+        if (size == coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, size * 2 + 1);
+        }
+        this.coordinates[size++] = co;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.coordinates.size() == 0;
+        return this.size == 0;
     }
 
     public double[] getCoordinates() {
-        return coordinates.stream().mapToDouble(x -> x).toArray();
+        return Arrays.copyOf(coordinates, size);
     }
 
     @Override
     public int getCoordinateDimension() {
-        return this.coordinates.size();
+        return this.size;
     }
 
     public <P extends Position> P toPosition(CoordinateReferenceSystem<P> crs) {
-        double[] co = (this.getCoordinateDimension() != crs.getCoordinateDimension()) ?
-                toDimension(this.getCoordinates(), crs.getCoordinateDimension()) :
-                this.getCoordinates();
-        return Positions.mkPosition(crs.getPositionClass(), co);
-
+        return Positions.mkPosition(crs.getPositionClass(), Arrays.copyOf(coordinates, crs.getCoordinateDimension()));
     }
 
     public <P extends Position> Point<P> toGeometry(CoordinateReferenceSystem<P> crs, GeometryType geomType) {
-        if (isEmpty() || Double.isNaN(coordinates.get(0))) return Geometries.mkEmptyPoint(crs);
+        if (isEmpty() || Double.isNaN(coordinates[0])) return Geometries.mkEmptyPoint(crs);
         return Geometries.mkPoint(toPosition(crs), crs);
     }
 
-    private double[] toDimension(double[] orig, int targetDim) {
-        return Arrays.copyOf(orig, targetDim);
-    }
-
 }
@@ -1,4 +1,5 @@
 /**
- * This package contains data structures useful when decoding {@code Geometry}s from WKT/WKB or GEOJSON
+ * This package contains data structures useful when decoding {@code Geometry}s from WKT/WKB or GEOJSON, and helpers
+ * for encoding them
  */
 package org.geolatte.geom.codec.support;
\ No newline at end of file
@@ -29,10 +29,9 @@ import org.geolatte.geom.codec.WktDecodeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -41,61 +40,122 @@ import java.util.function.Function;
  *
  * <p>Currently, the registry is limited to EPSG-defined coordinate reference systems.</p>
  *
+ * <p>The EPSG definitions are loaded on demand: on first use the registry only indexes the spatial_ref_sys
+ * resource, and each definition is parsed when it is first looked up. The system property
+ * {@value #PRELOAD_PROPERTY} can be set to a comma-separated list of EPSG codes that are loaded when this class
+ * is initialized, or to {@code all} to load all definitions up-front.</p>
+ *
  * @author Karel Maesen, Geovise BVBA
  */
 public class CrsRegistry {
 
+    /**
+     * The name of the system property that lists the EPSG codes to load when this class is initialized.
+     */
+    final public static String PRELOAD_PROPERTY = "GEOLATTE_CRS_PRELOAD";
+
     final private static Logger LOGGER = LoggerFactory.getLogger(CrsRegistry.class);
     final private static ConcurrentHashMap<CrsId, CoordinateReferenceSystem<? extends Position>> crsMap =
-            new ConcurrentHashMap<>(4000);
+            new ConcurrentHashMap<>(64);
 
-    final private static String DELIM = "\\|";
+    final private static String RESOURCE = "spatial_ref_sys.txt";
+
+    //EPSG codes that are in the index, but whose definition can't be decoded
+    final private static Set<Integer> undecodable = ConcurrentHashMap.newKeySet();
+
+    private static volatile SpatialRefSysIndex index;
 
     static {
-        try {
-            loadCRS();
-        } catch (IOException e) {
-            throw new RuntimeException("Can't read spatial ref system definitions.");
+        String preload = System.getProperty(PRELOAD_PROPERTY);
+        if (preload != null && !preload.trim().isEmpty()) {
+            if (preload.trim().equalsIgnoreCase("all")) {
+                preloadAll();
+            } else {
+                int[] srids = parsePreload(preload);
+                if (srids != null) preload(srids);
+            }
         }
     }
 
-    private static void loadCRS() throws IOException {
-        BufferedReader reader = createReader();
+    static int[] parsePreload(String preload) {
         try {
-            String line = reader.readLine();
-            CrsWktDecoder decoder = new CrsWktDecoder();
-            while (line != null) {
-                addDefinition(line, decoder);
-                line = reader.readLine();
-            }
-        } finally {
-            reader.close();
+            return Arrays.stream(preload.split(","))
+                    .map(String::trim)
+                    .filter(code -> !code.isEmpty())
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+        } catch (NumberFormatException e) {
+            LOGGER.warn(String.format("Invalid value for %s: %s. No CRS definitions are preloaded.",
+                    PRELOAD_PROPERTY, preload));
+            return null;
         }
     }
 
-    private static BufferedReader createReader() {
-        InputStream in = CrsRegistry.class.getClassLoader().getResourceAsStream("spatial_ref_sys.txt");
-        if (in == null) {
-            throw new IllegalStateException("Can't find spatial_ref_sys definitions.");
+    private static SpatialRefSysIndex index() {
+        SpatialRefSysIndex result = index;
+        if (result == null) {
+            synchronized (CrsRegistry.class) {
+                result = index;
+                if (result == null) {
+                    try {
+                        result = SpatialRefSysIndex.build(RESOURCE);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Can't read spatial ref system definitions.", e);
+                    }
+                    index = result;
+                }
+            }
         }
-        return new BufferedReader(new InputStreamReader(in));
+        return result;
     }
 
-    private static void addDefinition(String line, CrsWktDecoder decoder) {
-        String[] tokens = line.split(DELIM);
-        if (!"EPSG".equals(tokens[0])) {
-            LOGGER.debug(String.format("Non-EPSG CRS ignored: %s", tokens[2]));
-            return;
-        }
-        int srid = Integer.parseInt(tokens[1]);
+    private static CoordinateReferenceSystem<? extends Position> lookup(CrsId crsId) {
+        CoordinateReferenceSystem<? extends Position> crs = crsMap.get(crsId);
+        if (crs != null || !isPlainEpsgId(crsId)) return crs;
+        crs = loadDefinition(crsId.getCode());
+        if (crs == null) return null;
+        CoordinateReferenceSystem<? extends Position> previous = crsMap.putIfAbsent(crsId, crs);
+        return previous != null ? previous : crs;
+    }
+
+    //only plain EPSG identifiers are defined in spatial_ref_sys, extended identifiers are registered on-the-fly
+    private static boolean isPlainEpsgId(CrsId crsId) {
+        return crsId.getClass() == CrsId.class && CrsId.DEFAULT_AUTHORITY.equals(crsId.getAuthority());
+    }
+
+    private static CoordinateReferenceSystem<?> loadDefinition(int srid) {
+        SpatialRefSysIndex idx = index();
+        if (!idx.contains(srid) || undecodable.contains(srid)) return null;
+        String wkt = idx.readDefinition(srid);
         try {
-            CoordinateReferenceSystem<?> crs = decoder.decode(tokens[2], srid);
-            crsMap.put(CrsId.valueOf(srid), crs);
+            return new CrsWktDecoder().decode(wkt, srid);
         } catch (WktDecodeException e) {
-            LOGGER.warn(String.format("Can't parse srid %d (%s). \n%s", srid, tokens[2], e.getMessage()));
+            LOGGER.warn(String.format("Can't parse srid %d (%s). \n%s", srid, wkt, e.getMessage()));
         } catch (RuntimeException e) {
-            LOGGER.warn(String.format("Can't parse srid %d (%s) -- inconsistent coordinate system. \n%s", srid, tokens[2], e.getMessage()));
+            LOGGER.warn(String.format("Can't parse srid %d (%s) -- inconsistent coordinate system. \n%s", srid, wkt, e.getMessage()));
         }
+        undecodable.add(srid);
+        return null;
+    }
+
+    /**
+     * Loads the definitions for the specified EPSG codes, so that later look-ups don't need to parse them.
+     *
+     * @param epsgCodes the EPSG codes to load
+     */
+    public static void preload(int... epsgCodes) {
+        for (int epsgCode : epsgCodes) {
+            lookup(CrsId.valueOf(epsgCode));
+        }
+    }
+
+    /**
+     * Loads all EPSG definitions, so that later look-ups don't need to parse them.
+     *
+     * <p>The definitions are parsed in a single pass over the index, in the order of their EPSG codes.</p>
+     */
+    public static void preloadAll() {
+        preload(index().srids());
     }
 
     /**
@@ -123,7 +183,7 @@ public class CrsRegistry {
     public static CoordinateReferenceSystem<?> getCoordinateReferenceSystem(CrsId crsId,
                                                                             CoordinateReferenceSystem<?>
                                                                                            fallback) {
-        CoordinateReferenceSystem<?> crs = crsMap.get(crsId);
+        CoordinateReferenceSystem<?> crs = lookup(crsId);
         return crs != null ? crs : fallback;
     }
 
@@ -159,7 +219,8 @@ public class CrsRegistry {
      * @return the current (existing or computed) coordinate reference system identified by the specified {@code CrsId} identifier
      */
     public static CoordinateReferenceSystem<?> computeIfAbsent(CrsId crsId, Function<? super CrsId, ? extends CoordinateReferenceSystem<? extends Position>> buildCrs) {
-        return crsMap.computeIfAbsent(crsId, buildCrs);
+        CoordinateReferenceSystem<?> crs = lookup(crsId);
+        return crs != null ? crs : crsMap.computeIfAbsent(crsId, buildCrs);
     }
 
     /**
@@ -189,7 +250,7 @@ public class CrsRegistry {
      * @return true iff the registry has a corresponding {@code CoordinateReferenceSystem}
      */
     public static boolean hasCoordinateReferenceSystemForEPSG(int epsgCode) {
-        return crsMap.containsKey(CrsId.valueOf(epsgCode));
+        return lookup(CrsId.valueOf(epsgCode)) != null;
     }
 
     /**
@@ -199,7 +260,7 @@ public class CrsRegistry {
      * @throws RuntimeException when the system is not geographic
      */
     public static Geographic2DCoordinateReferenceSystem getGeographicCoordinateReferenceSystemForEPSG(int epsgCode) {
-        CoordinateReferenceSystem<? extends Position> crs = crsMap.get(CrsId.valueOf(epsgCode));
+        CoordinateReferenceSystem<? extends Position> crs = lookup(CrsId.valueOf(epsgCode));
         if (crs == null) return null;
         if (crs.getPositionClass().equals(G2D.class)) {
             return (Geographic2DCoordinateReferenceSystem) crs;
@@ -214,7 +275,7 @@ public class CrsRegistry {
      * @throws RuntimeException when the system is not projected
      */
     public static ProjectedCoordinateReferenceSystem getProjectedCoordinateReferenceSystemForEPSG(int epsgCode) {
-        CoordinateReferenceSystem<? extends Position> crs = crsMap.get(CrsId.valueOf(epsgCode));
+        CoordinateReferenceSystem<? extends Position> crs = lookup(CrsId.valueOf(epsgCode));
         if (crs == null) return null;
         if (crs.getPositionClass().equals(C2D.class)) {
             return (ProjectedCoordinateReferenceSystem) crs;
@@ -231,7 +292,7 @@ public class CrsRegistry {
      */
     public static CrsId getCrsIdForEPSG(int epsgCode) {
         CrsId crsId = CrsId.valueOf(epsgCode);
-        return crsMap.containsKey(crsId) ? crsId : null;
+        return lookup(crsId) != null ? crsId : null;
     }
 
 }
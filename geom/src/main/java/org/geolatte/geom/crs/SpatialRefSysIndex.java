@@ -0,0 +1,200 @@
+/*
+ * This file is part of the GeoLatte project.
+ *
+ *     GeoLatte is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU Lesser General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     GeoLatte is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU Lesser General Public License for more details.
+ *
+ *     You should have received a copy of the GNU Lesser General Public License
+ *     along with GeoLatte.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.geolatte.geom.crs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An index of the EPSG definitions in a spatial_ref_sys resource.
+ *
+ * <p>Each line of the resource has the form {@code AUTHORITY|SRID|WKT[|PROJ4]}. The resource is read once, in a
+ * single pass, and only the bytes of the EPSG WKT definitions are kept, ordered by EPSG code. Definitions are
+ * decoded to Strings on demand, so that no WKT needs to be parsed before it is used, and no look-up needs to read
+ * the resource again.</p>
+ */
+class SpatialRefSysIndex {
+
+    private static final byte DELIM = '|';
+    private static final byte[] EPSG = "EPSG".getBytes(StandardCharsets.US_ASCII);
+
+    // sorted on srid, the offsets and lengths arrays are aligned to the srids array
+    private final int[] srids;
+    private final int[] offsets;
+    private final int[] lengths;
+    // the WKT definitions, in the order of the srids array
+    private final byte[] definitions;
+
+    private SpatialRefSysIndex(int[] srids, int[] offsets, int[] lengths, byte[] definitions) {
+        this.srids = srids;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.definitions = definitions;
+    }
+
+    /**
+     * Reads the specified class path resource and builds the index.
+     *
+     * @param resource the name of the class path resource
+     * @return the index for the resource
+     * @throws IOException if the resource can't be read
+     * @throws IllegalStateException if the resource can't be found
+     */
+    static SpatialRefSysIndex build(String resource) throws IOException {
+        try (InputStream in = open(resource)) {
+            return scan(in.readAllBytes());
+        }
+    }
+
+    private static SpatialRefSysIndex scan(byte[] data) {
+        int[] srids = new int[4096];
+        int[] offsets = new int[4096];
+        int[] lengths = new int[4096];
+        int count = 0;
+
+        int pos = 0;
+        int end = data.length;
+        while (pos < end) {
+            // at start of line: match the authority
+            boolean isEpsg = true;
+            int authLength = 0;
+            while (pos < end && data[pos] != DELIM && data[pos] != '\n') {
+                isEpsg &= authLength < EPSG.length && EPSG[authLength] == data[pos];
+                authLength++;
+                pos++;
+            }
+            isEpsg &= authLength == EPSG.length && pos < end && data[pos] == DELIM;
+
+            // then the srid
+            int srid = 0;
+            boolean hasSrid = false;
+            if (pos < end && data[pos] == DELIM) {
+                pos++;
+                while (pos < end && data[pos] >= '0' && data[pos] <= '9') {
+                    srid = srid * 10 + (data[pos] - '0');
+                    hasSrid = true;
+                    pos++;
+                }
+            }
+
+            // then the definition
+            boolean hasDefinition = pos < end && data[pos] == DELIM;
+            if (hasDefinition) {
+                pos++;
+            }
+            int start = pos;
+            while (pos < end && data[pos] != DELIM && data[pos] != '\n') {
+                pos++;
+            }
+            int length = pos - start;
+            if (length > 0 && data[start + length - 1] == '\r') length--;
+
+            // skip any remaining fields (e.g. the proj4 definition) and the line end
+            while (pos < end && data[pos] != '\n') {
+                pos++;
+            }
+            pos++;
+
+            if (isEpsg && hasSrid && hasDefinition) {
+                if (count == srids.length) {
+                    srids = Arrays.copyOf(srids, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                }
+                srids[count] = srid;
+                offsets[count] = start;
+                lengths[count] = length;
+                count++;
+            }
+        }
+        return sorted(data, count, srids, offsets, lengths);
+    }
+
+    // sorts the entries on srid, and copies their definitions in that order into a compact array
+    private static SpatialRefSysIndex sorted(byte[] data, int count, int[] srids, int[] offsets, int[] lengths) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) srids[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedSrids = new int[count];
+        int[] sortedIdx = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int idx = (int) keys[i];
+            // when an EPSG code is defined more than once, the last definition wins
+            if (n > 0 && sortedSrids[n - 1] == srids[idx]) n--;
+            sortedSrids[n] = srids[idx];
+            sortedIdx[n] = idx;
+            n++;
+        }
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            total += lengths[sortedIdx[i]];
+        }
+        byte[] definitions = new byte[total];
+        int[] sortedOffsets = new int[n];
+        int[] sortedLengths = new int[n];
+        int offset = 0;
+        for (int i = 0; i < n; i++) {
+            int idx = sortedIdx[i];
+            System.arraycopy(data, offsets[idx], definitions, offset, lengths[idx]);
+            sortedOffsets[i] = offset;
+            sortedLengths[i] = lengths[idx];
+            offset += lengths[idx];
+        }
+        return new SpatialRefSysIndex(Arrays.copyOf(sortedSrids, n), sortedOffsets, sortedLengths, definitions);
+    }
+
+    /**
+     * Returns true if the resource has a definition for the specified EPSG code.
+     */
+    boolean contains(int srid) {
+        return Arrays.binarySearch(srids, srid) >= 0;
+    }
+
+    /**
+     * Returns all EPSG codes in the index, in ascending order.
+     */
+    int[] srids() {
+        return srids.clone();
+    }
+
+    /**
+     * Returns the WKT definition for the specified EPSG code.
+     *
+     * @param srid the EPSG code
+     * @return the WKT definition, or null if the resource has no definition for the EPSG code
+     */
+    String readDefinition(int srid) {
+        int idx = Arrays.binarySearch(srids, srid);
+        if (idx < 0) return null;
+        return new String(definitions, offsets[idx], lengths[idx], StandardCharsets.UTF_8);
+    }
+
+    private static InputStream open(String resource) {
+        InputStream in = SpatialRefSysIndex.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("Can't find spatial_ref_sys definitions.");
+        }
+        return in;
+    }
+
+}
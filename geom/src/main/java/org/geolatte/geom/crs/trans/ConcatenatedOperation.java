@@ -5,24 +5,31 @@ import java.util.List;
 
 /**
  * Created by Karel Maesen, Geovise BVBA on 21/07/17.
+ *
+ * <p>Instances are immutable and hold no intermediate state between calls, so they can safely be shared between
+ * threads.</p>
  */
 public class ConcatenatedOperation implements CoordinateOperation {
 
     final private CoordinateOperation[] coordinateOperations;
-    private double[][] buffers;
+    //the largest coordinate dimension of any of the intermediate results
+    final private int maxDimension;
 
     private ConcatenatedOperation(List<CoordinateOperation> coordinateOperations) {
         this.coordinateOperations = coordinateOperations.toArray( new CoordinateOperation[coordinateOperations.size()]);
-        setupIntermediateBuffers();
+        checkDimensions();
+        int max = 0;
+        for (CoordinateOperation op : this.coordinateOperations) {
+            max = Math.max(max, Math.max(op.inCoordinateDimension(), op.outCoordinateDimension()));
+        }
+        this.maxDimension = max;
     }
 
-    private void setupIntermediateBuffers(){
-        this.buffers = new double[this.coordinateOperations.length + 1][];
+    private void checkDimensions(){
         for( int idx = 0; idx < coordinateOperations.length-1; idx++) {
             if (coordinateOperations[idx].outCoordinateDimension() != coordinateOperations[idx+1].inCoordinateDimension()) {
                 throw new IllegalArgumentException("Coordinate dimensions don't match at step " + idx);
             }
-            this.buffers[idx+1] =new double[coordinateOperations[idx].outCoordinateDimension()];
         }
     }
 
@@ -46,24 +53,91 @@ public class ConcatenatedOperation implements CoordinateOperation {
 
     @Override
     public void forward(double[] inCoordinate, double[] outCoordinate) {
-        buffers[0] = inCoordinate;
-        buffers[buffers.length - 1] = outCoordinate;
-        for ( int idx = 0; idx < coordinateOperations.length; idx++ ) {
-                CoordinateOperation t = coordinateOperations[idx];
-                t.forward(buffers[idx], buffers[idx + 1]);
+        //intermediate results go in per-call buffers, so that concurrent calls don't interfere. Two buffers of the
+        //largest dimension suffice, as each step only reads the result of the previous one.
+        if (coordinateOperations.length == 0) return;
+        double[] in = inCoordinate;
+        double[] out = coordinateOperations.length > 1 ? new double[maxDimension] : null;
+        double[] spare = coordinateOperations.length > 2 ? new double[maxDimension] : null;
+        int last = coordinateOperations.length - 1;
+        for ( int idx = 0; idx < last; idx++ ) {
+            coordinateOperations[idx].forward(in, out);
+            double[] done = out;
+            out = in == inCoordinate ? spare : in;
+            in = done;
         }
+        coordinateOperations[last].forward(in, outCoordinate);
     }
 
     @Override
     public void reverse(double[] inCoordinate, double[] outCoordinate) {
-        buffers[0] = outCoordinate;
-        buffers[buffers.length - 1] = inCoordinate;
-        for ( int idx = coordinateOperations.length-1; idx >= 0; idx-- ) {
-            CoordinateOperation t = coordinateOperations[idx];
-            t.reverse(buffers[idx+1], buffers[idx]);
+        if (coordinateOperations.length == 0) return;
+        double[] in = inCoordinate;
+        double[] out = coordinateOperations.length > 1 ? new double[maxDimension] : null;
+        double[] spare = coordinateOperations.length > 2 ? new double[maxDimension] : null;
+        for ( int idx = coordinateOperations.length-1; idx > 0; idx-- ) {
+            coordinateOperations[idx].reverse(in, out);
+            double[] done = out;
+            out = in == inCoordinate ? spare : in;
+            in = done;
+        }
+        coordinateOperations[0].reverse(in, outCoordinate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The positions are run as a whole through each step in turn. When the stride leaves no room for the
+     * intermediate results, the positions are first copied to a scratch array that does.</p>
+     */
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        if (coordinateOperations.length == 0) return;
+        if (stride >= maxDimension) {
+            coordinateOperations[0].forward(src, srcOff, dst, dstOff, count, stride);
+            for (int idx = 1; idx < coordinateOperations.length; idx++) {
+                coordinateOperations[idx].forward(dst, dstOff, dst, dstOff, count, stride);
+            }
+            return;
+        }
+        double[] scratch = toScratch(src, srcOff, count, stride, inCoordinateDimension());
+        for (CoordinateOperation op : coordinateOperations) {
+            op.forward(scratch, 0, scratch, 0, count, maxDimension);
+        }
+        fromScratch(scratch, dst, dstOff, count, stride, outCoordinateDimension());
+    }
+
+    @Override
+    public void reverse(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        if (coordinateOperations.length == 0) return;
+        int last = coordinateOperations.length - 1;
+        if (stride >= maxDimension) {
+            coordinateOperations[last].reverse(src, srcOff, dst, dstOff, count, stride);
+            for (int idx = last - 1; idx >= 0; idx--) {
+                coordinateOperations[idx].reverse(dst, dstOff, dst, dstOff, count, stride);
+            }
+            return;
+        }
+        double[] scratch = toScratch(src, srcOff, count, stride, outCoordinateDimension());
+        for (int idx = last; idx >= 0; idx--) {
+            coordinateOperations[idx].reverse(scratch, 0, scratch, 0, count, maxDimension);
+        }
+        fromScratch(scratch, dst, dstOff, count, stride, inCoordinateDimension());
+    }
+
+    private double[] toScratch(double[] src, int srcOff, int count, int stride, int dim) {
+        double[] scratch = new double[count * maxDimension];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(src, srcOff + i * stride, scratch, i * maxDimension, dim);
         }
+        return scratch;
     }
 
+    private void fromScratch(double[] scratch, double[] dst, int dstOff, int count, int stride, int dim) {
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(scratch, i * maxDimension, dst, dstOff + i * stride, dim);
+        }
+    }
 
     public static class Builder {
 
@@ -137,6 +211,24 @@ public class ConcatenatedOperation implements CoordinateOperation {
                 this.coordinateOperation.forward( inCoordinate, outCoordinate);
             }
         }
+
+        @Override
+        public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+            if(direction == FORWARD) {
+                this.coordinateOperation.forward(src, srcOff, dst, dstOff, count, stride);
+            } else {
+                this.coordinateOperation.reverse(src, srcOff, dst, dstOff, count, stride);
+            }
+        }
+
+        @Override
+        public void reverse(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+            if(direction == FORWARD) {
+                this.coordinateOperation.reverse(src, srcOff, dst, dstOff, count, stride);
+            } else {
+                this.coordinateOperation.forward(src, srcOff, dst, dstOff, count, stride);
+            }
+        }
     }
 
 }
@@ -17,6 +17,54 @@ public interface CoordinateOperation {
 
     void reverse(double[] inCoordinate, double[] outCoordinate);
 
+    /**
+     * Transforms {@code count} positions in the forward direction.
+     *
+     * <p>The positions are read from {@code src} starting at index {@code srcOff}, and written to {@code dst}
+     * starting at index {@code dstOff}. In both arrays consecutive positions are {@code stride} ordinates apart, so
+     * {@code stride} must not be smaller than either the in- or the out-coordinate dimension. The source and
+     * destination may be the same array, in which case the positions are transformed in place.</p>
+     *
+     * @param src the array holding the source coordinates
+     * @param srcOff the index of the first source ordinate
+     * @param dst the array that receives the transformed coordinates
+     * @param dstOff the index of the first destination ordinate
+     * @param count the number of positions to transform
+     * @param stride the number of array elements between the start of consecutive positions
+     */
+    default void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        double[] in = new double[inCoordinateDimension()];
+        double[] out = new double[outCoordinateDimension()];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(src, srcOff + i * stride, in, 0, in.length);
+            forward(in, out);
+            System.arraycopy(out, 0, dst, dstOff + i * stride, out.length);
+        }
+    }
+
+    /**
+     * Transforms {@code count} positions in the reverse direction.
+     *
+     * <p>The layout of the source and destination arrays is as for
+     * {@link #forward(double[], int, double[], int, int, int)}.</p>
+     *
+     * @param src the array holding the source coordinates
+     * @param srcOff the index of the first source ordinate
+     * @param dst the array that receives the transformed coordinates
+     * @param dstOff the index of the first destination ordinate
+     * @param count the number of positions to transform
+     * @param stride the number of array elements between the start of consecutive positions
+     */
+    default void reverse(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        double[] in = new double[outCoordinateDimension()];
+        double[] out = new double[inCoordinateDimension()];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(src, srcOff + i * stride, in, 0, in.length);
+            reverse(in, out);
+            System.arraycopy(out, 0, dst, dstOff + i * stride, out.length);
+        }
+    }
+
     /**
      * Creates a new {@code CoordinateOperation} from this instance by appending and the specified instance in the forward direction;
      *
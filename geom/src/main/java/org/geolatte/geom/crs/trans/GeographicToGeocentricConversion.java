@@ -63,6 +63,21 @@ public class GeographicToGeocentricConversion implements CoordinateOperation, Wi
 
     }
 
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            double phi = toRadians(src[s + 1]);
+            double lon = toRadians(src[s] - primeMerid);
+            double h = src[s + 2];
+            double sinPhi = sin(phi);
+            double primeVerticalRadius = semiMajorAxis / sqrt(1 - eccentricity2 * sinPhi * sinPhi);
+            double vhc = (primeVerticalRadius + h) * cos(phi);
+            dst[d] = vhc * cos(lon);
+            dst[d + 1] = vhc * sin(lon);
+            dst[d + 2] = ((1 - eccentricity2) * primeVerticalRadius + h) * sinPhi;
+        }
+    }
+
     @Override
     public void reverse(double[] inCoordinate, double[] outCoordinate) {
         double x = inCoordinate[0];
@@ -78,6 +78,18 @@ public class PositionVectorTransformation implements CoordinateOperation, WithEp
         outCoordinate[2] = m * (-ry*sx + rx*sy + sz) + tz;
     }
 
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            double sx = src[s];
+            double sy = src[s + 1];
+            double sz = src[s + 2];
+            dst[d] = m * (sx - rz*sy + ry*sz) + tx;
+            dst[d + 1] = m * (rz * sx + sy - rx*sz) + ty;
+            dst[d + 2] = m * (-ry*sx + rx*sy + sz) + tz;
+        }
+    }
+
     @Override
     public void reverse(double[] inCoordinate, double[] outCoordinate) {
         // the rotation matrix is orthogonal, so the inverse matrix equals the transpose
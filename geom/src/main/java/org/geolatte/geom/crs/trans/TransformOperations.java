@@ -3,6 +3,9 @@ package org.geolatte.geom.crs.trans;
 import org.geolatte.geom.Position;
 import org.geolatte.geom.crs.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -10,9 +13,84 @@ import java.util.Optional;
  */
 public class TransformOperations {
 
+   /**
+    * The maximum number of operations that are cached.
+    */
+   final public static int MAX_CACHE_SIZE = 256;
 
+   //guarded by itself; in access order, so that the least recently used operation is evicted first
+   final private static Map<OperationKey, TransformOperation<?, ?>> cache =
+           new LinkedHashMap<OperationKey, TransformOperation<?, ?>>(64, 0.75f, true) {
+               @Override
+               protected boolean removeEldestEntry(Map.Entry<OperationKey, TransformOperation<?, ?>> eldest) {
+                   return size() > MAX_CACHE_SIZE;
+               }
+           };
+
+   /**
+    * Returns the {@code TransformOperation} from the source to the target coordinate reference system.
+    *
+    * <p>Operations are immutable and safe for concurrent use, so they are created once for each pair of
+    * reference systems and shared by all subsequent callers. At most {@value #MAX_CACHE_SIZE} operations are
+    * cached; when more pairs are used, the least recently used operation is dropped from the cache.</p>
+    *
+    * @param source the source coordinate reference system
+    * @param target the target coordinate reference system
+    * @return the {@code TransformOperation} from source to target
+    * @throws UnsupportedTransformException when no transform could be determined
+    */
+   @SuppressWarnings("unchecked")
    public static <P extends Position, Q extends Position> TransformOperation<P,Q> from(CoordinateReferenceSystem<P> source, CoordinateReferenceSystem<Q> target){
-       return new DefaultTransformOperation<>(source, target);
+       OperationKey key = new OperationKey(source, target);
+       TransformOperation<?, ?> op;
+       synchronized (cache) {
+           op = cache.get(key);
+       }
+       if (op != null) return (TransformOperation<P, Q>) op;
+       //build outside the lock, so that slow builds don't block look-ups of other operations
+       TransformOperation<P, Q> created = new DefaultTransformOperation<>(source, target);
+       synchronized (cache) {
+           TransformOperation<?, ?> previous = cache.putIfAbsent(key, created);
+           return previous != null ? (TransformOperation<P, Q>) previous : created;
+       }
+   }
+
+   /**
+    * Removes all cached operations.
+    */
+   public static void clearCache() {
+       synchronized (cache) {
+           cache.clear();
+       }
+   }
+
+   static int cacheSize() {
+       synchronized (cache) {
+           return cache.size();
+       }
+   }
+
+   private static final class OperationKey {
+       final private CoordinateReferenceSystem<?> source;
+       final private CoordinateReferenceSystem<?> target;
+
+       OperationKey(CoordinateReferenceSystem<?> source, CoordinateReferenceSystem<?> target) {
+           this.source = source;
+           this.target = target;
+       }
+
+       @Override
+       public boolean equals(Object o) {
+           if (this == o) return true;
+           if (o == null || getClass() != o.getClass()) return false;
+           OperationKey that = (OperationKey) o;
+           return source.equals(that.source) && target.equals(that.target);
+       }
+
+       @Override
+       public int hashCode() {
+           return Objects.hash(source, target);
+       }
    }
 }
 
@@ -20,7 +98,7 @@ class DefaultTransformOperation<P extends Position, Q extends Position> implemen
 
     final private CoordinateReferenceSystem<P> source;
     final private CoordinateReferenceSystem<Q> target;
-    private CoordinateOperation op;
+    final private CoordinateOperation op;
 
     DefaultTransformOperation(CoordinateReferenceSystem<P> source, CoordinateReferenceSystem<Q> target) {
         this.source = source;
@@ -49,14 +127,15 @@ class DefaultTransformOperation<P extends Position, Q extends Position> implemen
         } else {
             targetBase = (SingleCoordinateReferenceSystem<?>) target;
         }
-        op = CoordinateOperations.transform(sourceBase, targetBase);
+        CoordinateOperation baseOp = CoordinateOperations.transform(sourceBase, targetBase);
 
         if (targetVertical != null || sourceVertical != null) {
-            op = extend(op, sourceVertical, targetVertical);
+            baseOp = extend(baseOp, sourceVertical, targetVertical);
         }
         if (targetLinear != null || sourceLinear != null) {
-            op = extend(op, sourceLinear, targetLinear);
+            baseOp = extend(baseOp, sourceLinear, targetLinear);
         }
+        this.op = baseOp;
 
     }
 
@@ -103,11 +182,11 @@ class DefaultTransformOperation<P extends Position, Q extends Position> implemen
  */
 class ExtendedCoordinateOperation implements CoordinateOperation {
     private final CoordinateOperation baseOp;
-    private OneDimensionCoordinateReferenceSystem source;
-    private OneDimensionCoordinateReferenceSystem target;
+    private final OneDimensionCoordinateReferenceSystem source;
+    private final OneDimensionCoordinateReferenceSystem target;
     private final int inCoDim;
     private final int outCoDim;
-    double convFactor = 1.0;
+    private final double convFactor;
 
     ExtendedCoordinateOperation(CoordinateOperation baseOp, OneDimensionCoordinateReferenceSystem source, final OneDimensionCoordinateReferenceSystem target) {
         this.baseOp = baseOp;
@@ -115,9 +194,8 @@ class ExtendedCoordinateOperation implements CoordinateOperation {
         this.target = target;
         this.inCoDim =  (source != null) ? baseOp.inCoordinateDimension() +1 :  baseOp.inCoordinateDimension();
         this.outCoDim = target != null ? baseOp.outCoordinateDimension() +1 : baseOp.outCoordinateDimension();
-        if(source != null && target != null) {
-            convFactor = source.getUnit().getConversionFactor() / target.getUnit().getConversionFactor();
-        }
+        this.convFactor = (source != null && target != null) ?
+                source.getUnit().getConversionFactor() / target.getUnit().getConversionFactor() : 1.0;
     }
 
     @Override
@@ -158,4 +236,51 @@ class ExtendedCoordinateOperation implements CoordinateOperation {
             outCoordinate[inCoDim-1] = inCoordinate[outCoDim -1] / convFactor;
         }
     }
+
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        if (source == null || target == null) {
+            baseOp.forward(src, srcOff, dst, dstOff, count, stride);
+            if (target != null) {
+                fill(dst, dstOff + outCoDim - 1, count, stride, 0d);
+            }
+            return;
+        }
+        //the base operation may overwrite the extra ordinate when transforming in place, so save it first
+        double[] extra = extract(src, srcOff + inCoDim - 1, count, stride, convFactor);
+        baseOp.forward(src, srcOff, dst, dstOff, count, stride);
+        for (int i = 0, d = dstOff + outCoDim - 1; i < count; i++, d += stride) {
+            dst[d] = extra[i];
+        }
+    }
+
+    @Override
+    public void reverse(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        if (source == null || target == null) {
+            baseOp.reverse(src, srcOff, dst, dstOff, count, stride);
+            if (source != null) {
+                fill(dst, dstOff + inCoDim - 1, count, stride, 0d);
+            }
+            return;
+        }
+        double[] extra = extract(src, srcOff + outCoDim - 1, count, stride, 1 / convFactor);
+        baseOp.reverse(src, srcOff, dst, dstOff, count, stride);
+        for (int i = 0, d = dstOff + inCoDim - 1; i < count; i++, d += stride) {
+            dst[d] = extra[i];
+        }
+    }
+
+    private static double[] extract(double[] src, int start, int count, int stride, double factor) {
+        double[] result = new double[count];
+        for (int i = 0, s = start; i < count; i++, s += stride) {
+            result[i] = factor * src[s];
+        }
+        return result;
+    }
+
+    private static void fill(double[] dst, int start, int count, int stride, double value) {
+        for (int i = 0, d = start; i < count; i++, d += stride) {
+            dst[d] = value;
+        }
+    }
 }
\ No newline at end of file
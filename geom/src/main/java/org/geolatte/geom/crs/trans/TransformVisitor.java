@@ -4,19 +4,68 @@ import org.geolatte.geom.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Created by Karel Maesen, Geovise BVBA on 2019-03-27.
+ *
+ * <p>By default geometries are transformed on the calling thread. A visitor can be created to transform the
+ * position sequences of large geometries in parallel: when a {@code LineString}, {@code Polygon} or geometry
+ * collection has at least the specified number of positions, all its position sequences are split in chunks that
+ * are transformed on a {@code ForkJoinPool}, writing directly into the coordinate arrays of the result.</p>
  */
 public class TransformVisitor<P extends Position, Q extends Position> implements GeometryVisitor<P> {
 
+    /**
+     * The maximum number of positions transformed in one parallel task.
+     */
+    final public static int CHUNK_SIZE = 8192;
+
     final private TransformOperation<P, Q> operation;
+    final private ForkJoinPool pool;
+    final private int parallelThreshold;
     private Stack<Geometry<Q>> transformed = new Stack<>();
 
+    //the position sequences that have been transformed up-front in parallel, and the geometry they belong to
+    private Map<PositionSequence<P>, PositionSequence<Q>> prepared;
+    private Geometry<P> preparedFor;
+
     public TransformVisitor(TransformOperation<P, Q> op) {
+        this(op, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a visitor that transforms geometries with at least {@code parallelThreshold} positions in parallel on
+     * the common {@code ForkJoinPool}.
+     *
+     * @param op the transform operation
+     * @param parallelThreshold the minimum number of positions for a geometry to be transformed in parallel
+     */
+    public TransformVisitor(TransformOperation<P, Q> op, int parallelThreshold) {
+        this(op, ForkJoinPool.commonPool(), parallelThreshold);
+    }
+
+    /**
+     * Creates a visitor that transforms geometries with at least {@code parallelThreshold} positions in parallel on
+     * the specified {@code ForkJoinPool}.
+     *
+     * @param op the transform operation
+     * @param pool the pool that executes the parallel tasks, or null to always transform on the calling thread
+     * @param parallelThreshold the minimum number of positions for a geometry to be transformed in parallel
+     */
+    public TransformVisitor(TransformOperation<P, Q> op, ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be strictly positive");
+        }
         this.operation = op;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -24,10 +73,11 @@ public class TransformVisitor<P extends Position, Q extends Position> implements
      */
     public void reset(){
         transformed.clear();
+        release();
     }
 
     public TransformVisitor<Q,P> reversed(){
-        return new TransformVisitor(this.operation.reversed());
+        return new TransformVisitor<>(this.operation.reversed(), this.pool, this.parallelThreshold);
     }
 
     @Override
@@ -45,10 +95,9 @@ public class TransformVisitor<P extends Position, Q extends Position> implements
         if (lineString.isEmpty()) {
             transformed.push(new LineString<>(operation.getTarget()));
         } else {
-
-            ConvertingVisitor llv = new ConvertingVisitor( lineString.getNumPositions());
-            lineString.getPositions().accept(llv);
-            transformed.push(new LineString<>(llv.build(), operation.getTarget()));
+            boolean owner = prepareIfLarge(lineString);
+            transformed.push(new LineString<>(transform(lineString.getPositions()), operation.getTarget()));
+            if (owner) release();
         }
 
     }
@@ -58,20 +107,21 @@ public class TransformVisitor<P extends Position, Q extends Position> implements
         if (polygon.isEmpty()) {
             transformed.push(new Polygon<>(operation.getTarget()));
         } else {
+            boolean owner = prepareIfLarge(polygon);
             LinearRing<Q>[] rings = (LinearRing<Q>[]) new LinearRing[polygon.getNumInteriorRing()+1];
             int idx = 0;
             for (LinearRing<P> ring: polygon.components()) {
-                ConvertingVisitor llv = new ConvertingVisitor( ring.getNumPositions());
-                ring.getPositions().accept(llv);
-                rings[idx++] = new LinearRing<Q>(llv.build(), operation.getTarget());
+                rings[idx++] = new LinearRing<Q>(transform(ring.getPositions()), operation.getTarget());
             }
             transformed.push(new Polygon<>(rings));
+            if (owner) release();
         }
     }
 
     @Override
     public <G extends Geometry<P>> void visit(AbstractGeometryCollection<P, G> collection) {
         transformed.push(null); //add NULL marker
+        prepareIfLarge(collection);
     }
 
     @Override
@@ -84,31 +134,164 @@ public class TransformVisitor<P extends Position, Q extends Position> implements
         }
         Collections.reverse(parts);
         transformed.push(Geometries.mkGeometry(collection.getClass(), parts));
+        if (preparedFor == collection) release();
     }
 
     public Geometry<Q> getTransformed() {
             return transformed.pop();
     }
 
-    private class ConvertingVisitor implements LLAPositionVisitor {
+    private PositionSequence<Q> transform(PositionSequence<P> positions) {
+        if (prepared != null) {
+            PositionSequence<Q> result = prepared.get(positions);
+            if (result != null) return result;
+        }
+        double[] target = new double[positions.size() * operation.getTarget().getCoordinateDimension()];
+        transform(positions, 0, positions.size(), target);
+        return PositionSequenceBuilders.fromPackedArray(target, operation.getTarget().getPositionClass());
+    }
 
-        final private PositionSequenceBuilder<Q> builder;
-        final private double[] coordinates;
+    /**
+     * Transforms the positions in the range [from, to) of the sequence in one bulk operation, and writes the result
+     * in the corresponding range of the target array.
+     */
+    private void transform(PositionSequence<P> positions, int from, int to, double[] target) {
+        CoordinateOperation op = operation.getOperation();
+        int inDim = operation.getSource().getCoordinateDimension();
+        int outDim = operation.getTarget().getCoordinateDimension();
+        int stride = Math.max(inDim, outDim);
+        int count = to - from;
 
-        ConvertingVisitor(int size ) {
-            builder = PositionSequenceBuilders.fixedSized(size, operation.getTarget().getPositionClass());
-            int coordinateDimension =  operation.getTarget().getCoordinateDimension();
-            coordinates = new double[coordinateDimension];
+        //when the stride equals the target dimension, the positions are transformed in place in the target array
+        double[] coordinates = stride == outDim ? target : new double[count * stride];
+        int offset = stride == outDim ? from * outDim : 0;
+
+        double[] buffer = new double[positions.getCoordinateDimension()];
+        int copied = Math.min(inDim, buffer.length);
+        for (int i = 0; i < count; i++) {
+            positions.getCoordinates(from + i, buffer);
+            System.arraycopy(buffer, 0, coordinates, offset + i * stride, copied);
         }
 
-        @Override
-        public void visit(double[] inCoordinates) {
-            operation.getOperation().forward(inCoordinates, coordinates);
-            builder.add(coordinates);
+        op.forward(coordinates, offset, coordinates, offset, count, stride);
+
+        if (coordinates != target) {
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(coordinates, i * stride, target, (from + i) * outDim, outDim);
+            }
+        }
+    }
+
+    private boolean prepareIfLarge(Geometry<P> geometry) {
+        if (pool == null || prepared != null || geometry.getNumPositions() < parallelThreshold) {
+            return false;
         }
+        List<PositionSequence<P>> sequences = new ArrayList<>();
+        collectSequences(geometry, sequences, Collections.newSetFromMap(new IdentityHashMap<>()));
 
-        PositionSequence<Q> build() {
-            return builder.toPositionSequence();
+        int outDim = operation.getTarget().getCoordinateDimension();
+        double[][] targets = new double[sequences.size()][];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new double[sequences.get(i).size() * outDim];
+        }
+        pool.invoke(new ChunkTask(chunk(sequences), sequences, targets));
+
+        prepared = new IdentityHashMap<>();
+        for (int i = 0; i < targets.length; i++) {
+            prepared.put(sequences.get(i),
+                    PositionSequenceBuilders.fromPackedArray(targets[i], operation.getTarget().getPositionClass()));
+        }
+        preparedFor = geometry;
+        return true;
+    }
+
+    private void release() {
+        prepared = null;
+        preparedFor = null;
+    }
+
+    private void collectSequences(Geometry<P> geometry, List<PositionSequence<P>> sequences, Set<PositionSequence<P>> seen) {
+        if (geometry.isEmpty()) return;
+        if (geometry instanceof LineString) {
+            PositionSequence<P> positions = geometry.getPositions();
+            if (seen.add(positions)) sequences.add(positions);
+        } else if (geometry instanceof Polygon) {
+            for (LinearRing<P> ring : ((Polygon<P>) geometry).components()) {
+                collectSequences(ring, sequences, seen);
+            }
+        } else if (geometry instanceof AbstractGeometryCollection) {
+            for (Geometry<P> part : ((AbstractGeometryCollection<P, ?>) geometry).components()) {
+                collectSequences(part, sequences, seen);
+            }
+        }
+    }
+
+    /**
+     * Divides the positions of the sequences in chunks of at most {@link #CHUNK_SIZE} positions. Small sequences
+     * are grouped in one chunk, large sequences are split over several chunks.
+     */
+    private static List<List<int[]>> chunk(List<? extends PositionSequence<?>> sequences) {
+        List<List<int[]>> chunks = new ArrayList<>();
+        List<int[]> current = new ArrayList<>();
+        int fill = 0;
+        for (int seq = 0; seq < sequences.size(); seq++) {
+            int size = sequences.get(seq).size();
+            int from = 0;
+            while (from < size) {
+                int to = Math.min(size, from + CHUNK_SIZE - fill);
+                current.add(new int[]{seq, from, to});
+                fill += to - from;
+                from = to;
+                if (fill == CHUNK_SIZE) {
+                    chunks.add(current);
+                    current = new ArrayList<>();
+                    fill = 0;
+                }
+            }
+        }
+        if (!current.isEmpty()) chunks.add(current);
+        return chunks;
+    }
+
+    /**
+     * Transforms a range of chunks, splitting the range until a single chunk remains. Each chunk consists of
+     * (sequence index, from, to) segments.
+     */
+    private class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        final private List<List<int[]>> chunks;
+        final private List<PositionSequence<P>> sequences;
+        final private double[][] targets;
+        final private int lo;
+        final private int hi;
+
+        ChunkTask(List<List<int[]>> chunks, List<PositionSequence<P>> sequences, double[][] targets) {
+            this(chunks, sequences, targets, 0, chunks.size());
+        }
+
+        private ChunkTask(List<List<int[]>> chunks, List<PositionSequence<P>> sequences, double[][] targets, int lo, int hi) {
+            this.chunks = chunks;
+            this.sequences = sequences;
+            this.targets = targets;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new ChunkTask(chunks, sequences, targets, lo, mid),
+                        new ChunkTask(chunks, sequences, targets, mid, hi));
+                return;
+            }
+            for (int c = lo; c < hi; c++) {
+                for (int[] segment : chunks.get(c)) {
+                    transform(sequences.get(segment[0]), segment[1], segment[2], targets[segment[0]]);
+                }
+            }
         }
     }
 
@@ -31,14 +31,14 @@ public class LambertConformalConic2SP implements CoordinateOperation, WithEpsgGO
     private final double a; // semi-major axis
 
     //general parameters
-    double m1;
-    double m2;
-    double t1;
-    double t2;
-    double tF;
-    double n;
-    double F;
-    double rF;
+    final private double m1;
+    final private double m2;
+    final private double t1;
+    final private double t2;
+    final private double tF;
+    final private double n;
+    final private double F;
+    final private double rF;
 
 
     static LambertConformalConic2SP fromCrsParameters(GeographicCoordinateReferenceSystem baseCrs, List<CrsParameter> params) {
@@ -115,6 +115,19 @@ public class LambertConformalConic2SP implements CoordinateOperation, WithEpsgGO
         outCoordinate[1] = northingAtFO + rF - r * cos(theta);
     }
 
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        double aF = a * F;
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            double phi = toRadians(src[s + 1]);
+            double lambda = toRadians(src[s]);
+            double r = aF * pow(t(phi), n);
+            double theta = n * (lambda - lonOfFO);
+            dst[d] = eastingAtFO + r * sin(theta);
+            dst[d + 1] = northingAtFO + rF - r * cos(theta);
+        }
+    }
+
     @Override
     public void reverse(double[] inCoordinate, double[] outCoordinate) {
         double E = inCoordinate[0];
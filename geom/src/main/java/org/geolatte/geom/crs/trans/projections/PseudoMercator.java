@@ -14,9 +14,19 @@ import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
 
 /**
  * Created by Karel Maesen, Geovise BVBA on 02/04/2018.
+ *
+ * <p>The constants of the projection formulas are computed once, so that each position only needs the
+ * transcendental functions that depend on it. The bulk {@code forward} and {@code reverse} methods run these
+ * formulas in a single loop over the coordinate array.</p>
  */
 public class PseudoMercator implements CoordinateOperation, WithEpsgGOperationMethod {
 
+    private static final double DEGREES_TO_RADIANS = Math.PI / 180;
+    private static final double HALF_DEGREES_TO_RADIANS = Math.PI / 360;
+    private static final double RADIANS_TO_DEGREES = 180 / Math.PI;
+    private static final double QUARTER_PI = Math.PI / 4;
+    private static final double HALF_PI = Math.PI / 2;
+
     private final GeographicCoordinateReferenceSystem baseCrs;
     private final double lonOfNO;
     private final double latOfNO;
@@ -25,6 +35,11 @@ public class PseudoMercator implements CoordinateOperation, WithEpsgGOperationMe
 
     private final double a; // ellipsoid semi-major axis;
 
+    //precomputed constants of the forward and reverse formulas
+    private final double eastingPerDegree; // a * (PI / 180)
+    private final double eastingAtZero; // falseE - a * lonOfNO
+    private final double invA; // 1 / a
+
 
     static CoordinateOperation fromCrsParameters(GeographicCoordinateReferenceSystem base, List<CrsParameter> params) {
         Map<String, CrsParameter> map = CrsParameter.toMap(params);
@@ -54,6 +69,9 @@ public class PseudoMercator implements CoordinateOperation, WithEpsgGOperationMe
         this.falseE = falseE;
         this.falseN = falseN;
         this.a = baseCrs.getDatum().getEllipsoid().getSemiMajorAxis();
+        this.eastingPerDegree = a * DEGREES_TO_RADIANS;
+        this.eastingAtZero = falseE - a * lonOfNO;
+        this.invA = 1 / a;
     }
 
 
@@ -74,19 +92,55 @@ public class PseudoMercator implements CoordinateOperation, WithEpsgGOperationMe
 
     @Override
     public void forward(double[] inCoordinate, double[] outCoordinate) {
-        double l = Math.toRadians( inCoordinate[0]);
-        double p = Math.toRadians( inCoordinate[1]);
-        outCoordinate[0] = falseE + a*(l - lonOfNO);
-        outCoordinate[1] = falseN + a * Math.log(Math.tan(Math.PI / 4 + p / 2));
+        double lon = inCoordinate[0];
+        double lat = inCoordinate[1];
+        outCoordinate[0] = easting(lon);
+        outCoordinate[1] = northing(lat);
+    }
+
+    @Override
+    public void forward(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            double lon = src[s];
+            double lat = src[s + 1];
+            dst[d] = easting(lon);
+            dst[d + 1] = northing(lat);
+        }
     }
 
     @Override
     public void reverse(double[] inCoordinate, double[] outCoordinate) {
-        double d = - (inCoordinate[1] - falseN) / a;
-        double p = Math.PI/2 - 2*Math.atan( Math.pow(Math.E, d));
-        double l = ((inCoordinate[0] - falseE)/a) + lonOfNO;
-        outCoordinate[0] = Math.toDegrees(l);
-        outCoordinate[1] = Math.toDegrees(p);
+        double e = inCoordinate[0];
+        double n = inCoordinate[1];
+        outCoordinate[0] = longitude(e);
+        outCoordinate[1] = latitude(n);
+    }
+
+    @Override
+    public void reverse(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            double e = src[s];
+            double n = src[s + 1];
+            dst[d] = longitude(e);
+            dst[d + 1] = latitude(n);
+        }
+    }
+
+    private double easting(double lon) {
+        return eastingAtZero + eastingPerDegree * lon;
+    }
+
+    private double northing(double lat) {
+        return falseN + a * Math.log(Math.tan(QUARTER_PI + HALF_DEGREES_TO_RADIANS * lat));
+    }
+
+    private double longitude(double easting) {
+        return ((easting - falseE) * invA + lonOfNO) * RADIANS_TO_DEGREES;
+    }
+
+    private double latitude(double northing) {
+        double d = -(northing - falseN) * invA;
+        return (HALF_PI - 2 * Math.atan(Math.exp(d))) * RADIANS_TO_DEGREES;
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.geolatte.geom.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 
@@ -89,27 +90,37 @@ class PointSequenceCoordinateSequenceFactory implements CoordinateSequenceFactor
             return (PositionSequence<P>) cs;
         }
 
-        Coordinate c = new Coordinate();
-        double[] psc = new double[crs.getCoordinateDimension()];
-        Arrays.fill(psc, Double.NaN);
-        PositionSequenceBuilder<P> builder = PositionSequenceBuilders.fixedSized(cs.size(), posType);
-        for (int i = 0; i < cs.size(); i++) {
-            psc[0] = cs.getX(i);
-            psc[1] = cs.getY(i);
-            if (hasVerticalAxis(crs)) {
-                psc[2] = cs.getZ(i);
-            }
+        int dim = crs.getCoordinateDimension();
+        boolean hasZ = hasVerticalAxis(crs);
+        boolean hasM = hasMeasureAxis(crs);
+
+        // a packed JTS sequence with the same layout (x, y[, z][, m]) can be adopted without copying
+        if (cs instanceof PackedCoordinateSequence.Double && hasSameLayout(cs, dim, hasZ, hasM)) {
+            return PositionSequenceBuilders.fromPackedArray(((PackedCoordinateSequence.Double) cs).getRawCoordinates(), posType);
+        }
 
+        int size = cs.size();
+        double[] coordinates = new double[size * dim];
+        if (dim > 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0)) {
+            Arrays.fill(coordinates, Double.NaN);
+        }
+        final int idxM = hasZ ? 3 : 2;
+        for (int i = 0, offset = 0; i < size; i++, offset += dim) {
+            coordinates[offset] = cs.getX(i);
+            coordinates[offset + 1] = cs.getY(i);
+            if (hasZ) {
+                coordinates[offset + 2] = cs.getZ(i);
+            }
             // transfer measure values to position
-            if (hasMeasureAxis(crs)) {
-                final int idxM = hasVerticalAxis(crs) ? 3 : 2;
-                final double mOrdinate = cs.getM(i);
-                psc[idxM] = mOrdinate;
+            if (hasM) {
+                coordinates[offset + idxM] = cs.getM(i);
             }
-
-            builder.add(psc);
         }
-        return builder.toPositionSequence();
+        return PositionSequenceBuilders.fromPackedArray(coordinates, posType);
+    }
+
+    private static boolean hasSameLayout(CoordinateSequence cs, int dim, boolean hasZ, boolean hasM) {
+        return cs.getDimension() == dim && cs.hasZ() == hasZ && cs.hasM() == hasM;
     }
 
     private CoordinateReferenceSystem<?> determineCRS(Coordinate[] coordinates) {
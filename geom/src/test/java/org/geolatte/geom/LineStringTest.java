@@ -161,6 +161,14 @@ public class LineStringTest {
            assertEquals(new Envelope<C2D>(99, 92, 110, 105, crs), lineString.getEnvelope());
        }
 
+       @Test
+       public void testEnvelopeAndBoundingBoxAreCached() {
+           LineString<C2D> lineString = linestring(crs, c(-1, 3), c(2, 5), c(10, -8), c(9, -1));
+           assertSame(lineString.getEnvelope(), lineString.getEnvelope());
+           assertSame(lineString.getBoundingBox(), lineString.getBoundingBox());
+           assertEquals(new Box<C2D>(c(-1, -8), c(10, 5), crs), lineString.getBoundingBox());
+       }
+
        @Test
        public void testCreateEnvelopeOpOnEmpty() {
            LineString<C2D> lineString = new LineString<C2D>(crs);
@@ -2,6 +2,7 @@ package org.geolatte.geom;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -27,4 +28,63 @@ public class NestedPositionSequenceTest {
 
         assertEquals(rnps, nps.reverse());
     }
+
+    @Test
+    public void testGetOrdinateAcrossChildren() {
+        PositionSequence<C3D> p = PositionSequenceBuilders.fixedSized(2, C3D.class)
+                .add(1, 0, 9).add(2, 3, 8).toPositionSequence();
+        PositionSequence<C3D> p2 = PositionSequenceBuilders.fixedSized(3, C3D.class)
+                .add(5, 6, 7).add(7, 8, 6).add(10, 11, 5).toPositionSequence();
+        NestedPositionSequence<C3D> nps = new NestedPositionSequence<>(new PositionSequence[]{p, p2});
+
+        double[] expected = {1, 0, 9, 2, 3, 8, 5, 6, 7, 7, 8, 6, 10, 11, 5};
+        for (int i = 0; i < nps.size(); i++) {
+            assertEquals(expected[3 * i], nps.getX(i), 0);
+            assertEquals(expected[3 * i + 1], nps.getY(i), 0);
+            assertEquals(expected[3 * i + 2], nps.getOrdinate(i, 2), 0);
+            assertEquals(expected[3 * i + 2], nps.getZ(i), 0);
+        }
+        assertEquals(5, nps.toCoordinateArray().length);
+        assertEquals(11, nps.toCoordinateArray()[4].getY(), 0);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetOrdinateOutOfBounds() {
+        PositionSequence<C2D> p = PositionSequenceBuilders.fixedSized(2, C2D.class).add(1, 0).add(2, 3).toPositionSequence();
+        new NestedPositionSequence<>(new PositionSequence[]{p}).getX(2);
+    }
+
+    @Test
+    public void testPositionsAcrossEmptyChildren() {
+        PositionSequence<C2D> empty = PositionSequenceBuilders.fixedSized(0, C2D.class).toPositionSequence();
+        PositionSequence<C2D> p = PositionSequenceBuilders.fixedSized(2, C2D.class).add(1, 0).add(2, 3).toPositionSequence();
+        PositionSequence<C2D> p2 = PositionSequenceBuilders.fixedSized(1, C2D.class).add(5, 6).toPositionSequence();
+        NestedPositionSequence<C2D> nps = new NestedPositionSequence<>(
+                new PositionSequence[]{empty, p, empty, empty, p2, empty});
+
+        assertEquals(3, nps.size());
+        assertEquals(new C2D(1, 0), nps.getPositionN(0));
+        assertEquals(new C2D(2, 3), nps.getPositionN(1));
+        assertEquals(new C2D(5, 6), nps.getPositionN(2));
+
+        nps.setOrdinate(2, 1, 7);
+        assertEquals(7, nps.getY(2), 0);
+        assertEquals(7, p2.getPositionN(0).getCoordinate(1), 0);
+    }
+
+    @Test
+    public void testCopyCoordinates() {
+        PositionSequence<C3D> p = PositionSequenceBuilders.fixedSized(2, C3D.class)
+                .add(1, 0, 9).add(2, 3, 8).toPositionSequence();
+        PositionSequence<C3D> empty = PositionSequenceBuilders.fixedSized(0, C3D.class).toPositionSequence();
+        PositionSequence<C3D> p2 = PositionSequenceBuilders.fixedSized(1, C3D.class).add(5, 6, 7).toPositionSequence();
+        NestedPositionSequence<C3D> nps = new NestedPositionSequence<>(new PositionSequence[]{p, empty, p2});
+
+        double[] target = new double[11];
+        nps.copyCoordinates(target, 2);
+        assertArrayEquals(new double[]{0, 0, 1, 0, 9, 2, 3, 8, 5, 6, 7}, target, 0);
+        double[] reversed = new double[9];
+        nps.reverse().copyCoordinates(reversed, 0);
+        assertArrayEquals(new double[]{5, 6, 7, 2, 3, 8, 1, 0, 9}, reversed, 0);
+    }
 }
@@ -392,4 +392,27 @@ public class PackedPointSequenceTest {
     }
 
 
+    @Test
+    public void testToCoordinateArrayIsCachedUntilOrdinateIsSet() {
+        Coordinate[] coordinates = testSeq3DM.toCoordinateArray();
+        assertSame(coordinates, testSeq3DM.toCoordinateArray());
+        assertSame(coordinates[1], testSeq3DM.getCoordinate(1));
+        assertNotSame(coordinates[1], testSeq3DM.getCoordinateCopy(1));
+        assertEquals(1, coordinates[1].getZ(), 0);
+        assertEquals(2, coordinates[1].getM(), 0);
+
+        testSeq3DM.setOrdinate(1, CoordinateSequence.Z, 5);
+        Coordinate[] updated = testSeq3DM.toCoordinateArray();
+        assertNotSame(coordinates, updated);
+        assertEquals(5, updated[1].getZ(), 0);
+    }
+
+    @Test
+    public void testGetCoordinateIntoExistingCoordinate() {
+        Coordinate co = new Coordinate();
+        testSeq3D.getCoordinate(2, co);
+        assertEquals(2, co.getX(), 0);
+        assertEquals(-2, co.getY(), 0);
+    }
+
 }
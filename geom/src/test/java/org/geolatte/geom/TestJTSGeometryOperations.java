@@ -83,6 +83,43 @@ public class TestJTSGeometryOperations {
     }
 
 
+    @Test
+    public void testPreparedGeometryOps() {
+        Polygon<C2D> polygon = polygon(ring(crs, c(0, 0), c(0, 4), c(4, 4), c(4, 0), c(0, 0)));
+        PreparedGeometry<C2D> prepared = ops.prepare(polygon);
+        assertSame(polygon, prepared.getGeometry());
+
+        LineString<C2D> inside = linestring(crs, c(1, 1), c(1, 2));
+        LineString<C2D> onBoundary = linestring(crs, c(0, 1), c(0, 2));
+        LineString<C2D> crossing = linestring(crs, c(2, 2), c(6, 2));
+        LineString<C2D> outside = linestring(crs, c(5, 5), c(6, 6));
+        for (int i = 0; i < 2; i++) {
+            assertTrue(prepared.intersects(inside));
+            assertTrue(prepared.contains(inside));
+            assertTrue(prepared.covers(inside));
+
+            assertTrue(prepared.intersects(onBoundary));
+            assertFalse(prepared.contains(onBoundary));
+            assertTrue(prepared.covers(onBoundary));
+
+            assertTrue(prepared.intersects(crossing));
+            assertFalse(prepared.covers(crossing));
+
+            assertFalse(prepared.intersects(outside));
+            assertFalse(prepared.intersects(linestring(crs)));
+        }
+
+        PreparedGeometry<C2D> preparedLine = ops.prepare(inside);
+        assertTrue(preparedLine.within(polygon));
+        assertFalse(preparedLine.within(outside));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPreparedGeometryRequiresSameCrs() {
+        Polygon<C2D> polygon = polygon(ring(crs, c(0, 0), c(0, 4), c(4, 4), c(4, 0), c(0, 0)));
+        ops.prepare(polygon).intersects(linestring(l72, c(1, 1), c(1, 2)));
+    }
+
     @Test
     public void testOverlapsOp() {
         Polygon<C2D> polygon = polygon(ring(crs, c(-1, -1), c(-1, 2), c(2, 2), c(2, -1), c(-1, -1)));
@@ -204,6 +241,133 @@ public class TestJTSGeometryOperations {
 
     }
 
+    @Test
+    public void testClipReturnsGeometryWithinEnvelopeUnchanged() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        LineString<C2D> l = linestring(crs, c(1, 1), c(5, 5), c(10, 2));
+        assertSame(l, ops.clip(l, env));
+        Polygon<C2D> p = polygon(ring(crs, c(0, 0), c(10, 0), c(10, 10), c(0, 10), c(0, 0)));
+        assertSame(p, ops.clip(p, env));
+    }
+
+    @Test
+    public void testClipDisjointReturnsEmptyOfSameType() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        assertEquals(new LineString<>(crs), ops.clip(linestring(crs, c(20, 20), c(30, 30)), env));
+        assertEquals(new Polygon<>(crs),
+                ops.clip(polygon(ring(crs, c(20, 20), c(30, 20), c(30, 30), c(20, 20))), env));
+        assertEquals(new Point<>(crs), ops.clip(point(crs, c(20, 20)), env));
+    }
+
+    @Test
+    public void testClipLineString() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        LineString<C2D> l = linestring(crs, c(-5, 5), c(5, 5), c(5, 15), c(8, 15), c(8, 5), c(15, 5));
+        MultiLineString<C2D> expected = multilinestring(
+                linestring(crs, c(0, 5), c(5, 5), c(5, 10)),
+                linestring(crs, c(8, 10), c(8, 5), c(10, 5)));
+        assertEquals(expected, ops.clip(l, env));
+
+        assertEquals(linestring(crs, c(0, 0), c(10, 10)), ops.clip(linestring(crs, c(-5, -5), c(15, 15)), env));
+        //a segment that touches the envelope in a single point doesn't result in a part
+        assertEquals(new LineString<>(crs), ops.clip(linestring(crs, c(-5, 15), c(5, 10), c(15, 15)), env));
+    }
+
+    @Test
+    public void testClipInterpolatesZ() {
+        CoordinateReferenceSystem<C3D> crs3d = CoordinateReferenceSystems.PROJECTED_3D_METER;
+        Envelope<C3D> env = new Envelope<>(new C3D(0, 0, 0), new C3D(10, 10, 0), crs3d);
+        LineString<C3D> l = linestring(crs3d, c(-10, 5, 0), c(20, 5, 30));
+        assertEquals(linestring(crs3d, c(0, 5, 10), c(10, 5, 20)), ops.clip(l, env));
+    }
+
+    @Test
+    public void testClipPolygon() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        Polygon<C2D> p = polygon(
+                ring(crs, c(-5, -5), c(5, -5), c(5, 5), c(-5, 5), c(-5, -5)),
+                ring(crs, c(1, 1), c(1, 2), c(2, 2), c(2, 1), c(1, 1)),
+                ring(crs, c(-4, -4), c(-4, -3), c(-3, -3), c(-3, -4), c(-4, -4)));
+        Geometry<C2D> clipped = ops.clip(p, env);
+        Polygon<C2D> expected = polygon(
+                ring(crs, c(0, 0), c(5, 0), c(5, 5), c(0, 5), c(0, 0)),
+                ring(crs, c(1, 1), c(1, 2), c(2, 2), c(2, 1), c(1, 1)));
+        assertEquals(GeometryType.POLYGON, clipped.getGeometryType());
+        assertEquals(1, ((Polygon<C2D>) clipped).getNumInteriorRing());
+        assertTrue(JTS.to(expected).equalsTopo(JTS.to(clipped)));
+        assertEquals(ops.intersection(p, toPolygon(env)).getEnvelope(), clipped.getEnvelope());
+    }
+
+    @Test
+    public void testClipMultiGeometries() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        MultiPoint<C2D> mp = multipoint(point(crs, c(1, 1)), point(crs, c(11, 1)), point(crs, c(10, 10)));
+        assertEquals(multipoint(point(crs, c(1, 1)), point(crs, c(10, 10))), ops.clip(mp, env));
+
+        Polygon<C2D> inside = polygon(ring(crs, c(1, 1), c(2, 1), c(2, 2), c(1, 1)));
+        Polygon<C2D> outside = polygon(ring(crs, c(20, 20), c(30, 20), c(30, 30), c(20, 20)));
+        Polygon<C2D> crossing = polygon(ring(crs, c(5, 5), c(15, 5), c(15, 15), c(5, 15), c(5, 5)));
+        Geometry<C2D> clipped = ops.clip(new MultiPolygon<>(inside, outside, crossing), env);
+        assertEquals(GeometryType.MULTIPOLYGON, clipped.getGeometryType());
+        assertEquals(2, ((MultiPolygon<C2D>) clipped).getNumGeometries());
+        assertSame(inside, ((MultiPolygon<C2D>) clipped).getGeometryN(0));
+        assertEquals(25.5, JTS.to(clipped).getArea(), 0);
+
+        GeometryCollection<C2D> coll = geometrycollection(linestring(crs, c(5, 5), c(15, 5)), outside);
+        assertEquals(geometrycollection(linestring(crs, c(5, 5), c(10, 5))), ops.clip(coll, env));
+    }
+
+    @Test
+    public void testClipLinearRing() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 10, 10, crs);
+        LinearRing<C2D> ring = ring(crs, c(5, 5), c(15, 5), c(15, 15), c(5, 15), c(5, 5));
+        //the parts before and after the closing position, which lies within the envelope, are joined
+        LineString<C2D> expected = linestring(crs, c(5, 10), c(5, 5), c(10, 5));
+        assertEquals(expected, ops.clip(ring, env));
+        assertEquals(expected, ops.clip(ring(crs, c(15, 5), c(15, 15), c(5, 15), c(5, 5), c(15, 5)), env));
+        MultiLineString<C2D> twoParts = multilinestring(
+                linestring(crs, c(10, 5), c(5, 5), c(5, 10)),
+                linestring(crs, c(8, 10), c(8, 8), c(10, 8)));
+        assertEquals(twoParts, ops.clip(ring(crs, c(15, 5), c(5, 5), c(5, 15), c(8, 15), c(8, 8), c(15, 8),
+                c(15, 5)), env));
+        assertEquals(new LineString<>(crs), ops.clip(ring(crs, c(20, 20), c(30, 20), c(30, 30), c(20, 20)), env));
+
+        Point<C2D> point = point(crs, c(1, 1));
+        assertEquals(geometrycollection(expected, point), ops.clip(geometrycollection(ring, point), env));
+    }
+
+    @Test
+    public void testClipPolygonWithHoleCrossingTheBorder() {
+        Envelope<C2D> env = new Envelope<>(0, 0, 5, 10, crs);
+        Polygon<C2D> p = polygon(
+                ring(crs, c(0, 0), c(10, 0), c(10, 10), c(0, 10), c(0, 0)),
+                ring(crs, c(4, 4), c(4, 6), c(6, 6), c(6, 4), c(4, 4)));
+        Geometry<C2D> clipped = ops.clip(p, env);
+        Polygon<C2D> expected = polygon(
+                ring(crs, c(5, 0), c(0, 0), c(0, 10), c(5, 10), c(5, 6), c(4, 6), c(4, 4), c(5, 4), c(5, 0)));
+        assertTrue(JTS.to(clipped).isValid());
+        assertTrue(JTS.to(expected).equalsTopo(JTS.to(clipped)));
+
+        //a hole that touches the border from the inside
+        p = polygon(
+                ring(crs, c(0, 0), c(10, 0), c(10, 10), c(0, 10), c(0, 0)),
+                ring(crs, c(3, 4), c(3, 6), c(5, 6), c(5, 4), c(3, 4)));
+        clipped = ops.clip(p, env);
+        assertTrue(JTS.to(clipped).isValid());
+        assertEquals(46, JTS.to(clipped).getArea(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testClipRequiresSameCrs() {
+        ops.clip(linestring(crs, c(1, 1), c(2, 2)), new Envelope<>(0, 0, 10, 10, l72));
+    }
+
+    private static Polygon<C2D> toPolygon(Envelope<C2D> env) {
+        return polygon(ring(crs, c(env.getMinC0(), env.getMinC1()), c(env.getMaxC0(), env.getMinC1()),
+                c(env.getMaxC0(), env.getMaxC1()), c(env.getMinC0(), env.getMaxC1()),
+                c(env.getMinC0(), env.getMinC1())));
+    }
+
     //TODO -- fix these unit tests (they no longer belong in this class).
 
 //
@@ -4,7 +4,10 @@ import static org.geolatte.geom.builder.DSL.*;
 import static org.geolatte.geom.cga.NumericalMethods.orient2d;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.geolatte.geom.*;
 import org.geolatte.geom.codec.Wkt;
@@ -145,4 +148,44 @@ public class NumericalMethodsTest {
         assertTrue(orient2d(poly.getExteriorRing()) != 0.0d);
     }
 
+    @Test
+    public void testArea() {
+        LinearRing<C2D> cwRing  = ring(xy, c(0, 0), c(0, 1), c(1, 1), c(1, 0),   c(0, 0));
+        LinearRing<C2D> ccwRing = ring(xy, c(0, 0), c(2, 0), c(2, 2), c(0, 2), c(0, 0));
+        assertEquals(-2, NumericalMethods.area(cwRing), 0);
+        assertEquals(8, NumericalMethods.area(ccwRing), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAreaColinear() {
+        NumericalMethods.area(ring(xy, c(0, 0), c(1, 1), c(2, 2), c(0, 0)));
+    }
+
+    @Test
+    public void testBatchAreasAndOrientations() {
+        // enough positions to exceed the parallel threshold
+        int numRings = NumericalMethods.PARALLEL_THRESHOLD / 5 + 10;
+        List<LinearRing<C2D>> rings = new ArrayList<>();
+        for (int i = 0; i < numRings; i++) {
+            double size = i % 7 + 1;
+            rings.add(i % 2 == 0 ?
+                    ring(xy, c(i, 0), c(i + size, 0), c(i + size, size), c(i, size), c(i, 0)) :
+                    ring(xy, c(i, 0), c(i, size), c(i + size, size), c(i + size, 0), c(i, 0)));
+        }
+        rings.add(ring(xy, c(0, 0), c(1, 1), c(2, 2), c(0, 0)));
+
+        double[] areas = NumericalMethods.areas(rings);
+        double[] orientations = NumericalMethods.orient2d(rings);
+        assertEquals(rings.size(), areas.length);
+        for (int i = 0; i < numRings; i++) {
+            assertEquals(NumericalMethods.area(rings.get(i)), areas[i], 0);
+            assertEquals(orient2d(rings.get(i)), orientations[i], 0);
+        }
+        assertEquals(0, areas[numRings], 0);
+        assertEquals(0, orientations[numRings], 0);
+
+        List<LinearRing<C2D>> small = rings.subList(0, 3);
+        assertArrayEquals(Arrays.copyOf(areas, 3), NumericalMethods.areas(small), 0);
+    }
+
 }
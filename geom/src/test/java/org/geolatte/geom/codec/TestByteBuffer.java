@@ -21,6 +21,7 @@
 
 package org.geolatte.geom.codec;
 
+import org.geolatte.geom.BufferAccessException;
 import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.junit.Test;
@@ -293,5 +294,55 @@ public class TestByteBuffer {
     }
 
 
+    @Test
+    public void test_get_doubles_respects_byte_order() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(2 + 3 * 8);
+        byteBuffer.setByteOrder(ByteOrder.XDR);
+        byteBuffer.put((byte) 1);
+        byteBuffer.put((byte) 2);
+        byteBuffer.putDouble(1.5);
+        byteBuffer.putDouble(-2.25);
+        byteBuffer.putDouble(Double.NaN);
+        byteBuffer.rewind();
+        byteBuffer.get();
+        byteBuffer.get();
+        double[] dst = new double[4];
+        byteBuffer.getDoubles(dst, 1, 3);
+        assertEquals(0d, dst[0]);
+        assertEquals(1.5, dst[1]);
+        assertEquals(-2.25, dst[2]);
+        assertTrue(Double.isNaN(dst[3]));
+    }
+
+    @Test
+    public void test_get_doubles_throws_exception_on_underflow() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(12);
+        try {
+            byteBuffer.getDoubles(new double[2], 0, 2);
+            fail();
+        } catch (BufferAccessException e) {
+            //OK
+        }
+    }
+
+    @Test
+    public void test_from_nio_buffer_region_does_not_copy() {
+        java.nio.ByteBuffer nio = java.nio.ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 4, 5});
+        ByteBuffer byteBuffer = ByteBuffer.from(nio, 2, 3);
+        assertEquals(3, byteBuffer.limit());
+        assertEquals(2, byteBuffer.get());
+        nio.put(3, (byte) 42);
+        assertEquals(42, byteBuffer.get());
+        assertEquals(0, nio.position());
+    }
+
+    @Test
+    public void test_from_byte_array_region() {
+        ByteBuffer byteBuffer = ByteBuffer.from(new byte[]{0, 1, 2, 3, 4, 5}, 1, 4);
+        assertEquals("01020304", byteBuffer.toString());
+        assertEquals(4, byteBuffer.toByteArray().length);
+        assertEquals(1, byteBuffer.toByteArray()[0]);
+    }
+
 }
 
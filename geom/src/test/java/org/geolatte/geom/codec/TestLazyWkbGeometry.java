@@ -0,0 +1,86 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.generator.GeometryGenerators;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.*;
+
+/**
+ * Checks that a {@code LazyWkbGeometry} reports the same properties as the decoded geometry, without decoding.
+ */
+public class TestLazyWkbGeometry {
+
+    private final Box<G2D> box = new Box<>(g(10, 10), g(80, 80), WGS84);
+    private final Random rnd = new Random(7);
+
+    private final List<Geometry<G2D>> geometries = Arrays.asList(
+            point(WGS84, g(1, 2)),
+            point(WGS84),
+            linestring(WGS84, g(1, 2), g(3, 4), g(5, 6)),
+            linestring(WGS84),
+            GeometryGenerators.polygon(20, box, rnd).generate(),
+            GeometryGenerators.multiPoint(12, box, rnd).generate(),
+            multilinestring(linestring(WGS84, g(1, 2), g(3, 4)), linestring(WGS84, g(5, 6), g(7, 8), g(9, 10))),
+            GeometryGenerators.multiPolygon(3, 10, box, rnd).generate(),
+            geometrycollection(point(WGS84, g(1, 2)), linestring(WGS84, g(1, 2), g(3, 4)))
+    );
+
+    @Test
+    public void testPropertiesMatchDecodedGeometry() {
+        for (Wkb.Dialect dialect : Wkb.Dialect.values()) {
+            for (ByteOrder bo : ByteOrder.values()) {
+                for (Geometry<G2D> geometry : geometries) {
+                    ByteBuffer wkb = Wkb.toWkb(geometry, bo, dialect);
+                    Geometry<?> decoded = Wkb.fromWkb(wkb, dialect);
+                    LazyWkbGeometry<?> lazy = Wkb.fromWkbLazily(wkb, dialect);
+                    String msg = dialect + " " + bo + " " + geometry;
+                    assertEquals(msg, decoded.getGeometryType(), lazy.getGeometryType());
+                    assertEquals(msg, decoded.getSRID(), lazy.getSRID());
+                    assertEquals(msg, decoded.getNumPositions(), lazy.getNumPositions());
+                    assertEquals(msg, decoded.getNumPositions() == 0, lazy.isEmpty());
+                    assertEquals(msg, bo, lazy.getByteOrder());
+                    assertFalse(msg, lazy.isDecoded());
+                    assertEquals(msg, decoded, lazy.getGeometry());
+                    assertTrue(msg, lazy.isDecoded());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEncodingToSameDialectCopiesBytes() {
+        Geometry<G2D> geometry = GeometryGenerators.multiPolygon(3, 10, box, rnd).generate();
+        ByteBuffer wkb = Wkb.toWkb(geometry, ByteOrder.XDR, Wkb.Dialect.POSTGIS_EWKB_2);
+        LazyWkbGeometry<?> lazy = Wkb.fromWkbLazily(wkb, Wkb.Dialect.POSTGIS_EWKB_2);
+
+        ByteBuffer copy = lazy.toWkb(Wkb.Dialect.POSTGIS_EWKB_2);
+        assertFalse(lazy.isDecoded());
+        assertArrayEquals(wkb.toByteArray(), copy.toByteArray());
+        assertNotSame(wkb.toByteArray(), copy.toByteArray());
+
+        ByteBuffer ndr = lazy.toWkb(Wkb.Dialect.POSTGIS_EWKB_2, ByteOrder.NDR);
+        assertTrue(lazy.isDecoded());
+        assertArrayEquals(Wkb.toWkb(geometry, ByteOrder.NDR, Wkb.Dialect.POSTGIS_EWKB_2).toByteArray(), ndr.toByteArray());
+    }
+
+    @Test
+    public void testSpecifiedCrs() {
+        ByteBuffer wkb = Wkb.toWkb(linestring(WGS84, g(1, 2), g(3, 4)), Wkb.Dialect.SFA_1_2_1);
+        LazyWkbGeometry<G2D> lazy = Wkb.fromWkbLazily(wkb, Wkb.Dialect.SFA_1_2_1, WGS84);
+        assertEquals(4326, lazy.getSRID());
+        assertEquals(WGS84, lazy.getGeometry().getCoordinateReferenceSystem());
+    }
+
+    @Test(expected = WkbDecodeException.class)
+    public void testTruncatedWkbFailsOnCreation() {
+        byte[] bytes = Wkb.toWkb(linestring(WGS84, g(1, 2), g(3, 4))).toByteArray();
+        Wkb.fromWkbLazily(ByteBuffer.from(bytes, 0, bytes.length - 8), Wkb.Dialect.POSTGIS_EWKB_2);
+    }
+}
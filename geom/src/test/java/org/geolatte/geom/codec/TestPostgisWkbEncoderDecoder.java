@@ -191,6 +191,19 @@ public class TestPostgisWkbEncoderDecoder {
         testEncoding(byteBuffer, geom);
     }
 
+    @Test
+    public void test_multipolygon_from_direct_nio_buffer_region() {
+        byte[] wkb = testcases.getWKB(PostgisTestCases.MULTIPOLYGON_2D).toByteArray();
+        java.nio.ByteBuffer direct = java.nio.ByteBuffer.allocateDirect(wkb.length + 10);
+        direct.position(7);
+        direct.put(wkb);
+        direct.position(3);
+        Geometry<?> geom = decoder().decode(direct, 7, wkb.length, null);
+        assertEquals(testcases.getExpected(PostgisTestCases.MULTIPOLYGON_2D), geom);
+        assertEquals(3, direct.position());
+        assertEquals(java.nio.ByteOrder.BIG_ENDIAN, direct.order());
+    }
+
     @Test
     public void testReuseDecoder() throws Exception {
         PostgisWkbDecoder decoder = new PostgisWkbDecoder();
@@ -1,8 +1,11 @@
 package org.geolatte.geom.codec;
 
+import org.geolatte.geom.GeometryType;
+import org.geolatte.geom.Point;
 import org.junit.Test;
 
 import java.util.Optional;
+import java.util.Random;
 import java.util.regex.Pattern;
 
 import static org.junit.Assert.*;
@@ -212,4 +215,87 @@ public class TestSimpleTokenizer {
         assertFalse(t.hasMoreInput());
     }
 
+    @Test
+    public void testFastReadNumberIsCorrectlyRounded() {
+        String[] inputs = {"51.16666723333333", "169038.177124", "0.1", "-0.3", "1e-5", "2.5E+3", "4.9e-324",
+                "1.7976931348623157e308", "123456789012345678901234567890", "0.000000000000000000000123456789",
+                "9007199254740993", "3.14159265358979323846264338327950288", "1e23", ".5", "007.250"};
+        for (String input : inputs) {
+            assertEquals(input, Double.parseDouble(input), new SimpleTokenizer(input).fastReadNumber(), 0);
+        }
+        Random rnd = new Random(11);
+        for (int i = 0; i < 10000; i++) {
+            double expected = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(20) - 5);
+            SimpleTokenizer t = new SimpleTokenizer(Double.toString(expected));
+            assertEquals(expected, t.fastReadNumber(), 0);
+            assertFalse(t.hasMoreInput());
+        }
+    }
+
+    @Test
+    public void testFastReadNumberDoesNotOverflowMantissa() {
+        String[] inputs = {"0.9999999999999999999", "9999999999999999999", "-9999999999999999999.9999",
+                "9223372036854775807", "18446744073709551615"};
+        for (String input : inputs) {
+            assertEquals(input, Double.parseDouble(input), new SimpleTokenizer(input).fastReadNumber(), 0);
+        }
+        Point<?> pnt = (Point<?>) Wkt.fromWkt("POINT(0.9999999999999999999 1)");
+        assertEquals(1.0, pnt.getPosition().getCoordinate(0), 0);
+        pnt = (Point<?>) Wkt.fromWkt("POINT(9999999999999999999 1)");
+        assertEquals(1e19, pnt.getPosition().getCoordinate(0), 0);
+    }
+
+    @Test
+    public void testFastReadNumberLeavesIncompleteExponent() {
+        SimpleTokenizer t = new SimpleTokenizer("12e, 3E-x");
+        assertEquals(12, t.fastReadNumber(), 0);
+        assertEquals('e', t.currentChar());
+        t = new SimpleTokenizer("3E-x");
+        assertEquals(3, t.fastReadNumber(), 0);
+        assertEquals(1, t.currentPos());
+    }
+
+    @Test
+    public void testNegativeZero() {
+        assertEquals(Double.doubleToLongBits(-0.0d),
+                Double.doubleToLongBits(new SimpleTokenizer("-0.0").fastReadNumber()));
+    }
+
+    @Test
+    public void testMatchesKeyword() {
+        SimpleTokenizer t = new SimpleTokenizer("  MultiPolygon EMPTY");
+        assertFalse(t.matchesKeyword("multipoint"));
+        assertEquals(2, t.currentPos());
+        assertTrue(t.matchesKeyword("multipolygon"));
+        assertTrue(t.matchesKeyword("empty"));
+        assertFalse(t.hasMoreInput());
+        assertFalse(t.matchesKeyword("empty"));
+    }
+
+    @Test
+    public void testMatchGeometryKeyword() {
+        WktDialect dialect = new WktDialect();
+        assertEquals(GeometryType.MULTIPOINT, dialect.matchGeometryKeyword(new SimpleTokenizer("multipointz (1 2 3)")));
+        assertEquals(GeometryType.POLYGON, dialect.matchGeometryKeyword(new SimpleTokenizer(" Polygon((")));
+        assertEquals(GeometryType.GEOMETRYCOLLECTION, dialect.matchGeometryKeyword(new SimpleTokenizer("GEOMETRYCOLLECTION")));
+        SimpleTokenizer t = new SimpleTokenizer("multicurve");
+        assertNull(dialect.matchGeometryKeyword(t));
+        assertEquals(0, t.currentPos());
+        t = new SimpleTokenizer("MULTI POINT((1 2))");
+        assertNull(dialect.matchGeometryKeyword(t));
+        assertEquals(0, t.currentPos());
+    }
+
+    @Test(expected = WktDecodeException.class)
+    public void testWhitespaceInGeometryKeywordFails() {
+        Wkt.fromWkt("MULTI POINT((1 2))");
+    }
+
+    @Test
+    public void testReadUntil() {
+        SimpleTokenizer t = new SimpleTokenizer("4326;POINT");
+        assertEquals("4326", t.readUntil(';'));
+        assertEquals('P', t.currentChar());
+    }
+
 }
@@ -0,0 +1,66 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.generator.GeometryGenerators;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Checks that streaming a geometry through a small chunk buffer yields the same bytes as encoding to a single buffer.
+ */
+public class TestWkbStreamingEncoder {
+
+    private final Box<G2D> box = new Box<>(g(10, 10), g(80, 80), WGS84);
+    private final Random rnd = new Random(42);
+
+    @Test
+    public void testStreamingEqualsBufferedForAllDialects() throws IOException {
+        Geometry<G2D> multiPolygon = GeometryGenerators.multiPolygon(7, 40, box, rnd).generate();
+        Geometry<G2D> collection = geometrycollection(
+                multiPolygon,
+                linestring(WGS84, g(1, 2), g(3, 4)),
+                GeometryGenerators.multiPoint(30, box, rnd).generate());
+        for (Wkb.Dialect dialect : Wkb.Dialect.values()) {
+            WkbEncoder encoder = Wkb.newEncoder(dialect);
+            for (ByteOrder bo : ByteOrder.values()) {
+                assertStreamedEqualsBuffered(encoder, multiPolygon, bo);
+                assertStreamedEqualsBuffered(encoder, collection, bo);
+                assertStreamedEqualsBuffered(encoder, point(WGS84), bo);
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingToChannel() throws IOException {
+        Geometry<G2D> polygon = GeometryGenerators.polygon(500, box, rnd).generate();
+        WkbEncoder encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(polygon, ByteOrder.XDR, Channels.newChannel(out));
+        assertArrayEquals(encoder.encode(polygon, ByteOrder.XDR).toByteArray(), out.toByteArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChunkBufferTooSmall() throws IOException {
+        Wkb.newEncoder().encode(point(WGS84, g(1, 2)), ByteOrder.NDR, new ByteArrayOutputStream(), ByteBuffer.allocate(16));
+    }
+
+    private void assertStreamedEqualsBuffered(WkbEncoder encoder, Geometry<G2D> geometry, ByteOrder bo) throws IOException {
+        byte[] expected = encoder.encode(geometry, bo).toByteArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer chunk = ByteBuffer.allocate(64);
+        encoder.encode(geometry, bo, out, chunk);
+        assertArrayEquals(expected, out.toByteArray());
+        // the chunk buffer can be reused
+        out.reset();
+        encoder.encode(geometry, bo, out, chunk);
+        assertArrayEquals(expected, out.toByteArray());
+    }
+}
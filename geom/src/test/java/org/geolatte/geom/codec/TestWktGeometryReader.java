@@ -0,0 +1,123 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.generator.GeometryGenerators;
+import org.junit.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.PROJECTED_2D_METER;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.*;
+
+/**
+ * Checks reading a sequence of WKT geometries from a {@code Reader}.
+ */
+public class TestWktGeometryReader {
+
+    @Test
+    public void testNewlineAndSemicolonSeparated() {
+        String wkt = "POINT(1 2)\nLINESTRING(1 2, 3 4);POLYGON((0 0, 0 1, 1 1, 0 0))\r\n\n  \nPOINT EMPTY;MULTIPOINT((1 1), (2 2))";
+        List<Geometry<?>> geometries = readAll(Wkt.newReader(new StringReader(wkt), Wkt.Dialect.SFA_1_2_1));
+        assertEquals(5, geometries.size());
+        assertEquals(point(PROJECTED_2D_METER, c(1, 2)), geometries.get(0));
+        assertEquals(linestring(PROJECTED_2D_METER, c(1, 2), c(3, 4)), geometries.get(1));
+        assertEquals(GeometryType.POLYGON, geometries.get(2).getGeometryType());
+        assertTrue(geometries.get(3).isEmpty());
+        assertEquals(GeometryType.MULTIPOINT, geometries.get(4).getGeometryType());
+    }
+
+    @Test
+    public void testGeometrySpanningLines() {
+        String wkt = "GEOMETRYCOLLECTION(\n  POINT(1 2),\n  LINESTRING(1 2,\n 3 4)\n)\nPOINT(5 6)\n";
+        List<Geometry<?>> geometries = readAll(Wkt.newReader(new StringReader(wkt), Wkt.Dialect.SFA_1_2_1));
+        assertEquals(2, geometries.size());
+        assertEquals(2, ((GeometryCollection<?>) geometries.get(0)).getNumGeometries());
+        assertEquals(point(PROJECTED_2D_METER, c(5, 6)), geometries.get(1));
+    }
+
+    @Test
+    public void testEwktSridPrefix() {
+        String wkt = "SRID=4326;POINT(1 2);SRID=4326;LINESTRING(1 2, 3 4)\nPOINT(1 2)";
+        List<Geometry<?>> geometries = readAll(Wkt.newReader(new StringReader(wkt), Wkt.Dialect.POSTGIS_EWKT_1));
+        assertEquals(3, geometries.size());
+        assertEquals(point(WGS84, g(1, 2)), geometries.get(0));
+        assertEquals(4326, geometries.get(1).getSRID());
+        assertEquals(point(PROJECTED_2D_METER, c(1, 2)), geometries.get(2));
+    }
+
+    @Test
+    public void testDefaultSrid() {
+        String wkt = "POINT(1 2)\nSRID=31370;POINT(1 2)";
+        List<Geometry<?>> geometries = readAll(Wkt.newReader(new StringReader(wkt), Wkt.Dialect.POSTGIS_EWKT_1)
+                .withDefaultSrid(4326));
+        assertEquals(4326, geometries.get(0).getSRID());
+        assertEquals(31370, geometries.get(1).getSRID());
+    }
+
+    @Test
+    public void testMixedDimensionPositions() {
+        Geometry<?> geometry = Wkt.newReader(new StringReader("LINESTRING(1 2, 3 4 5)"), Wkt.Dialect.POSTGIS_EWKT_1)
+                .next();
+        assertEquals(2, geometry.getNumPositions());
+        assertEquals(3, geometry.getCoordinateDimension());
+    }
+
+    @Test
+    public void testLargeInputInSmallChunks() {
+        Random rnd = new Random(7);
+        Box<C2D> box = new Box<>(c(0, 0), c(1000, 1000), PROJECTED_2D_METER);
+        List<Geometry<C2D>> expected = new ArrayList<>();
+        StringBuilder wkt = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            Geometry<C2D> mp = GeometryGenerators.multiPolygon(3, 20, box, rnd).generate();
+            expected.add(mp);
+            wkt.append(Wkt.toWkt(mp, Wkt.Dialect.SFA_1_2_1)).append(i % 2 == 0 ? "\n" : ";");
+        }
+        Reader trickling = new FilterReader(new StringReader(wkt.toString())) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 7));
+            }
+        };
+        List<Geometry<C2D>> actual = Wkt.newReader(trickling, Wkt.Dialect.SFA_1_2_1, PROJECTED_2D_METER)
+                .stream()
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = WktDecodeException.class)
+    public void testInvalidGeometryThrows() {
+        readAll(Wkt.newReader(new StringReader("POINT(1 2)\nPOINT(1 a)"), Wkt.Dialect.SFA_1_2_1));
+    }
+
+    @Test
+    public void testUnbalancedParenthesisThrows() {
+        WktGeometryReader<?> reader = Wkt.newReader(new StringReader("POINT(1 2))\nPOINT(3 4)"), Wkt.Dialect.SFA_1_2_1);
+        try {
+            reader.next();
+            fail("Expected a WktDecodeException");
+        } catch (WktDecodeException e) {
+            //expected
+        }
+        assertEquals(point(PROJECTED_2D_METER, c(3, 4)), reader.next());
+        assertFalse(reader.hasNext());
+    }
+
+    private static <P extends Position> List<Geometry<?>> readAll(WktGeometryReader<P> reader) {
+        List<Geometry<?>> result = new ArrayList<>();
+        while (reader.hasNext()) {
+            result.add(reader.next());
+        }
+        assertFalse(reader.hasNext());
+        return result;
+    }
+}
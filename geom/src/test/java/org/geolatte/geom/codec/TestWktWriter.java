@@ -0,0 +1,76 @@
+package org.geolatte.geom.codec;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.generator.GeometryGenerators;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.PROJECTED_2D_METER;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the number formatting of the WKT writer, and writing to an {@code Appendable}.
+ */
+public class TestWktWriter {
+
+    private final Random rnd = new Random(3);
+
+    @Test
+    public void testShortestRepresentation() {
+        assertEquals("POINT(0.1 -0.3)", Wkt.toWkt(point(PROJECTED_2D_METER, c(0.1, -0.3)), Wkt.Dialect.SFA_1_2_1));
+        assertEquals("POINT(3.14159 12345678.9)", Wkt.toWkt(point(PROJECTED_2D_METER, c(3.14159, 12345678.9)), Wkt.Dialect.SFA_1_2_1));
+        assertEquals("POINT(0.00123 -0.05)", Wkt.toWkt(point(PROJECTED_2D_METER, c(0.00123, -0.05)), Wkt.Dialect.SFA_1_2_1));
+        assertEquals("POINT(1.0E-5 1)", Wkt.toWkt(point(PROJECTED_2D_METER, c(1e-5, 1)), Wkt.Dialect.SFA_1_2_1));
+        assertEquals("POINT(0.30000000000000004 0)",
+                Wkt.toWkt(point(PROJECTED_2D_METER, c(0.1 + 0.2, -0.0)), Wkt.Dialect.SFA_1_2_1));
+    }
+
+    @Test
+    public void testWrittenCoordinatesReadBackExactly() {
+        WktEncoder encoder = Wkt.newEncoder(Wkt.Dialect.SFA_1_2_1);
+        WktDecoder decoder = Wkt.newDecoder(Wkt.Dialect.SFA_1_2_1);
+        for (int i = 0; i < 5000; i++) {
+            double x = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(16) - 4);
+            double y = rnd.nextInt(1000000) / 1000d;
+            Point<C2D> pnt = point(PROJECTED_2D_METER, c(x, y));
+            String wkt = encoder.encode(pnt);
+            assertEquals(wkt, pnt, decoder.decode(wkt, PROJECTED_2D_METER));
+        }
+    }
+
+    @Test
+    public void testMaxFractionDigits() {
+        LineString<C2D> line = linestring(PROJECTED_2D_METER, c(1.23456, -0.0004), c(2.5, 100.999));
+        assertEquals("LINESTRING(1.235 0,2.5 100.999)", Wkt.newEncoder(Wkt.Dialect.SFA_1_2_1, 3).encode(line));
+        assertEquals("LINESTRING(1 0,3 101)", Wkt.newEncoder(Wkt.Dialect.SFA_1_2_1, 0).encode(line));
+        assertEquals("SRID=0;LINESTRING(1.2 0,2.5 101)", Wkt.newEncoder(Wkt.Dialect.HANA_EWKT, 1).encode(line));
+        assertEquals("LINESTRING(1.23456 -0.0004,2.5 100.999)", new Sfa110WktEncoder(8).encode(line));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxFractionDigits() {
+        Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1, 18);
+    }
+
+    @Test
+    public void testWriteToAppendable() throws IOException {
+        Box<G2D> box = new Box<>(g(-10, -10), g(80, 80), WGS84);
+        Geometry<G2D> large = GeometryGenerators.multiPolygon(20, 200, box, rnd).generate();
+        Geometry<G2D> small = linestring(WGS84, g(1, 2), g(3, 4));
+        for (Wkt.Dialect dialect : Wkt.Dialect.values()) {
+            for (Geometry<G2D> geometry : new Geometry[]{large, small, point(WGS84)}) {
+                StringWriter writer = new StringWriter();
+                Wkt.toWkt(geometry, dialect, writer);
+                assertEquals(Wkt.toWkt(geometry, dialect), writer.toString());
+            }
+        }
+        StringBuilder builder = new StringBuilder("prefix:");
+        new PostgisWktEncoder(2).encode(small, builder);
+        assertEquals("prefix:SRID=4326;LINESTRING(1 2,3 4)", builder.toString());
+    }
+}
@@ -29,8 +29,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -76,4 +79,42 @@ public class testCrsRegistry {
 
     }
 
+    @Test
+    public void test_index_returns_definitions_as_in_resource() throws IOException {
+        SpatialRefSysIndex index = SpatialRefSysIndex.build("spatial_ref_sys.txt");
+        InputStream in = CrsRegistry.class.getClassLoader().getResourceAsStream("spatial_ref_sys.txt");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        String line = reader.readLine();
+        int lineNo = 0;
+        while (line != null) {
+            String[] tokens = line.split("\\|");
+            if ("EPSG".equals(tokens[0]) && lineNo++ % 250 == 0) {
+                assertEquals(tokens[2], index.readDefinition(Integer.parseInt(tokens[1])));
+            }
+            line = reader.readLine();
+        }
+        assertNull(index.readDefinition(-1));
+    }
+
+    @Test
+    public void testPreload(){
+        CrsRegistry.preload(31370, 3857);
+        assertTrue(CrsRegistry.hasCoordinateReferenceSystemForEPSG(31370));
+        assertTrue(CrsRegistry.hasCoordinateReferenceSystemForEPSG(3857));
+        assertFalse(CrsRegistry.hasCoordinateReferenceSystemForEPSG(-5));
+    }
+
+    @Test
+    public void testPreloadAll(){
+        CrsRegistry.preloadAll();
+        assertTrue(CrsRegistry.hasCoordinateReferenceSystemForEPSG(4326));
+        assertTrue(CrsRegistry.hasCoordinateReferenceSystemForEPSG(31370));
+    }
+
+    @Test
+    public void testParsePreload() {
+        assertArrayEquals(new int[]{4326, 31370}, CrsRegistry.parsePreload(" 4326, 31370,"));
+        assertNull(CrsRegistry.parsePreload("4326,EPSG:31370"));
+    }
+
 }
@@ -53,6 +53,46 @@ public class ConcatenatedCoordinateOperationTest {
     }
 
 
+    @Test
+    public void testBulkForwardThroughScratchArray(){
+        //stride 2 leaves no room for the 3D intermediate results
+        CoordinateOperation to2D = chain.appendForward(new Geographic3DTo2DConversion());
+        double[] coordinates = new double[]{4, 50, 4, 50};
+
+        to2D.forward(coordinates, 0, coordinates, 0, 2, 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(4.00124343197523, coordinates[2 * i], 0.000001);
+            assertEquals(49.9994334980867, coordinates[2 * i + 1], 0.000001);
+        }
+    }
+
+    @Test
+    public void testBulkForwardInPlace(){
+        double[] src = new double[]{4, 50, 0, 4, 50, 0};
+        double[] dst = new double[6];
+
+        chain.forward(src, 0, dst, 0, 2, 3);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(4.00124343197523, dst[3 * i], 0.000001);
+            assertEquals(49.9994334980867, dst[3 * i + 1], 0.000001);
+        }
+        assertEquals(4, src[3], 0.0);
+    }
+
+    @Test
+    public void testBulkReverse(){
+        double[] coordinates = new double[]{4.00124343197523, 49.9994334980867, 0, 4.00124343197523, 49.9994334980867, 0};
+
+        chain.reverse(coordinates, 0, coordinates, 0, 2, 3);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(4, coordinates[3 * i], 0.000001);
+            assertEquals(50, coordinates[3 * i + 1], 0.000001);
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testThrowsExceptionWhenDimensionsDoNotMatch() {
         CoordinateOperation testOp = new TrivialOp();
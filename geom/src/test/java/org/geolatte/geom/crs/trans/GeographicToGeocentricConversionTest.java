@@ -36,5 +36,16 @@ public class GeographicToGeocentricConversionTest {
         assertEquals(73.0, result[2], 0.01);
     }
 
+    @Test
+    public void testBulkForwardInPlace(){
+
+        double[] coordinates = new double[]{2.12955, 53.80939444, 73.0, 2.12955, 53.80939444, 73.0};
+        toGeocentric.forward(coordinates, 0, coordinates, 0, 2, 3);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(3771793.968, coordinates[3 * i], 0.01);
+            assertEquals(140253.342, coordinates[3 * i + 1], 0.01);
+            assertEquals(5124304.349, coordinates[3 * i + 2], 0.01);
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -32,4 +32,18 @@ public class PositionVectorTransformationTest {
         assertEquals(5201382.11, out[2], 0.01);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testBulkForward(){
+        double[] src = new double[]{3657660.66, 255768.55, 5201382.11, 3657660.78, 255778.43, 5201387.75};
+        double[] dst = new double[6];
+        wgs72Towgs84.forward(src, 0, dst, 0, 2, 3);
+        double[] out = new double[3];
+        for (int i = 0; i < 2; i++) {
+            wgs72Towgs84.forward(new double[]{src[3 * i], src[3 * i + 1], src[3 * i + 2]}, out);
+            assertEquals(out[0], dst[3 * i], 0.0000001);
+            assertEquals(out[1], dst[3 * i + 1], 0.0000001);
+            assertEquals(out[2], dst[3 * i + 2], 0.0000001);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.geolatte.geom.crs.trans;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.*;
+
+public class TestTransformOperations {
+
+    @SuppressWarnings("unchecked")
+    private CoordinateReferenceSystem<C2D> lambert72 =
+            (CoordinateReferenceSystem<C2D>) CrsRegistry.getCoordinateReferenceSystemForEPSG(31370, null);
+
+    @Test
+    public void testOperationsAreCached() {
+        TransformOperation<G2D, C2D> op = TransformOperations.from(WGS84, WEB_MERCATOR);
+        assertSame(op, TransformOperations.from(WGS84, WEB_MERCATOR));
+        assertNotSame(op, TransformOperations.from(WGS84, lambert72));
+    }
+
+    @Test
+    public void testClearCache() {
+        TransformOperation<G2D, C2D> op = TransformOperations.from(WGS84, WEB_MERCATOR);
+        TransformOperations.clearCache();
+        TransformOperation<G2D, C2D> other = TransformOperations.from(WGS84, WEB_MERCATOR);
+        assertNotSame(op, other);
+        assertEquals(op.forward(new G2D(4, 50)), other.forward(new G2D(4, 50)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCacheIsBounded() {
+        TransformOperations.clearCache();
+        //pairs of UTM zones (WGS 84 / UTM zone 1N - 60N)
+        for (int source = 32601; source <= 32660; source++) {
+            for (int target = 32601; target <= 32610; target++) {
+                TransformOperations.from(
+                        (CoordinateReferenceSystem<C2D>) CrsRegistry.getCoordinateReferenceSystemForEPSG(source, null),
+                        (CoordinateReferenceSystem<C2D>) CrsRegistry.getCoordinateReferenceSystemForEPSG(target, null));
+            }
+        }
+        assertEquals(TransformOperations.MAX_CACHE_SIZE, TransformOperations.cacheSize());
+    }
+
+    @Test
+    public void testSharedOperationIsThreadSafe() throws Exception {
+        int numPoints = 10000;
+        double[][] in = new double[numPoints][];
+        double[][] expected = new double[numPoints][];
+        CoordinateOperation reference = new DefaultTransformOperation<>(WGS84, lambert72).getOperation();
+        for (int i = 0; i < numPoints; i++) {
+            in[i] = new double[]{2.5 + 4.0 * i / numPoints, 49.5 + 2.0 * i / numPoints};
+            expected[i] = new double[2];
+            reference.forward(in[i], expected[i]);
+        }
+
+        CoordinateOperation shared = TransformOperations.from(WGS84, lambert72).getOperation();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit((Callable<Boolean>) () -> {
+                    double[] out = new double[2];
+                    for (int i = 0; i < numPoints; i++) {
+                        shared.forward(in[i], out);
+                        if (out[0] != expected[i][0] || out[1] != expected[i][1]) return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -4,6 +4,10 @@ import org.geolatte.geom.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.geolatte.geom.CrsMock.*;
 import static org.geolatte.geom.builder.DSL.*;
 import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
@@ -153,6 +157,14 @@ public class TestTransformVisitor {
         ), projected);
     }
 
+    @Test
+    public void testLineStringTransformWithinSameCrs() {
+        LineString<G2D> line = linestring(WGS84, g(5.32, 51.3), g(4.89, 50.76));
+        TransformVisitor<G2D, G2D> visitor = new TransformVisitor<>(TransformOperations.from(WGS84, WGS84));
+        line.accept(visitor);
+        assertEquals(line, visitor.getTransformed());
+    }
+
     @Test
     public void testLineStringTransform3DTo2D() {
         LineString<G3D> line = linestring(WGS84_Z, g(5.32, 51.3, 10.0), g(4.89, 50.76, 12.0));
@@ -255,6 +267,50 @@ public class TestTransformVisitor {
                 , projected);
     }
 
+    @Test
+    public void testParallelLineStringTransform() {
+        int n = 3 * TransformVisitor.CHUNK_SIZE + 17;
+        PositionSequenceBuilder<G3D> builder = PositionSequenceBuilders.fixedSized(n, G3D.class);
+        for (int i = 0; i < n; i++) {
+            builder.add(2.5 + 4.0 * i / n, 49.5 + 2.0 * i / n, i);
+        }
+        LineString<G3D> line = new LineString<>(builder.toPositionSequence(), WGS84_Z);
+        TransformOperation<G3D, C2D> op = TransformOperations.from(WGS84_Z, MERCATOR);
+
+        TransformVisitor<G3D, C2D> sequential = new TransformVisitor<>(op);
+        line.accept(sequential);
+        TransformVisitor<G3D, C2D> parallel = new TransformVisitor<>(op, 1000);
+        line.accept(parallel);
+
+        assertEquals(sequential.getTransformed(), parallel.getTransformed());
+    }
+
+    @Test
+    public void testParallelMultiPolygonTransform() {
+        List<Polygon<G2D>> polygons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double x = 3 + i * 0.001;
+            polygons.add(polygon(WGS84, ring(g(x, 50), g(x, 51), g(x + 1, 51), g(x + 1, 50), g(x, 50))));
+        }
+        MultiPolygon<G2D> mp = new MultiPolygon<>(polygons.toArray(new Polygon[0]));
+        Geometry<G2D> gc = geometrycollection(point(WGS84, g(5, 50)), mp,
+                linestring(WGS84, g(5.32, 51.3), g(4.89, 50.76)));
+
+        gc.accept(visitor);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TransformVisitor<G2D, C2D> parallel = new TransformVisitor<>(op, pool, 100);
+            gc.accept(parallel);
+            assertEquals(visitor.getTransformed(), parallel.getTransformed());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelThresholdMustBePositive() {
+        new TransformVisitor<>(op, 0);
+    }
 
     //TODO -- add test for  linear axis in feet, not meters
 
@@ -72,4 +72,16 @@ public class LambertCC2SPTest {
 
     }
 
+    @Test
+    public void testBulkForwardInPlace(){
+
+        double[] coordinates = new double[]{5.3876389, 52.1561606, 5, 58};
+        BLambert72.forward(coordinates, 0, coordinates, 0, 2, 2);
+
+        assertEquals(219843.841, coordinates[0], 0.005);
+        assertEquals(316827.604, coordinates[1], 0.005);
+        assertEquals(187742.7, coordinates[2], 0.005);
+        assertEquals(969521.653, coordinates[3], 0.005);
+    }
+
 }
@@ -37,4 +37,76 @@ public class PseudoMercatorTest {
 
     }
 
+    @Test
+    public void testBulkForwardMatchesPointwise() {
+        PseudoMercator pseudoMercator = new PseudoMercator();
+        double[] src = new double[]{-1, 3, 50, 7, -120.5, -33.2, 8, 0, 0, 9};
+        double[] dst = new double[12];
+        pseudoMercator.forward(src, 1, dst, 2, 3, 3);
+        double[] out = new double[2];
+        for (int i = 0; i < 3; i++) {
+            pseudoMercator.forward(new double[]{src[1 + i * 3], src[2 + i * 3]}, out);
+            assertEquals(out[0], dst[2 + i * 3], 0.0000001);
+            assertEquals(out[1], dst[3 + i * 3], 0.0000001);
+        }
+    }
+
+    @Test
+    public void testBulkForwardMatchesReferenceFormulas() {
+        PseudoMercator pseudoMercator = new PseudoMercator();
+        double[] coordinates = grid();
+        double[] expected = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i += 2) {
+            double l = Math.toRadians(coordinates[i]);
+            double p = Math.toRadians(coordinates[i + 1]);
+            expected[i] = 6378137.0 * l;
+            expected[i + 1] = 6378137.0 * Math.log(Math.tan(Math.PI / 4 + p / 2));
+        }
+        pseudoMercator.forward(coordinates, 0, coordinates, 0, coordinates.length / 2, 2);
+        for (int i = 0; i < coordinates.length; i++) {
+            assertEquals(expected[i], coordinates[i], 0.000001);
+        }
+    }
+
+    @Test
+    public void testBulkReverseMatchesReferenceFormulas() {
+        PseudoMercator pseudoMercator = new PseudoMercator();
+        double[] coordinates = grid();
+        pseudoMercator.forward(coordinates, 0, coordinates, 0, coordinates.length / 2, 2);
+        double[] expected = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i += 2) {
+            double d = -coordinates[i + 1] / 6378137.0;
+            expected[i] = Math.toDegrees(coordinates[i] / 6378137.0);
+            expected[i + 1] = Math.toDegrees(Math.PI / 2 - 2 * Math.atan(Math.pow(Math.E, d)));
+        }
+        pseudoMercator.reverse(coordinates, 0, coordinates, 0, coordinates.length / 2, 2);
+        for (int i = 0; i < coordinates.length; i++) {
+            assertEquals(expected[i], coordinates[i], 0.000000001);
+        }
+    }
+
+    @Test
+    public void testBulkRoundTrip() {
+        PseudoMercator pseudoMercator = new PseudoMercator();
+        double[] original = grid();
+        double[] coordinates = original.clone();
+        pseudoMercator.forward(coordinates, 0, coordinates, 0, coordinates.length / 2, 2);
+        pseudoMercator.reverse(coordinates, 0, coordinates, 0, coordinates.length / 2, 2);
+        for (int i = 0; i < coordinates.length; i++) {
+            assertEquals(original[i], coordinates[i], 0.000000001);
+        }
+    }
+
+    private static double[] grid() {
+        double[] coordinates = new double[2 * 73 * 35];
+        int idx = 0;
+        for (int lon = -180; lon <= 180; lon += 5) {
+            for (double lat = -85; lat <= 85; lat += 5) {
+                coordinates[idx++] = lon + 0.123;
+                coordinates[idx++] = lat + 0.0456;
+            }
+        }
+        return coordinates;
+    }
+
 }
@@ -27,6 +27,8 @@ import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
 import org.locationtech.jts.geom.CoordinateXYM;
 import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.geolatte.geom.Geometry;
@@ -36,6 +38,8 @@ import org.geolatte.geom.Measured;
 import org.geolatte.geom.Point;
 import org.geolatte.geom.Position;
 import org.geolatte.geom.PositionSequence;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.C3D;
 import org.geolatte.geom.C3DM;
 import org.geolatte.geom.codec.Wkt;
 import org.geolatte.geom.codec.WktDecodeException;
@@ -278,6 +282,26 @@ public class TestJTS {
         }
     }
 
+    @Test
+    public void testFromAdoptsPackedCoordinateSequenceWithSameLayout() {
+        double[] ordinates = {1, 2, 3, 4, 5, 6};
+        org.locationtech.jts.geom.GeometryFactory factory =
+                new org.locationtech.jts.geom.GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+        org.locationtech.jts.geom.LineString jtsLine =
+                factory.createLineString(new PackedCoordinateSequence.Double(ordinates, 2, 0));
+
+        org.geolatte.geom.LineString<C2D> line = JTS.from(jtsLine, crs);
+        assertEquals(c(3, 4), line.getPositionN(1));
+        // the coordinate array is shared, not copied
+        ordinates[2] = 7;
+        assertEquals(7, line.getPositionN(1).getX(), 0);
+
+        // when the layout differs, the coordinates are copied
+        org.geolatte.geom.LineString<C3D> line3D = JTS.from(jtsLine, crsZ);
+        assertEquals(5, line3D.getPositionN(2).getX(), 0);
+        assertTrue(Double.isNaN(line3D.getPositionN(2).getZ()));
+    }
+
     private org.locationtech.jts.geom.Geometry parseWKTtoJTS(String wkt, org.locationtech.jts.geom.Geometry jtsGeom) {
         try {
             jtsGeom = jtsWktDecoder.read(wkt);
@@ -0,0 +1,138 @@
+package org.geolatte.geom.json;
+
+import org.geolatte.geom.codec.support.DecimalFormatter;
+import org.geolatte.geom.crs.AngularUnit;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateSystem;
+
+/**
+ * The number of decimal places with which coordinates are written to GeoJSON, per type of axis.
+ *
+ * <p>Horizontal coordinates are rounded to the geographic number of decimals when the axes of the
+ * coordinate reference system have an angular unit (e.g. degrees), and otherwise to the projected number
+ * of decimals. Z and M coordinates each have their own number of decimals. Trailing zeros are not written.</p>
+ *
+ * <p>A value of {@link #FULL} for an axis type means that its coordinates are written without rounding, which
+ * is the default.</p>
+ */
+public final class CoordinatePrecision {
+
+    /**
+     * The number of decimals that selects writing coordinates at full double precision.
+     */
+    public static final int FULL = -1;
+
+    /**
+     * The maximum number of decimals.
+     */
+    public static final int MAX_DECIMALS = DecimalFormatter.MAX_FRACTION_DIGITS;
+
+    /**
+     * Writes all coordinates at full precision.
+     */
+    public static final CoordinatePrecision FULL_PRECISION = new CoordinatePrecision(FULL, FULL, FULL, FULL);
+
+    private final int geographic;
+    private final int projected;
+    private final int z;
+    private final int m;
+
+    private CoordinatePrecision(int geographic, int projected, int z, int m) {
+        this.geographic = check(geographic);
+        this.projected = check(projected);
+        this.z = check(z);
+        this.m = check(m);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param geographic the decimals for horizontal coordinates with an angular unit
+     * @param projected  the decimals for other horizontal coordinates
+     * @param z          the decimals for Z coordinates
+     * @param m          the decimals for M coordinates
+     * @return the {@code CoordinatePrecision}
+     * @throws IllegalArgumentException if a number of decimals is not {@link #FULL} or between 0 and
+     *                                  {@link #MAX_DECIMALS}
+     */
+    public static CoordinatePrecision of(int geographic, int projected, int z, int m) {
+        return new CoordinatePrecision(geographic, projected, z, m);
+    }
+
+    /**
+     * Creates an instance that writes Z and M coordinates at full precision.
+     *
+     * @param geographic the decimals for horizontal coordinates with an angular unit
+     * @param projected  the decimals for other horizontal coordinates
+     * @return the {@code CoordinatePrecision}
+     */
+    public static CoordinatePrecision of(int geographic, int projected) {
+        return new CoordinatePrecision(geographic, projected, FULL, FULL);
+    }
+
+    public int getGeographic() {
+        return geographic;
+    }
+
+    public int getProjected() {
+        return projected;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    public int getM() {
+        return m;
+    }
+
+    /**
+     * Returns the number of decimals for each coordinate of the positions in the specified CRS, in the order
+     * of the coordinates, or null if all are written at full precision.
+     */
+    int[] decimalsFor(CoordinateReferenceSystem<?> crs) {
+        if (this.equals(FULL_PRECISION)) return null;
+        CoordinateSystem<?> cs = crs.getCoordinateSystem();
+        int dim = cs.getCoordinateDimension();
+        int[] decimals = new int[dim];
+        boolean rounded = false;
+        for (int i = 0; i < dim; i++) {
+            if (i < 2) {
+                decimals[i] = cs.getAxisForComponentIndex(i).getUnit() instanceof AngularUnit ? geographic : projected;
+            } else if (i == 2 && crs.hasZ()) {
+                decimals[i] = z;
+            } else {
+                decimals[i] = m;
+            }
+            rounded |= decimals[i] != FULL;
+        }
+        return rounded ? decimals : null;
+    }
+
+    private static int check(int decimals) {
+        if (decimals != FULL && (decimals < 0 || decimals > MAX_DECIMALS)) {
+            throw new IllegalArgumentException(String.format("Number of decimals must be between 0 and %d",
+                    MAX_DECIMALS));
+        }
+        return decimals;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CoordinatePrecision)) return false;
+        CoordinatePrecision that = (CoordinatePrecision) o;
+        return geographic == that.geographic && projected == that.projected && z == that.z && m == that.m;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * geographic + projected) + z) + m;
+    }
+
+    @Override
+    public String toString() {
+        return "CoordinatePrecision{geographic=" + geographic + ", projected=" + projected + ", z=" + z +
+                ", m=" + m + "}";
+    }
+}
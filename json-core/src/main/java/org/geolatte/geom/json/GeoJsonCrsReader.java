@@ -3,6 +3,8 @@ package org.geolatte.geom.json;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.crs.CrsId;
 import org.geolatte.geom.crs.CrsRegistry;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTokenSource.Token;
 import org.geolatte.geom.json.spi.JsonTreeNode;
 
 /**
@@ -31,7 +33,17 @@ public final class GeoJsonCrsReader {
      * if the input is null/UNDEFINED or {@link Setting#IGNORE_CRS} is set).
      */
     public CoordinateReferenceSystem<?> resolve(JsonTreeNode crsNode) {
-        CrsId id = readCrsId(crsNode);
+        return resolve(readCrsId(crsNode));
+    }
+
+    /**
+     * Resolves the CRS from the GeoJSON {@code crs} object that starts at the current token of the source.
+     */
+    public CoordinateReferenceSystem<?> resolve(JsonTokenSource source) {
+        return resolve(readCrsId(source));
+    }
+
+    private CoordinateReferenceSystem<?> resolve(CrsId id) {
         return id.equals(CrsId.UNDEFINED) || settings.isSet(Setting.IGNORE_CRS) ?
                 this.defaultCrs :
                 CrsRegistry.getCoordinateReferenceSystemForEPSG(id.getCode(), defaultCrs);
@@ -45,14 +57,58 @@ public final class GeoJsonCrsReader {
         if (crs == null) return CrsId.UNDEFINED;
 
         String type = crs.get("type").asText();
+        JsonTreeNode properties = crs.get("properties");
+        if (type.equalsIgnoreCase("name")) {
+            return toCrsId(type, properties.get("name").asText());
+        }
+        if (type.equalsIgnoreCase("link")) {
+            return toCrsId(type, properties.get("href").asText());
+        }
+        return toCrsId(type, null);
+    }
+
+    /**
+     * Parses the CRS object that starts at the current token of the source into its {@link CrsId}.
+     */
+    public CrsId readCrsId(JsonTokenSource source) {
+        if (source.currentToken() == Token.NULL) return CrsId.UNDEFINED;
+        String type = null;
+        String name = null;
+        String href = null;
+        Token token = source.currentToken() == Token.START_OBJECT ? source.nextToken() : source.currentToken();
+        for (; token == Token.PROPERTY_NAME; token = source.nextToken()) {
+            String field = source.currentName();
+            source.nextToken();
+            if (field.equals("type")) {
+                type = source.getText();
+            } else if (field.equals("properties") && source.currentToken() == Token.START_OBJECT) {
+                while (source.nextToken() == Token.PROPERTY_NAME) {
+                    String property = source.currentName();
+                    source.nextToken();
+                    if (property.equals("name")) {
+                        name = source.getText();
+                    } else if (property.equals("href")) {
+                        href = source.getText();
+                    } else {
+                        source.skipChildren();
+                    }
+                }
+            } else {
+                source.skipChildren();
+            }
+        }
+        if (type == null) {
+            throw new GeoJsonException("Missing type member in GeoJson crs");
+        }
+        return toCrsId(type, type.equalsIgnoreCase("name") ? name : href);
+    }
 
+    private CrsId toCrsId(String type, String text) {
         if (type.equalsIgnoreCase("name")) {
-            String text = crs.get("properties").get("name").asText();
             return CrsId.parse(text);
         }
 
         if (type.equalsIgnoreCase("link")) {
-            String text = crs.get("properties").get("href").asText();
             String[] components = text.split("/");
             int last = components.length - 1;
             return CrsId.valueOf(components[last - 1], Integer.decode(components[last]));
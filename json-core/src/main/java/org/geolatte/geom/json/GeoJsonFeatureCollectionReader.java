@@ -3,6 +3,8 @@ package org.geolatte.geom.json;
 import org.geolatte.geom.Feature;
 import org.geolatte.geom.FeatureCollection;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTokenSource.Token;
 import org.geolatte.geom.json.spi.JsonTreeNode;
 
 import java.util.ArrayList;
@@ -30,4 +32,28 @@ public final class GeoJsonFeatureCollectionReader {
         }
         return new GeoJsonFeatureCollection(features);
     }
+
+    /**
+     * Reads the feature collection object that starts at the current token of the source, decoding the
+     * features one by one. On return the source is positioned on the closing token of the object.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public FeatureCollection<?, ?> read(JsonTokenSource source) {
+        List<Feature<?, ?>> features = new ArrayList<>();
+        Token token = source.currentToken() == Token.START_OBJECT ? source.nextToken() : source.currentToken();
+        for (; token == Token.PROPERTY_NAME; token = source.nextToken()) {
+            String name = source.currentName();
+            if (source.nextToken() == Token.START_ARRAY && name.equals("features")) {
+                while (source.nextToken() != Token.END_ARRAY) {
+                    features.add(featureReader.read(source));
+                }
+            } else {
+                source.skipChildren();
+            }
+        }
+        if (token != Token.END_OBJECT) {
+            throw new GeoJsonException("Parser expects feature collection as object");
+        }
+        return new GeoJsonFeatureCollection(features);
+    }
 }
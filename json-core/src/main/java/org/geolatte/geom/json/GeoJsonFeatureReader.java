@@ -2,6 +2,8 @@ package org.geolatte.geom.json;
 
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTokenSource.Token;
 import org.geolatte.geom.json.spi.JsonTreeNode;
 
 import java.util.HashMap;
@@ -28,27 +30,64 @@ public final class GeoJsonFeatureReader {
         JsonTreeNode geomNode = root.get("geometry");
         Geometry<?> geom = (geomNode == null || geomNode.isNull()) ? null : geometryReader.read(geomNode);
 
-        Object id = null;
-        JsonTreeNode idNode = root.get("id");
-        if (idNode != null) {
-            if (idNode.canConvertToLong()) {
-                id = idNode.asLong();
-            } else {
-                id = idNode.asText();
-            }
-        }
+        Object id = toId(root.get("id"));
 
         HashMap<String, Object> properties = new HashMap<>();
         JsonTreeNode propNode = root.get("properties");
         if (propNode != null && !propNode.isNull()) {
-            Object obj = propNode.toJavaObject();
-            if (obj instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> m = (Map<String, Object>) obj;
-                properties.putAll(m);
-            }
+            putProperties(properties, propNode.toJavaObject());
         }
 
         return new GeoJsonFeature<>(geom, id, properties);
     }
+
+    /**
+     * Reads the feature object that starts at the current token of the source. On return the source is
+     * positioned on the closing token of the object.
+     */
+    public GeoJsonFeature<?, Object> read(JsonTokenSource source) {
+        Geometry<?> geom = null;
+        Object id = null;
+        HashMap<String, Object> properties = new HashMap<>();
+
+        Token token = source.currentToken() == Token.START_OBJECT ? source.nextToken() : source.currentToken();
+        for (; token == Token.PROPERTY_NAME; token = source.nextToken()) {
+            String name = source.currentName();
+            Token value = source.nextToken();
+            switch (name) {
+                case "geometry":
+                    geom = value == Token.NULL ? null : geometryReader.read(source);
+                    break;
+                case "id":
+                    id = toId(source.readTree());
+                    break;
+                case "properties":
+                    if (value != Token.NULL) {
+                        putProperties(properties, source.readJavaObject());
+                    }
+                    break;
+                default:
+                    source.skipChildren();
+            }
+        }
+        if (token != Token.END_OBJECT) {
+            throw new GeoJsonException("Parser expects feature as object");
+        }
+        return new GeoJsonFeature<>(geom, id, properties);
+    }
+
+    private static Object toId(JsonTreeNode idNode) {
+        if (idNode == null) {
+            return null;
+        }
+        return idNode.canConvertToLong() ? idNode.asLong() : idNode.asText();
+    }
+
+    private static void putProperties(HashMap<String, Object> properties, Object obj) {
+        if (obj instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> m = (Map<String, Object>) obj;
+            properties.putAll(m);
+        }
+    }
 }
@@ -0,0 +1,290 @@
+package org.geolatte.geom.json;
+
+import org.geolatte.geom.Feature;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTokenSource.Token;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Jackson-free reader that decodes GeoJSON features one at a time from a {@link JsonTokenSource}.
+ *
+ * <p>Two input formats are supported: a single {@code FeatureCollection} object, of which the
+ * members of the {@code features} array are returned, and a GeoJSON text sequence (RFC 8142, or
+ * newline-delimited GeoJSON) of {@code Feature} objects. Only the feature that is being decoded is held
+ * in memory, so arbitrarily large inputs can be processed.</p>
+ *
+ * <p>Instances are created by the Jackson adapter modules, and are not thread-safe. Closing an instance
+ * closes the underlying input.</p>
+ */
+public final class GeoJsonFeatureStreamReader implements Iterator<Feature<?, ?>>, Closeable {
+
+    private static final byte RECORD_SEPARATOR = 0x1E;
+
+    private final JsonTokenSource source;
+    private final Closeable input;
+    private final boolean sequence;
+    private final GeoJsonFeatureReader featureReader;
+
+    private boolean started = false;
+    private boolean pending = false;
+    private boolean done = false;
+
+    private GeoJsonFeatureStreamReader(JsonTokenSource source, Closeable input, boolean sequence,
+                                       CoordinateReferenceSystem<?> defaultCrs, Settings settings) {
+        this.source = source;
+        this.input = input;
+        this.sequence = sequence;
+        this.featureReader = new GeoJsonFeatureReader(defaultCrs, settings);
+    }
+
+    /**
+     * Creates a reader for the features of the {@code FeatureCollection} object that starts at the next token
+     * of the source.
+     */
+    public static GeoJsonFeatureStreamReader forFeatureCollection(JsonTokenSource source, Closeable input,
+                                                                  CoordinateReferenceSystem<?> defaultCrs,
+                                                                  Settings settings) {
+        return new GeoJsonFeatureStreamReader(source, input, false, defaultCrs, settings);
+    }
+
+    /**
+     * Creates a reader for a sequence of root-level {@code Feature} objects.
+     *
+     * <p>For RFC 8142 input, the source must be created over the stream returned by
+     * {@link #toSequenceInput(InputStream)}.</p>
+     */
+    public static GeoJsonFeatureStreamReader forSequence(JsonTokenSource source, Closeable input,
+                                                         CoordinateReferenceSystem<?> defaultCrs,
+                                                         Settings settings) {
+        return new GeoJsonFeatureStreamReader(source, input, true, defaultCrs, settings);
+    }
+
+    /**
+     * Returns a view of a GeoJSON text sequence in which the RS (0x1E) record separators are replaced by
+     * whitespace, so that a JSON parser reads the texts as a sequence of root-level values.
+     */
+    public static InputStream toSequenceInput(InputStream in) {
+        return new RecordSeparatorFilter(in);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending) return true;
+        if (done) return false;
+        if (!started) {
+            started = true;
+            if (!sequence && !enterFeaturesArray()) {
+                done = true;
+                return false;
+            }
+        }
+        Token token = source.nextToken();
+        if (token == Token.START_OBJECT) {
+            pending = true;
+        } else if ((sequence && token == null) || (!sequence && token == Token.END_ARRAY)) {
+            done = true;
+        } else {
+            throw new GeoJsonException("Parser expects feature as object");
+        }
+        return pending;
+    }
+
+    @Override
+    public Feature<?, ?> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        pending = false;
+        return featureReader.read(source);
+    }
+
+    /**
+     * Returns the remaining features as a sequential {@code Stream}. Closing the stream closes this reader.
+     */
+    public Stream<Feature<?, ?>> stream() {
+        return toStream(this).onClose(this::closeUnchecked);
+    }
+
+    /**
+     * Returns the remaining features as a sequential {@code Stream} whose features are decoded ahead of the
+     * consumer on a separate thread.
+     *
+     * <p>At most {@code capacity} decoded features are buffered, so that parsing and the processing of the
+     * features overlap while memory use stays bounded. Any exception or error thrown while decoding is rethrown
+     * to the consumer. Closing
+     * the stream stops the decoding thread and closes this reader.</p>
+     *
+     * @param capacity the maximum number of features that are decoded ahead
+     */
+    public Stream<Feature<?, ?>> stream(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        Prefetcher prefetcher = new Prefetcher(this, capacity);
+        return toStream(prefetcher).onClose(prefetcher::close);
+    }
+
+    @Override
+    public void close() throws IOException {
+        done = true;
+        pending = false;
+        input.close();
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // positions the source on the start of the features array; returns false if there is none
+    private boolean enterFeaturesArray() {
+        Token token = source.currentToken() == null ? source.nextToken() : source.currentToken();
+        if (token != Token.START_OBJECT) {
+            throw new GeoJsonException("Parser expects feature collection as object");
+        }
+        while (source.nextToken() == Token.PROPERTY_NAME) {
+            String name = source.currentName();
+            if (source.nextToken() == Token.START_ARRAY && name.equals("features")) {
+                return true;
+            }
+            source.skipChildren();
+        }
+        return false;
+    }
+
+    private static Stream<Feature<?, ?>> toStream(Iterator<Feature<?, ?>> iterator) {
+        Spliterator<Feature<?, ?>> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * A bounded producer/consumer pipeline: a daemon thread decodes features into a queue, from which
+     * the consumer takes them. The producer always ends the queue with {@code END} or with the {@code Failure}
+     * that stopped it, so the consumer never waits for a producer that has terminated.
+     */
+    private static final class Prefetcher implements Iterator<Feature<?, ?>> {
+
+        private static final Object END = new Object();
+
+        private final GeoJsonFeatureStreamReader reader;
+        private final BlockingQueue<Object> queue;
+        private final Thread producer;
+        private Object nextItem;
+
+        Prefetcher(GeoJsonFeatureStreamReader reader, int capacity) {
+            this.reader = reader;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.producer = new Thread(this::produce, "geojson-feature-reader");
+            this.producer.setDaemon(true);
+            this.producer.start();
+        }
+
+        private void produce() {
+            Object last = END;
+            try {
+                while (reader.hasNext()) {
+                    queue.put(reader.next());
+                }
+            } catch (InterruptedException e) {
+                // the consumer closed the stream
+                return;
+            } catch (Throwable t) {
+                last = new Failure(t);
+            }
+            try {
+                queue.put(last);
+            } catch (InterruptedException e) {
+                // the consumer closed the stream
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextItem == null) {
+                try {
+                    nextItem = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new GeoJsonException(e);
+                }
+            }
+            if (nextItem instanceof Failure) {
+                Throwable cause = ((Failure) nextItem).cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new GeoJsonException(cause);
+            }
+            return nextItem != END;
+        }
+
+        @Override
+        public Feature<?, ?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Feature<?, ?> feature = (Feature<?, ?>) nextItem;
+            nextItem = null;
+            return feature;
+        }
+
+        void close() {
+            producer.interrupt();
+            // closing the input also unblocks a producer that is waiting for input
+            try {
+                reader.input.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // the Throwable that stopped the producer, to be rethrown by the consumer
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private static final class RecordSeparatorFilter extends FilterInputStream {
+
+        RecordSeparatorFilter(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            return b == RECORD_SEPARATOR ? ' ' : b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            for (int i = off; i < off + n; i++) {
+                if (b[i] == RECORD_SEPARATOR) b[i] = ' ';
+            }
+            return n;
+        }
+    }
+}
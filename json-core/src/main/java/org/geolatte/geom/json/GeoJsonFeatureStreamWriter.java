@@ -0,0 +1,140 @@
+package org.geolatte.geom.json;
+
+import org.geolatte.geom.Box;
+import org.geolatte.geom.Feature;
+import org.geolatte.geom.FeatureCollection;
+import org.geolatte.geom.Position;
+import org.geolatte.geom.Positions;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.spi.GeoJsonWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Jackson-free writer that writes a GeoJSON {@code FeatureCollection} one feature at a time.
+ *
+ * <p>Unlike {@link GeoJsonFeatureCollectionWriter}, which needs a {@link FeatureCollection} holding all
+ * features, features are written as they are passed to {@link #write(Feature)}, so that collections of any
+ * size can be written in bounded memory.</p>
+ *
+ * <p>As for {@link GeoJsonFeatureCollectionWriter}, the {@code bbox} member of the collection is only written if
+ * {@link Setting#SERIALIZE_FEATURE_COLLECTION_BBOX} is set. It is then written in one of two ways:</p>
+ * <ul>
+ *     <li>if a precomputed {@code Box} is passed on creation, it is written before the features;</li>
+ *     <li>otherwise, the bbox is accumulated while the features are written, and written as a trailing member
+ *     after the features.</li>
+ * </ul>
+ *
+ * <p>Instances are created by the Jackson adapter modules, and are not thread-safe. {@link #close()} completes
+ * the FeatureCollection and closes the underlying output.</p>
+ */
+public final class GeoJsonFeatureStreamWriter implements Closeable {
+
+    private final GeoJsonWriter out;
+    private final Closeable output;
+    private final boolean trackBbox;
+
+    private CoordinateReferenceSystem<?> bboxCrs;
+    private double[] min;
+    private double[] max;
+    private boolean closed = false;
+
+    private GeoJsonFeatureStreamWriter(GeoJsonWriter out, Closeable output, boolean trackBbox) {
+        this.out = out;
+        this.output = output;
+        this.trackBbox = trackBbox;
+    }
+
+    /**
+     * Starts a FeatureCollection.
+     *
+     * @param out      the writer to write to
+     * @param output   the output to close when the FeatureCollection is complete
+     * @param settings the settings
+     * @param bbox     the precomputed bbox of the FeatureCollection, or null
+     */
+    public static GeoJsonFeatureStreamWriter open(GeoJsonWriter out, Closeable output, Settings settings, Box<?> bbox) {
+        boolean writeBbox = settings.isSet(Setting.SERIALIZE_FEATURE_COLLECTION_BBOX);
+        GeoJsonFeatureStreamWriter writer = new GeoJsonFeatureStreamWriter(out, output, writeBbox && bbox == null);
+        out.writeStartObject();
+        out.writeStringProperty("type", FeatureCollection.TYPE);
+        if (writeBbox && bbox != null && !bbox.isEmpty()) {
+            out.writePojoProperty("bbox", bbox);
+        }
+        out.writeArrayPropertyStart("features");
+        return writer;
+    }
+
+    /**
+     * Writes a feature.
+     */
+    public void write(Feature<?, ?> feature) {
+        if (closed) {
+            throw new IllegalStateException("FeatureCollection is already closed");
+        }
+        out.writePojo(feature);
+        if (trackBbox) {
+            expandBbox(feature.getBbox());
+        }
+    }
+
+    /**
+     * Writes the remaining features of the iterator.
+     */
+    public void writeAll(Iterator<? extends Feature<?, ?>> features) {
+        while (features.hasNext()) {
+            write(features.next());
+        }
+    }
+
+    /**
+     * Writes the features of the stream, in encounter order.
+     */
+    public void writeAll(Stream<? extends Feature<?, ?>> features) {
+        features.forEachOrdered(this::write);
+    }
+
+    /**
+     * Completes the FeatureCollection, and closes the underlying output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        out.writeEndArray();
+        if (min != null) {
+            out.writePojoProperty("bbox", toBox());
+        }
+        out.writeEndObject();
+        output.close();
+    }
+
+    private void expandBbox(Box<?> box) {
+        if (box == null || box.isEmpty()) return;
+        Position lowerLeft = box.lowerLeft();
+        Position upperRight = box.upperRight();
+        if (min == null) {
+            bboxCrs = box.getCoordinateReferenceSystem();
+            min = new double[lowerLeft.getCoordinateDimension()];
+            max = new double[min.length];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        } else if (!bboxCrs.equals(box.getCoordinateReferenceSystem())) {
+            throw new IllegalArgumentException("Features have different CRS.");
+        }
+        for (int i = 0; i < min.length; i++) {
+            min[i] = Math.min(min[i], lowerLeft.getCoordinate(i));
+            max[i] = Math.max(max[i], upperRight.getCoordinate(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P extends Position> Box<P> toBox() {
+        CoordinateReferenceSystem<P> crs = (CoordinateReferenceSystem<P>) bboxCrs;
+        return new Box<>(Positions.mkPosition(crs, min), Positions.mkPosition(crs, max), crs);
+    }
+}
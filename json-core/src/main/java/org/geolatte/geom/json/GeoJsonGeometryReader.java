@@ -7,13 +7,17 @@ import org.geolatte.geom.codec.support.DecodeException;
 import org.geolatte.geom.codec.support.Holder;
 import org.geolatte.geom.codec.support.LinearPositionsHolder;
 import org.geolatte.geom.codec.support.LinearPositionsListHolder;
+import org.geolatte.geom.codec.support.PackedPositionsHolder;
 import org.geolatte.geom.codec.support.PointHolder;
 import org.geolatte.geom.codec.support.PolygonListHolder;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.crs.CoordinateReferenceSystems;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTokenSource.Token;
 import org.geolatte.geom.json.spi.JsonTreeNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
@@ -26,6 +30,13 @@ import static org.geolatte.geom.Geometries.mkGeometryCollection;
  * <p>This is the canonical implementation of GeoJSON geometry decoding. The Jackson
  * adapter modules call into this class via {@link JsonTreeNode}; they do not duplicate
  * the decoding logic.</p>
+ *
+ * <p>Geometries can be read either from a {@link JsonTreeNode} or, without building a tree,
+ * from a {@link JsonTokenSource}. In the latter case the coordinates are written directly into
+ * a packed {@code double[]} per position list, provided the {@code type} member precedes the
+ * {@code coordinates} member (as it does in practice). Otherwise only the {@code coordinates}
+ * member is buffered as a tree. The {@code crs} member may appear anywhere: it is only resolved
+ * once the whole geometry object has been read.</p>
  */
 public final class GeoJsonGeometryReader {
 
@@ -40,8 +51,19 @@ public final class GeoJsonGeometryReader {
     }
 
     public Geometry<?> read(JsonTreeNode root) {
-        CoordinateReferenceSystem<?> crs = resolveBaseCrs(root);
-        GeometryBuilder builder = GeometryBuilder.create(root);
+        return build(GeometryBuilder.create(root));
+    }
+
+    /**
+     * Reads the geometry object that starts at the current token of the source. On return the source is
+     * positioned on the closing token of the object.
+     */
+    public Geometry<?> read(JsonTokenSource source) {
+        return build(GeometryBuilder.read(source));
+    }
+
+    private Geometry<?> build(GeometryBuilder builder) {
+        CoordinateReferenceSystem<?> crs = resolveBaseCrs(builder.crsNode);
         CoordinateReferenceSystem<?> adjustedCrs = settings.isSet(Setting.FORCE_DEFAULT_CRS_DIMENSION) ||
                 settings.isSet(Setting.IGNORE_CRS) ?
                 crs :
@@ -49,8 +71,7 @@ public final class GeoJsonGeometryReader {
         return builder.parse(adjustedCrs);
     }
 
-    private CoordinateReferenceSystem<?> resolveBaseCrs(JsonTreeNode root) {
-        JsonTreeNode crsNode = root.get("crs");
+    private CoordinateReferenceSystem<?> resolveBaseCrs(JsonTreeNode crsNode) {
         if (crsNode == null || settings.isSet(Setting.FORCE_DEFAULT_CRS_DIMENSION) ||
                 settings.isSet(Setting.IGNORE_CRS)) {
             return defaultCrs;
@@ -64,12 +85,81 @@ public final class GeoJsonGeometryReader {
 
     abstract static class GeometryBuilder {
 
+        // the (unresolved) crs member of the geometry object, if any
+        JsonTreeNode crsNode;
+
         static GeometryBuilder create(JsonTreeNode root) {
             GeometryType type = getType(root);
+            GeometryBuilder builder = type == GeometryType.GEOMETRYCOLLECTION ?
+                    new GeometryCollectionBuilder(root) :
+                    new SimpleGeometryBuilder(root);
+            builder.crsNode = root.get("crs");
+            return builder;
+        }
+
+        static GeometryBuilder read(JsonTokenSource source) {
+            GeometryType type = null;
+            Holder coordinates = null;
+            JsonTreeNode coordinatesNode = null;
+            List<GeometryBuilder> components = null;
+            JsonTreeNode crsNode = null;
+
+            Token token = source.currentToken() == Token.START_OBJECT ? source.nextToken() : source.currentToken();
+            for (; token == Token.PROPERTY_NAME; token = source.nextToken()) {
+                String name = source.currentName();
+                source.nextToken();
+                switch (name) {
+                    case "type":
+                        type = toGeometryType(source.getText());
+                        break;
+                    case "coordinates":
+                        if (type != null && type != GeometryType.GEOMETRYCOLLECTION) {
+                            coordinates = SimpleGeometryBuilder.readHolder(type, source);
+                        } else {
+                            coordinatesNode = source.readTree();
+                        }
+                        break;
+                    case "geometries":
+                        components = readComponents(source);
+                        break;
+                    case "crs":
+                        crsNode = source.readTree();
+                        break;
+                    default:
+                        source.skipChildren();
+                }
+            }
+            if (token != Token.END_OBJECT) {
+                throw new GeoJsonException("Parser expects geometry as object");
+            }
+            if (type == null) {
+                throw new GeoJsonException("Missing type member in GeoJson geometry");
+            }
+
+            GeometryBuilder builder;
             if (type == GeometryType.GEOMETRYCOLLECTION) {
-                return new GeometryCollectionBuilder(root);
+                builder = new GeometryCollectionBuilder(components == null ? new ArrayList<>() : components);
+            } else if (coordinates != null) {
+                builder = new SimpleGeometryBuilder(type, coordinates);
+            } else if (coordinatesNode != null) {
+                builder = new SimpleGeometryBuilder(type, SimpleGeometryBuilder.toHolder(type, coordinatesNode));
+            } else {
+                throw new GeoJsonException("Missing coordinates member in GeoJson geometry");
+            }
+            builder.crsNode = crsNode;
+            return builder;
+        }
+
+        private static List<GeometryBuilder> readComponents(JsonTokenSource source) {
+            List<GeometryBuilder> components = new ArrayList<>();
+            if (source.currentToken() != Token.START_ARRAY) {
+                source.skipChildren();
+                return components;
+            }
+            while (source.nextToken() != Token.END_ARRAY) {
+                components.add(read(source));
             }
-            return new SimpleGeometryBuilder(root);
+            return components;
         }
 
         abstract int getCoordinateDimension();
@@ -77,7 +167,10 @@ public final class GeoJsonGeometryReader {
         abstract <P extends Position> Geometry<P> parse(CoordinateReferenceSystem<P> crs);
 
         static GeometryType getType(JsonTreeNode root) {
-            String type = root.get("type").asText();
+            return toGeometryType(root.get("type").asText());
+        }
+
+        static GeometryType toGeometryType(String type) {
             try {
                 return GeometryType.valueOf(type.toUpperCase());
             } catch (IllegalArgumentException ex) {
@@ -88,15 +181,20 @@ public final class GeoJsonGeometryReader {
 
     static final class GeometryCollectionBuilder extends GeometryBuilder {
 
-        private final List<GeometryBuilder> components = new ArrayList<>();
+        private final List<GeometryBuilder> components;
 
         GeometryCollectionBuilder(JsonTreeNode root) {
+            this.components = new ArrayList<>();
             JsonTreeNode geometriesNode = root.get("geometries");
             for (int i = 0; i < geometriesNode.size(); i++) {
                 components.add(GeometryBuilder.create(geometriesNode.get(i)));
             }
         }
 
+        GeometryCollectionBuilder(List<GeometryBuilder> components) {
+            this.components = components;
+        }
+
         @Override
         int getCoordinateDimension() {
             return components.stream()
@@ -131,6 +229,11 @@ public final class GeoJsonGeometryReader {
             this.coordinates = toHolder(type, root.get("coordinates"));
         }
 
+        SimpleGeometryBuilder(GeometryType type, Holder coordinates) {
+            this.type = type;
+            this.coordinates = coordinates;
+        }
+
         @Override
         int getCoordinateDimension() {
             return this.coordinates.getCoordinateDimension();
@@ -145,7 +248,7 @@ public final class GeoJsonGeometryReader {
             }
         }
 
-        private static Holder toHolder(GeometryType geomType, JsonTreeNode root) {
+        static Holder toHolder(GeometryType geomType, JsonTreeNode root) {
             switch (geomType) {
                 case POINT:
                     return toPointHolder(root);
@@ -215,5 +318,108 @@ public final class GeoJsonGeometryReader {
             }
             return holder;
         }
+
+        static Holder readHolder(GeometryType geomType, JsonTokenSource source) {
+            switch (geomType) {
+                case POINT:
+                    return readPointHolder(source);
+                case LINESTRING:
+                case MULTIPOINT:
+                    return readLinearPositionsHolder(source);
+                case POLYGON:
+                case MULTILINESTRING:
+                    return readLinearPositionsListHolder(source);
+                case MULTIPOLYGON:
+                    return readPolygonalListHolder(source);
+                default:
+                    throw new GeoJsonException("Unsupported geometry type " + geomType);
+            }
+        }
+
+        private static void expectArray(JsonTokenSource source) {
+            if (source.currentToken() != Token.START_ARRAY) {
+                throw new GeoJsonException("Parser expects coordinate as array");
+            }
+        }
+
+        /**
+         * Reads the ordinates of a position into the buffer, starting at offset, growing the buffer as needed.
+         *
+         * @return the (possibly reallocated) buffer; the number of ordinates read is stored in count[0]
+         */
+        private static double[] readPosition(JsonTokenSource source, double[] buffer, int offset, int[] count) {
+            expectArray(source);
+            int n = 0;
+            Token token;
+            while ((token = source.nextToken()) != Token.END_ARRAY) {
+                if (token != Token.NUMBER) {
+                    throw new GeoJsonException("Parser expects coordinate values as numbers");
+                }
+                if (offset + n == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                }
+                buffer[offset + n++] = source.getDoubleValue();
+            }
+            if (n == 1) throw new GeoJsonException("Need at least 2 coordinate values in array");
+            count[0] = n;
+            return buffer;
+        }
+
+        private static PointHolder readPointHolder(JsonTokenSource source) {
+            int[] count = new int[1];
+            double[] co = readPosition(source, new double[4], 0, count);
+            return count[0] == 0 ? new PointHolder() : new PointHolder(Arrays.copyOf(co, count[0]));
+        }
+
+        private static LinearPositionsHolder readLinearPositionsHolder(JsonTokenSource source) {
+            expectArray(source);
+            int[] count = new int[1];
+            double[] coordinates = new double[64];
+            int size = 0;
+            int dim = 0;
+            while (source.nextToken() != Token.END_ARRAY) {
+                coordinates = readPosition(source, coordinates, size, count);
+                if (dim == 0) {
+                    dim = count[0];
+                }
+                if (count[0] != dim || dim == 0) {
+                    return readRemainingPositions(source, coordinates, size, dim, count[0]);
+                }
+                size += dim;
+            }
+            return size == 0 ? new LinearPositionsHolder() : new PackedPositionsHolder(Arrays.copyOf(coordinates, size), dim);
+        }
+
+        // fallback for position lists with mixed coordinate dimensions
+        private static LinearPositionsHolder readRemainingPositions(JsonTokenSource source, double[] coordinates,
+                                                                    int size, int dim, int lastDim) {
+            LinearPositionsHolder holder = new LinearPositionsHolder();
+            for (int i = 0; i < size; i += dim) {
+                holder.push(new PointHolder(Arrays.copyOfRange(coordinates, i, i + dim)));
+            }
+            holder.push(lastDim == 0 ? new PointHolder() : new PointHolder(Arrays.copyOfRange(coordinates, size, size + lastDim)));
+            while (source.nextToken() != Token.END_ARRAY) {
+                holder.push(readPointHolder(source));
+            }
+            return holder;
+        }
+
+        private static LinearPositionsListHolder readLinearPositionsListHolder(JsonTokenSource source) {
+            expectArray(source);
+            LinearPositionsListHolder holder = new LinearPositionsListHolder();
+            while (source.nextToken() != Token.END_ARRAY) {
+                holder.push(readLinearPositionsHolder(source));
+            }
+            return holder;
+        }
+
+        private static PolygonListHolder readPolygonalListHolder(JsonTokenSource source) {
+            expectArray(source);
+            PolygonListHolder holder = new PolygonListHolder();
+            while (source.nextToken() != Token.END_ARRAY) {
+                holder.push(readLinearPositionsListHolder(source));
+            }
+            return holder;
+        }
     }
 }
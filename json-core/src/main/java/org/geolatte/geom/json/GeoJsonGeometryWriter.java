@@ -1,12 +1,13 @@
 package org.geolatte.geom.json;
 
 import org.geolatte.geom.AbstractGeometryCollection;
-import org.geolatte.geom.Complex;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.GeometryType;
 import org.geolatte.geom.MultiPolygon;
 import org.geolatte.geom.Polygon;
 import org.geolatte.geom.Position;
+import org.geolatte.geom.PositionSequence;
+import org.geolatte.geom.codec.support.DecimalFormatter;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.spi.GeoJsonWriter;
 
@@ -50,76 +51,136 @@ public final class GeoJsonGeometryWriter {
         } else {
             @SuppressWarnings("unchecked")
             AbstractGeometryCollection<P, Geometry<P>> gc = (AbstractGeometryCollection<P, Geometry<P>>) geometry;
-            writeGeometries(out, gc.components());
+            writeGeometries(out, gc);
         }
         out.writeEndObject();
     }
 
-    private <P extends Position> void writeGeometries(GeoJsonWriter out, Geometry<P>[] geometries) {
+    private <P extends Position> void writeGeometries(GeoJsonWriter out, AbstractGeometryCollection<P, Geometry<P>> gc) {
         out.writeName("geometries");
         out.writeStartArray();
-        for (Geometry<P> g : geometries) {
-            writeGeometry(out, g, false);
+        for (int i = 0; i < gc.getNumGeometries(); i++) {
+            writeGeometry(out, gc.getGeometryN(i), false);
         }
         out.writeEndArray();
     }
 
     private <P extends Position> void writeCoords(GeoJsonWriter out, GeometryType type, Geometry<P> geom) {
         out.writeName("coordinates");
-        double[] buf = new double[geom.getCoordinateDimension()];
         if (geom.isEmpty()) {
             out.writeStartArray();
             out.writeEndArray();
             return;
         }
+        CoordinatePrecision precision = settings.getCoordinatePrecision();
+        CoordinateBuffer buf = new CoordinateBuffer(precision.decimalsFor(geom.getCoordinateReferenceSystem()));
         if (type == POINT) {
-            writePosition(out, geom.getPositionN(0), buf);
+            writePosition(out, geom.getPositions(), buf);
         }
         if (type == LINESTRING || type == MULTIPOINT) {
-            writeLinear(out, geom, buf);
+            writeLinear(out, geom.getPositions(), buf);
         }
-        if (type == POLYGON || type == MULTILINESTRING) {
-            writeListOfLinear(out, (Complex) geom, buf);
+        if (type == POLYGON) {
+            writePolygon(out, (Polygon<P>) geom, buf);
         }
-        if (type == MULTIPOLYGON) {
+        if (type == MULTILINESTRING) {
             @SuppressWarnings("unchecked")
+            AbstractGeometryCollection<P, Geometry<P>> mls = (AbstractGeometryCollection<P, Geometry<P>>) geom;
+            out.writeStartArray();
+            for (int i = 0; i < mls.getNumGeometries(); i++) {
+                writeLinear(out, mls.getGeometryN(i).getPositions(), buf);
+            }
+            out.writeEndArray();
+        }
+        if (type == MULTIPOLYGON) {
             MultiPolygon<P> mp = (MultiPolygon<P>) geom;
-            writeListOfPolygon(out, mp, buf);
+            out.writeStartArray();
+            for (int i = 0; i < mp.getNumGeometries(); i++) {
+                writePolygon(out, mp.getGeometryN(i), buf);
+            }
+            out.writeEndArray();
         }
     }
 
-    private <P extends Position> void writeListOfPolygon(GeoJsonWriter out, MultiPolygon<P> geom, double[] buf) {
+    private <P extends Position> void writePolygon(GeoJsonWriter out, Polygon<P> polygon, CoordinateBuffer buf) {
         out.writeStartArray();
-        for (Polygon<P> c : geom.components()) {
-            writeListOfLinear(out, c, buf);
+        if (!polygon.isEmpty()) {
+            writeLinear(out, polygon.getExteriorRing().getPositions(), buf);
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                writeLinear(out, polygon.getInteriorRingN(i).getPositions(), buf);
+            }
         }
         out.writeEndArray();
     }
 
-    private <P extends Position> void writeListOfLinear(GeoJsonWriter out, Complex geom, double[] buf) {
+    private <P extends Position> void writeLinear(GeoJsonWriter out, PositionSequence<P> positions, CoordinateBuffer buf) {
+        int dim = positions.getCoordinateDimension();
+        double[] coordinates = buf.fill(positions);
+        if (buf.decimals == null) {
+            out.writePositionArray(coordinates, 0, positions.size(), dim);
+            return;
+        }
         out.writeStartArray();
-        @SuppressWarnings("unchecked")
-        Geometry<P>[] components = (Geometry<P>[]) geom.components();
-        for (Geometry<P> c : components) {
-            writeLinear(out, c, buf);
+        for (int i = 0; i < positions.size(); i++) {
+            writeRounded(out, coordinates, i * dim, dim, buf);
         }
         out.writeEndArray();
     }
 
-    private <P extends Position> void writeLinear(GeoJsonWriter out, Geometry<P> geom, double[] buf) {
-        out.writeStartArray();
-        for (P pos : geom.getPositions()) {
-            writePosition(out, pos, buf);
+    private <P extends Position> void writePosition(GeoJsonWriter out, PositionSequence<P> positions, CoordinateBuffer buf) {
+        double[] coordinates = buf.fill(positions);
+        if (buf.decimals == null) {
+            out.writeDoubleArray(coordinates, 0, positions.getCoordinateDimension());
+        } else {
+            writeRounded(out, coordinates, 0, positions.getCoordinateDimension(), buf);
         }
-        out.writeEndArray();
     }
 
-    private <P extends Position> void writePosition(GeoJsonWriter out, P position, double[] buf) {
-        out.writeDoubleArray(position.toArray(buf), 0, buf.length);
+    private void writeRounded(GeoJsonWriter out, double[] coordinates, int offset, int dim, CoordinateBuffer buf) {
+        out.writeStartArray();
+        for (int j = 0; j < dim; j++) {
+            double value = coordinates[offset + j];
+            int decimals = j < buf.decimals.length ? buf.decimals[j] : CoordinatePrecision.FULL;
+            int length = decimals == CoordinatePrecision.FULL ? -1 : DecimalFormatter.formatFixed(value, decimals, buf.digits);
+            if (length < 0) {
+                out.writeNumber(value);
+            } else {
+                out.writeNumber(buf.digits, 0, length);
+            }
+        }
+        out.writeEndArray();
     }
 
     private <P extends Position> void writeCrs(GeoJsonWriter out, CoordinateReferenceSystem<P> crs) {
         out.writeName("crs");
         crsWriter.writeNamedCrs(out, crs);
     }
+
+    /**
+     * A packed coordinate array that is reused for all position lists of a geometry, so that coordinates are
+     * copied in bulk from the {@code PositionSequence}s without creating a {@code Position} per vertex.
+     *
+     * <p>When coordinates are rounded, it also holds the decimals per coordinate and the chars of the
+     * formatted coordinate.</p>
+     */
+    private static final class CoordinateBuffer {
+
+        private final int[] decimals;
+        private final char[] digits;
+        private double[] coordinates = new double[64];
+
+        CoordinateBuffer(int[] decimals) {
+            this.decimals = decimals;
+            this.digits = decimals == null ? null : new char[DecimalFormatter.BUFFER_SIZE];
+        }
+
+        <P extends Position> double[] fill(PositionSequence<P> positions) {
+            int length = positions.size() * positions.getCoordinateDimension();
+            if (coordinates.length < length) {
+                coordinates = new double[Math.max(length, 2 * coordinates.length)];
+            }
+            positions.copyCoordinates(coordinates, 0);
+            return coordinates;
+        }
+    }
 }
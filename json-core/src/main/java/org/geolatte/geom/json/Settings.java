@@ -11,6 +11,8 @@ public class Settings {
 
     private final Map<Setting, Boolean> overrides = new HashMap<Setting, Boolean>();
 
+    private CoordinatePrecision coordinatePrecision = CoordinatePrecision.FULL_PRECISION;
+
     public Settings() {
     }
 
@@ -24,4 +26,19 @@ public class Settings {
             overrides.put(setting, value);
         }
     }
+
+    /**
+     * Returns the precision with which coordinates are serialized. By default, coordinates are serialized
+     * at full precision.
+     */
+    public CoordinatePrecision getCoordinatePrecision() {
+        return coordinatePrecision;
+    }
+
+    public void setCoordinatePrecision(CoordinatePrecision coordinatePrecision) {
+        if (coordinatePrecision == null) {
+            throw new IllegalArgumentException("Null coordinate precision not allowed");
+        }
+        this.coordinatePrecision = coordinatePrecision;
+    }
 }
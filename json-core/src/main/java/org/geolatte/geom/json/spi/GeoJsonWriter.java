@@ -32,6 +32,42 @@ public interface GeoJsonWriter {
 
     void writeDoubleArray(double[] values, int offset, int length);
 
+    /**
+     * Writes an array of positions, each position an array of {@code dimension} values, taken from
+     * a packed coordinate array (e.g. the coordinates of a whole LineString or LinearRing).
+     *
+     * <p>The default implementation writes each position with {@link #writeDoubleArray}. Adapters may
+     * override it to write the positions with fewer calls into the host generator.</p>
+     */
+    default void writePositionArray(double[] coordinates, int offset, int numPositions, int dimension) {
+        writeStartArray();
+        for (int i = 0; i < numPositions; i++) {
+            writeDoubleArray(coordinates, offset + i * dimension, dimension);
+        }
+        writeEndArray();
+    }
+
+    /**
+     * Writes a number that is already encoded as JSON text, e.g. a coordinate formatted with a fixed number
+     * of decimals.
+     *
+     * <p>The default implementation parses the text and writes the resulting double with
+     * {@link #writeNumber(double)}. Adapters should override it to copy the text to the output as it is.</p>
+     */
+    default void writeNumber(char[] encoded, int offset, int length) {
+        writeNumber(Double.parseDouble(new String(encoded, offset, length)));
+    }
+
+    /**
+     * Writes a number at full precision.
+     *
+     * <p>The default implementation writes the boxed value with {@link #writePojo}. Adapters should override it
+     * to write the number directly.</p>
+     */
+    default void writeNumber(double value) {
+        writePojo(value);
+    }
+
     /**
      * Delegates to the host serializer for an arbitrary value. The host {@code ObjectMapper}
      * looks up the appropriate {@code JsonSerializer}/{@code ValueSerializer} for the value's
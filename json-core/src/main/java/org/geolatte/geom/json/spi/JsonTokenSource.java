@@ -0,0 +1,66 @@
+package org.geolatte.geom.json.spi;
+
+/**
+ * A small abstraction over a streaming JSON parser, used by the Jackson-free GeoJSON
+ * readers in {@code geolatte-geojson-core} to decode input without first materialising
+ * it as a {@link JsonTreeNode} tree.
+ *
+ * <p>Each Jackson-version-specific adapter module provides an implementation that
+ * delegates to the native {@code JsonParser}. As with Jackson, after a value has been
+ * read the source is positioned on the last token of that value (the value itself for
+ * scalars, the closing token for objects and arrays).</p>
+ *
+ * <p>The surface area of this interface is intentionally narrow: it covers only the
+ * methods actually invoked by the GeoJSON readers, not the full {@code JsonParser} API.</p>
+ */
+public interface JsonTokenSource {
+
+    /**
+     * The kinds of tokens the GeoJSON readers distinguish.
+     */
+    enum Token {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, PROPERTY_NAME, STRING, NUMBER, BOOLEAN, NULL, OTHER
+    }
+
+    /**
+     * Returns the token the source is positioned on, or {@code null} if there is none.
+     */
+    Token currentToken();
+
+    /**
+     * Advances to the next token and returns it, or returns {@code null} at the end of input.
+     */
+    Token nextToken();
+
+    /**
+     * Returns the property name if positioned on a {@link Token#PROPERTY_NAME}, or on the value of a property.
+     */
+    String currentName();
+
+    /**
+     * Returns the textual value of the current token.
+     */
+    String getText();
+
+    /**
+     * Returns the value of the current {@link Token#NUMBER} token as a double.
+     */
+    double getDoubleValue();
+
+    /**
+     * Skips the object or array that starts at the current token, leaving the source on its closing token.
+     * Does nothing if positioned on a scalar value.
+     */
+    void skipChildren();
+
+    /**
+     * Reads the value that starts at the current token as a tree.
+     */
+    JsonTreeNode readTree();
+
+    /**
+     * Reads the value that starts at the current token into its natural Java representation by delegating
+     * to the host ObjectMapper: objects &rarr; Map, arrays &rarr; List, scalars &rarr; Number/Boolean/String/null.
+     */
+    Object readJavaObject();
+}
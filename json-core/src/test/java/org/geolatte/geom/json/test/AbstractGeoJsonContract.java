@@ -18,7 +18,7 @@ import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
  * specifications: {@link PointSpec}, {@link LineStringSpec}, {@link PolygonSpec},
  * {@link MultiPointSpec}, {@link MultiLineStringSpec}, {@link MultiPolygonSpec},
  * {@link GeometryCollectionSpec}, {@link GeometrySpec}, {@link FeatureSpec},
- * {@link FeatureCollectionSpec}, {@link CrsSpec}, {@link SettingsSpec},
+ * {@link FeatureCollectionSpec}, {@link FeatureStreamSpec}, {@link CrsSpec}, {@link SettingsSpec},
  * {@link InvariantSpec}.</p>
  *
  * <p>Each adapter provides one concrete subclass per spec, all delegating to a
@@ -173,4 +173,25 @@ public abstract class FeatureSpec extends AbstractGeoJsonContract {
         assertTrue(props.containsKey("nil"));
         assertNull(props.get("nil"));
     }
+
+    @Test
+    public void deserializeFeatureWithGeometryAfterProperties() {
+        String geojson =
+                """
+                    { "properties": { "name": "a", "nested": { "geometry": null } },
+                      "bbox": [1, 2, 1, 2],
+                      "id": 7,
+                      "type": "Feature",
+                      "geometry": { "coordinates": [1, 2], "type": "Point" } }
+                """;
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("geometry", null);
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "a");
+        map.put("nested", nested);
+        Feature<?, ?> expected = new GeoJsonFeature<>(point(WGS84, g(1, 2)), 7L, map);
+        Feature<?, ?> rec = newMapper().readValue(geojson, Feature.class);
+        assertEquals(expected, rec);
+        assertEquals(map, rec.getProperties());
+    }
 }
@@ -0,0 +1,238 @@
+package org.geolatte.geom.json.test;
+
+import org.geolatte.geom.Box;
+import org.geolatte.geom.Feature;
+import org.geolatte.geom.FeatureCollection;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.json.GeoJsonException;
+import org.geolatte.geom.json.GeoJsonFeature;
+import org.geolatte.geom.json.GeoJsonFeatureCollection;
+import org.geolatte.geom.json.GeoJsonFeatureStreamReader;
+import org.geolatte.geom.json.GeoJsonFeatureStreamWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.geolatte.geom.json.Setting.SERIALIZE_FEATURE_COLLECTION_BBOX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Contract for reading and writing GeoJSON features one at a time with {@link GeoJsonFeatureStreamReader}
+ * and {@link GeoJsonFeatureStreamWriter}.
+ */
+public abstract class FeatureStreamSpec extends AbstractGeoJsonContract {
+
+    @Test
+    public void readFeatureCollectionWithOtherMembers() {
+        String json = "{\"type\":\"FeatureCollection\",\"bbox\":[0,0,2,2],\"meta\":{\"features\":[]}," +
+                "\"features\":[" + feature(1) + "," + feature(2) + "],\"next\":\"page2\"}";
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(input(json)).stream()) {
+            List<Feature<?, ?>> list = features.collect(Collectors.toList());
+            assertEquals(2, list.size());
+            assertEquals(1L, list.get(0).getId());
+            assertEquals(point(WGS84, g(2, 2)), list.get(1).getGeometry());
+            assertEquals("f2", list.get(1).getProperties().get("name"));
+        }
+    }
+
+    @Test
+    public void readEmptyFeatureCollection() {
+        assertFalse(newMapper().readFeatureCollection(input("{\"type\":\"FeatureCollection\",\"features\":[]}")).hasNext());
+        assertFalse(newMapper().readFeatureCollection(input("{\"type\":\"FeatureCollection\"}")).hasNext());
+    }
+
+    @Test
+    public void readFeatureSequence() {
+        String rfc8142 = "\u001e" + feature(1) + "\n\u001e" + feature(2) + "\n";
+        String ndjson = feature(1) + "\n" + feature(2) + "\n";
+        for (String json : new String[]{rfc8142, ndjson}) {
+            GeoJsonFeatureStreamReader reader = newMapper().readFeatureSequence(input(json));
+            assertEquals(1L, reader.next().getId());
+            assertEquals(2L, reader.next().getId());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void readLargeFeatureCollectionWithPrefetching() {
+        int size = 5000;
+        StringBuilder json = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+        for (int i = 1; i <= size; i++) {
+            json.append(i > 1 ? "," : "").append(feature(i));
+        }
+        json.append("]}");
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(input(json.toString())).stream(16)) {
+            long[] ids = features.mapToLong(f -> (Long) f.getId()).toArray();
+            assertEquals(size, ids.length);
+            for (int i = 0; i < size; i++) {
+                assertEquals(i + 1, ids[i]);
+            }
+        }
+    }
+
+    @Test
+    public void closingPrefetchingStreamEarly() {
+        StringBuilder json = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+        for (int i = 1; i <= 1000; i++) {
+            json.append(i > 1 ? "," : "").append(feature(i));
+        }
+        json.append("]}");
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(input(json.toString())).stream(2)) {
+            assertEquals(3, features.limit(3).count());
+        }
+    }
+
+    @Test(expected = GeoJsonException.class)
+    public void prefetchingStreamRethrowsDecodeErrors() {
+        String json = "{\"type\":\"FeatureCollection\",\"features\":[" + feature(1) + ",{\"type\":\"Feature\"," +
+                "\"geometry\":{\"type\":\"Point\",\"coordinates\":[1]}}]}";
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(input(json)).stream(4)) {
+            features.forEach(f -> {
+            });
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void prefetchingStreamRethrowsErrors() {
+        StackOverflowError error = new StackOverflowError();
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() {
+                throw error;
+            }
+        };
+        InputStream in = new SequenceInputStream(input("{\"type\":\"FeatureCollection\",\"features\":[" +
+                feature(1) + ","), failing);
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(in).stream(4)) {
+            features.forEach(f -> {
+            });
+            fail("Expected the error of the decoding thread");
+        } catch (StackOverflowError e) {
+            assertSame(error, e);
+        }
+    }
+
+    @Test
+    public void writeFeaturesAsTheyArrive() {
+        List<Feature<G2D, Long>> features = mkFeatures(3);
+        MapperLike mapper = newMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = mapper.writeFeatureCollection(out, null)) {
+            writer.writeAll(features.iterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String expected = mapper.writeAsString(new GeoJsonFeatureCollection<>(features));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeTrailingBbox() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = newMapper(SERIALIZE_FEATURE_COLLECTION_BBOX, true)
+                .writeFeatureCollection(out, null)) {
+            writer.writeAll(mkFeatures(3).stream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json, json.endsWith("],\"bbox\":[1.0,1.0,3.0,3.0]}"));
+        FeatureCollection<?, ?> rec = newMapper().readValue(json, FeatureCollection.class);
+        assertEquals(3, rec.getFeatures().size());
+    }
+
+    @Test
+    public void writePrecomputedBbox() {
+        Box<G2D> bbox = new Box<>(g(0, 0), g(10, 10), WGS84);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = newMapper(SERIALIZE_FEATURE_COLLECTION_BBOX, true)
+                .writeFeatureCollection(out, bbox)) {
+            writer.writeAll(mkFeatures(2).iterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json, json.startsWith("{\"type\":\"FeatureCollection\",\"bbox\":[0.0,0.0,10.0,10.0],\"features\":["));
+        assertTrue(json, json.endsWith("]}"));
+    }
+
+    @Test
+    public void precomputedBboxRequiresSetting() {
+        Box<G2D> bbox = new Box<>(g(0, 0), g(10, 10), WGS84);
+        List<Feature<G2D, Long>> features = mkFeatures(2);
+        MapperLike mapper = newMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = mapper.writeFeatureCollection(out, bbox)) {
+            writer.writeAll(features.iterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String expected = mapper.writeAsString(new GeoJsonFeatureCollection<>(features));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeEmptyFeatureCollection() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = newMapper(SERIALIZE_FEATURE_COLLECTION_BBOX, true)
+                .writeFeatureCollection(out, null)) {
+            writer.writeAll(Collections.emptyIterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[]}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void streamedWriteReadsBack() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJsonFeatureStreamWriter writer = newMapper().writeFeatureCollection(out, null)) {
+            writer.writeAll(IntStream.rangeClosed(1, 1000).mapToObj(FeatureStreamSpec::mkFeature));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Stream<Feature<?, ?>> features = newMapper().readFeatureCollection(input(out.toString(StandardCharsets.UTF_8))).stream()) {
+            assertEquals(1000, features.count());
+        }
+    }
+
+    private static List<Feature<G2D, Long>> mkFeatures(int n) {
+        List<Feature<G2D, Long>> features = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            features.add(mkFeature(i));
+        }
+        return features;
+    }
+
+    private static Feature<G2D, Long> mkFeature(int id) {
+        return new GeoJsonFeature<>(point(WGS84, g(id, id)), (long) id, Collections.singletonMap("name", "f" + id));
+    }
+
+    private static String feature(int id) {
+        return "{\"type\":\"Feature\",\"id\":" + id + ",\"geometry\":{\"type\":\"Point\",\"coordinates\":[" + id +
+                "," + id + "]},\"properties\":{\"name\":\"f" + id + "\"}}";
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,7 +8,10 @@ import static org.geolatte.geom.builder.DSL.g;
 import static org.geolatte.geom.builder.DSL.linestring;
 import static org.geolatte.geom.builder.DSL.multilinestring;
 import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
 import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.geolatte.geom.json.Crss.lambert72;
 import static org.geolatte.geom.json.Crss.lambert72ZM;
 import static org.geolatte.geom.json.GeoJsonStrings.multiLineString;
 import static org.geolatte.geom.json.GeoJsonStrings.pointTextWithCrs34D;
@@ -37,4 +40,35 @@ public abstract class GeometrySpec extends AbstractGeoJsonContract {
         Geometry<?> expected = point(lambert72ZM, c(1, 2, 3, 4));
         assertEquals(expected, rec);
     }
+
+    @Test
+    public void deserializeGeometryWithCrsAfterCoordinates() {
+        String json = "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]," +
+                "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:31370\"}}}";
+        Geometry<?> rec = newMapper().readValue(json, Geometry.class);
+        assertEquals(linestring(lambert72, c(1, 2), c(3, 4)), rec);
+    }
+
+    @Test
+    public void deserializeGeometryWithCoordinatesBeforeType() {
+        String json = "{\"coordinates\":[[[0,0],[0,1],[1,1],[0,0]]],\"bbox\":[0,0,1,1],\"type\":\"Polygon\"}";
+        Geometry<?> rec = newMapper().readValue(json, Geometry.class);
+        assertEquals(polygon(WGS84, ring(g(0, 0), g(0, 1), g(1, 1), g(0, 0))), rec);
+    }
+
+    @Test
+    public void deserializeGeometryIgnoresUnknownMembers() {
+        String json = "{\"type\":\"Point\",\"extra\":{\"a\":[1,[2,3]],\"b\":null},\"coordinates\":[1,2],\"note\":\"x\"}";
+        Geometry<?> rec = newMapper().readValue(json, Geometry.class);
+        assertEquals(point(WGS84, g(1, 2)), rec);
+    }
+
+    @Test
+    public void deserializeLineStringWithMixedCoordinateDimensions() {
+        String json = "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4,5],[6,7]]}";
+        Geometry<?> rec = newMapper().readValue(json, Geometry.class);
+        assertEquals(3, rec.getNumPositions());
+        assertEquals(3, rec.getCoordinateDimension());
+        assertEquals(5, rec.getPositionN(1).getCoordinate(2), 0);
+    }
 }
@@ -1,5 +1,12 @@
 package org.geolatte.geom.json.test;
 
+import org.geolatte.geom.Box;
+import org.geolatte.geom.json.GeoJsonFeatureStreamReader;
+import org.geolatte.geom.json.GeoJsonFeatureStreamWriter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /**
  * A small abstraction over a Jackson {@code ObjectMapper}, used by the shared
  * {@link AbstractGeoJsonContract} so the same test logic can drive both the
@@ -15,4 +22,13 @@ public interface MapperLike {
 
     /** Deserializes the JSON string into an instance of the given type. */
     <T> T readValue(String json, Class<T> type);
+
+    /** Creates a reader for the features of the FeatureCollection in the input. */
+    GeoJsonFeatureStreamReader readFeatureCollection(InputStream in);
+
+    /** Creates a reader for the GeoJSON text sequence of features in the input. */
+    GeoJsonFeatureStreamReader readFeatureSequence(InputStream in);
+
+    /** Creates a writer for a FeatureCollection with the given (possibly null) bbox. */
+    GeoJsonFeatureStreamWriter writeFeatureCollection(OutputStream out, Box<?> bbox);
 }
@@ -3,23 +3,39 @@ package org.geolatte.geom.json.test;
 import org.geolatte.geom.G2D;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.Point;
+import org.geolatte.geom.json.CoordinatePrecision;
 import org.junit.Test;
 
+import static org.geolatte.geom.builder.DSL.c;
 import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.builder.DSL.gM;
+import static org.geolatte.geom.builder.DSL.linestring;
 import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
 import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.geolatte.geom.json.Crss.lambert72;
+import static org.geolatte.geom.json.Crss.lambert72ZM;
+import static org.geolatte.geom.json.Crss.wgs2DM;
 import static org.geolatte.geom.json.GeoJsonStrings.pointText3DM;
 import static org.geolatte.geom.json.GeoJsonStrings.pointTextWithUrnCrs;
 import static org.geolatte.geom.json.Setting.FORCE_DEFAULT_CRS_DIMENSION;
 import static org.geolatte.geom.json.Setting.IGNORE_CRS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Contract for the {@code IGNORE_CRS} and {@code FORCE_DEFAULT_CRS_DIMENSION}
- * settings during deserialization.
+ * settings during deserialization, and for the {@link CoordinatePrecision} of
+ * serialized coordinates.
  */
 public abstract class SettingsSpec extends AbstractGeoJsonContract {
 
+    /**
+     * Creates a mapper, with the default settings, that serializes coordinates with the specified precision.
+     */
+    protected abstract MapperLike newMapper(CoordinatePrecision precision);
+
     @Test
     public void ignoreCrsDeserializesAgainstDefault() {
         Point<?> pnt = point(WGS84, g(1, 2));
@@ -40,4 +56,48 @@ public abstract class SettingsSpec extends AbstractGeoJsonContract {
         assertEquals(pnt,
                 newMapper(FORCE_DEFAULT_CRS_DIMENSION, true).readValue(pointText3DM, Geometry.class));
     }
+
+    @Test
+    public void geographicCoordinatesAreRounded() {
+        MapperLike mapper = newMapper(CoordinatePrecision.of(5, 2));
+        String json = mapper.writeAsString(linestring(WGS84, g(4.123456789, 51.987654321), g(-4.5, -0.000001), g(3, 1.000004)));
+        assertTrue(json, json.contains("\"coordinates\":[[4.12346,51.98765],[-4.5,0],[3,1]]"));
+    }
+
+    @Test
+    public void projectedCoordinatesAreRounded() {
+        MapperLike mapper = newMapper(CoordinatePrecision.of(5, 2));
+        String json = mapper.writeAsString(polygon(lambert72, ring(c(150000.123, 200000.456),
+                c(150010, 200000.004), c(150010.999, 200010), c(150000.123, 200000.456))));
+        assertTrue(json, json.contains(
+                "\"coordinates\":[[[150000.12,200000.46],[150010,200000],[150011,200010],[150000.12,200000.46]]]"));
+    }
+
+    @Test
+    public void zAndMHaveTheirOwnPrecision() {
+        MapperLike mapper = newMapper(CoordinatePrecision.of(6, 1, 2, 0));
+        String json = mapper.writeAsString(point(lambert72ZM, c(1.26, 2.24, 3.14159, 7.5)));
+        assertTrue(json, json.contains("\"coordinates\":[1.3,2.2,3.14,8]"));
+        json = mapper.writeAsString(point(wgs2DM, gM(1.23456789, 2.1, 7.4)));
+        assertTrue(json, json.contains("\"coordinates\":[1.234568,2.1,7]"));
+    }
+
+    @Test
+    public void fullPrecisionAxesAreNotRounded() {
+        MapperLike mapper = newMapper(CoordinatePrecision.of(CoordinatePrecision.FULL, 2));
+        String json = mapper.writeAsString(point(WGS84, g(4.123456789, 51.987654321)));
+        assertTrue(json, json.contains("\"coordinates\":[4.123456789,51.987654321]"));
+    }
+
+    @Test
+    public void roundedCoordinatesReadBack() {
+        MapperLike mapper = newMapper(CoordinatePrecision.of(3, 3));
+        String json = mapper.writeAsString(point(WGS84, g(4.1234, -51.9876)));
+        assertEquals(point(WGS84, g(4.123, -51.988)), mapper.readValue(json, Geometry.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManyDecimalsIsRejected() {
+        CoordinatePrecision.of(18, 2);
+    }
 }
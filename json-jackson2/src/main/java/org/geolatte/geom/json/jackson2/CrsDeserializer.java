@@ -3,12 +3,12 @@ package org.geolatte.geom.json.jackson2;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.GeoJsonCrsReader;
 import org.geolatte.geom.json.Settings;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public class CrsDeserializer extends JsonDeserializer<CoordinateReferenceSystem> {
 
@@ -20,7 +20,10 @@ public class CrsDeserializer extends JsonDeserializer<CoordinateReferenceSystem>
 
     @Override
     public CoordinateReferenceSystem<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode root = p.readValueAsTree();
-        return reader.resolve(new Jackson2JsonTreeNode(root, ctxt));
+        try {
+            return reader.resolve(new Jackson2JsonTokenSource(p, ctxt));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
@@ -3,13 +3,13 @@ package org.geolatte.geom.json.jackson2;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.geolatte.geom.FeatureCollection;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.GeoJsonFeatureCollectionReader;
 import org.geolatte.geom.json.Settings;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @SuppressWarnings("rawtypes")
 public class FeatureCollectionDeserializer extends JsonDeserializer<FeatureCollection> {
@@ -22,7 +22,10 @@ public class FeatureCollectionDeserializer extends JsonDeserializer<FeatureColle
 
     @Override
     public FeatureCollection<?, ?> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
-        JsonNode root = jsonParser.readValueAsTree();
-        return reader.read(new Jackson2JsonTreeNode(root, deserializationContext));
+        try {
+            return reader.read(new Jackson2JsonTokenSource(jsonParser, deserializationContext));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
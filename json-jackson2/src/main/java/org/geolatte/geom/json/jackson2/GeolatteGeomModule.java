@@ -1,7 +1,11 @@
 package org.geolatte.geom.json.jackson2;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.geolatte.geom.Box;
 import org.geolatte.geom.Feature;
@@ -16,9 +20,16 @@ import org.geolatte.geom.Point;
 import org.geolatte.geom.Polygon;
 import org.geolatte.geom.Position;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.CoordinatePrecision;
+import org.geolatte.geom.json.GeoJsonFeatureStreamReader;
+import org.geolatte.geom.json.GeoJsonFeatureStreamWriter;
 import org.geolatte.geom.json.Setting;
 import org.geolatte.geom.json.Settings;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +45,8 @@ public class GeolatteGeomModule extends SimpleModule {
 
     private final Settings settings = new Settings();
 
+    private final CoordinateReferenceSystem<?> defaultCrs;
+
     private final Map<Class, JsonDeserializer> dezers = new HashMap<>();
 
     private final GeometrySerializer geometrySerializer;
@@ -48,6 +61,8 @@ public class GeolatteGeomModule extends SimpleModule {
 
         super("GeolatteGeomModule", new Version(2, 0, 0, "", "org.geolatte", "geolatte-geojson-jackson2"));
 
+        this.defaultCrs = defaultCrs;
+
         geometrySerializer = new GeometrySerializer(settings);
         FeatureSerializer featureSerializer = new FeatureSerializer(settings);
         addSerializer(Feature.class, featureSerializer);
@@ -78,6 +93,16 @@ public class GeolatteGeomModule extends SimpleModule {
         settings.override(setting, value);
     }
 
+    /**
+     * Sets the number of decimals with which coordinates are serialized.
+     *
+     * @param precision the decimals per type of axis
+     * @see CoordinatePrecision
+     */
+    public void setCoordinatePrecision(CoordinatePrecision precision) {
+        settings.setCoordinatePrecision(precision);
+    }
+
     public GeometrySerializer getGeometrySerializer() {
         return this.geometrySerializer;
     }
@@ -96,4 +121,66 @@ public class GeolatteGeomModule extends SimpleModule {
         other.addSerializer(this.crsSerializer);
         getGeometryDeserializers().forEach(other::addDeserializer);
     }
+
+    /**
+     * Creates a reader that decodes the features of a GeoJSON {@code FeatureCollection} one at a time.
+     *
+     * <p>Unlike {@code mapper.readValue(in, FeatureCollection.class)}, the features are not collected
+     * in memory, so that FeatureCollections of any size can be processed.</p>
+     *
+     * @param mapper the {@code ObjectMapper} used to create the parser and to decode feature properties
+     * @param in the input
+     */
+    public GeoJsonFeatureStreamReader newFeatureCollectionReader(ObjectMapper mapper, InputStream in) throws IOException {
+        JsonParser parser = mapper.createParser(in);
+        return GeoJsonFeatureStreamReader.forFeatureCollection(newTokenSource(mapper, parser), parser, defaultCrs, settings);
+    }
+
+    /**
+     * Creates a reader that decodes a GeoJSON text sequence (RFC 8142), or newline-delimited GeoJSON, of
+     * {@code Feature} objects one at a time.
+     *
+     * @param mapper the {@code ObjectMapper} used to create the parser and to decode feature properties
+     * @param in the input
+     */
+    public GeoJsonFeatureStreamReader newFeatureSequenceReader(ObjectMapper mapper, InputStream in) throws IOException {
+        JsonParser parser = mapper.createParser(GeoJsonFeatureStreamReader.toSequenceInput(in));
+        return GeoJsonFeatureStreamReader.forSequence(newTokenSource(mapper, parser), parser, defaultCrs, settings);
+    }
+
+    private static Jackson2JsonTokenSource newTokenSource(ObjectMapper mapper, JsonParser parser) {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), parser, mapper.getInjectableValues());
+        return new Jackson2JsonTokenSource(parser, ctxt);
+    }
+
+    /**
+     * Creates a writer that writes a GeoJSON {@code FeatureCollection} one feature at a time.
+     *
+     * <p>If {@link Setting#SERIALIZE_FEATURE_COLLECTION_BBOX} is set, the bbox of the written features is
+     * written as a trailing member of the FeatureCollection.</p>
+     *
+     * @param mapper the {@code ObjectMapper} used to create the generator and to serialize the features
+     * @param out the output, which is closed when the writer is closed
+     */
+    public GeoJsonFeatureStreamWriter newFeatureCollectionWriter(ObjectMapper mapper, OutputStream out) throws IOException {
+        return newFeatureCollectionWriter(mapper, out, null);
+    }
+
+    /**
+     * Creates a writer that writes a GeoJSON {@code FeatureCollection} with the specified bbox one feature at a time.
+     *
+     * @param mapper the {@code ObjectMapper} used to create the generator and to serialize the features
+     * @param out the output, which is closed when the writer is closed
+     * @param bbox the precomputed bbox of the FeatureCollection, or null
+     */
+    public GeoJsonFeatureStreamWriter newFeatureCollectionWriter(ObjectMapper mapper, OutputStream out, Box<?> bbox) throws IOException {
+        JsonGenerator gen = mapper.createGenerator(out);
+        Jackson2GeoJsonWriter writer = new Jackson2GeoJsonWriter(gen, mapper.getSerializerProviderInstance());
+        try {
+            return GeoJsonFeatureStreamWriter.open(writer, gen, settings, bbox);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
@@ -3,13 +3,13 @@ package org.geolatte.geom.json.jackson2;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.GeoJsonGeometryReader;
 import org.geolatte.geom.json.Settings;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Jackson 2 adapter that delegates GeoJSON geometry decoding to the
@@ -25,7 +25,10 @@ public class GeometryDeserializer extends JsonDeserializer<Geometry<?>> {
 
     @Override
     public Geometry<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode root = p.readValueAsTree();
-        return reader.read(new Jackson2JsonTreeNode(root, ctxt));
+        try {
+            return reader.read(new Jackson2JsonTokenSource(p, ctxt));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
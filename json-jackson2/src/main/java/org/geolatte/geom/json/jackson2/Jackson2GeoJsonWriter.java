@@ -98,6 +98,37 @@ final class Jackson2GeoJsonWriter implements GeoJsonWriter {
         }
     }
 
+    @Override
+    public void writePositionArray(double[] coordinates, int offset, int numPositions, int dimension) {
+        try {
+            gen.writeStartArray();
+            for (int i = 0; i < numPositions; i++) {
+                gen.writeArray(coordinates, offset + i * dimension, dimension);
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeNumber(char[] encoded, int offset, int length) {
+        try {
+            gen.writeNumber(encoded, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeNumber(double value) {
+        try {
+            gen.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void writePojo(Object value) {
         try {
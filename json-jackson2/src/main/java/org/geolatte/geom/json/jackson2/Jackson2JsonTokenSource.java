@@ -0,0 +1,128 @@
+package org.geolatte.geom.json.jackson2;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTreeNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Jackson 2 implementation of {@link JsonTokenSource} that wraps a native
+ * {@link JsonParser}.
+ *
+ * <p>Jackson 2's checked {@code IOException}s are wrapped in an {@link UncheckedIOException};
+ * the deserializers unwrap them again.</p>
+ */
+final class Jackson2JsonTokenSource implements JsonTokenSource {
+
+    private final JsonParser parser;
+    private final DeserializationContext ctxt;
+
+    Jackson2JsonTokenSource(JsonParser parser, DeserializationContext ctxt) {
+        this.parser = parser;
+        this.ctxt = ctxt;
+    }
+
+    @Override
+    public Token currentToken() {
+        return toToken(parser.currentToken());
+    }
+
+    @Override
+    public Token nextToken() {
+        try {
+            return toToken(parser.nextToken());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String currentName() {
+        try {
+            return parser.currentName();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getText() {
+        try {
+            return parser.getText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public double getDoubleValue() {
+        try {
+            return parser.getDoubleValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void skipChildren() {
+        try {
+            parser.skipChildren();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public JsonTreeNode readTree() {
+        try {
+            JsonNode node = ctxt.readTree(parser);
+            return new Jackson2JsonTreeNode(node, ctxt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Object readJavaObject() {
+        try {
+            return ctxt.readValue(parser, Object.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Token toToken(JsonToken token) {
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return Token.START_OBJECT;
+            case END_OBJECT:
+                return Token.END_OBJECT;
+            case START_ARRAY:
+                return Token.START_ARRAY;
+            case END_ARRAY:
+                return Token.END_ARRAY;
+            case FIELD_NAME:
+                return Token.PROPERTY_NAME;
+            case VALUE_STRING:
+                return Token.STRING;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Token.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return Token.BOOLEAN;
+            case VALUE_NULL:
+                return Token.NULL;
+            default:
+                return Token.OTHER;
+        }
+    }
+}
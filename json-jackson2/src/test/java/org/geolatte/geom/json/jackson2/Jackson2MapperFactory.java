@@ -1,11 +1,17 @@
 package org.geolatte.geom.json.jackson2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.geolatte.geom.Box;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.CoordinatePrecision;
+import org.geolatte.geom.json.GeoJsonFeatureStreamReader;
+import org.geolatte.geom.json.GeoJsonFeatureStreamWriter;
 import org.geolatte.geom.json.Setting;
 import org.geolatte.geom.json.test.MapperLike;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.Map;
 
@@ -20,8 +26,14 @@ import java.util.Map;
 final class Jackson2MapperFactory {
 
     static MapperLike create(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings) {
+        return create(defaultCrs, settings, CoordinatePrecision.FULL_PRECISION);
+    }
+
+    static MapperLike create(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings,
+                             CoordinatePrecision precision) {
         GeolatteGeomModule module = new GeolatteGeomModule(defaultCrs);
         settings.forEach(module::set);
+        module.setCoordinatePrecision(precision);
 
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(module);
@@ -44,6 +56,33 @@ final class Jackson2MapperFactory {
                     throw new UncheckedIOException(e);
                 }
             }
+
+            @Override
+            public GeoJsonFeatureStreamReader readFeatureCollection(InputStream in) {
+                try {
+                    return module.newFeatureCollectionReader(mapper, in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public GeoJsonFeatureStreamReader readFeatureSequence(InputStream in) {
+                try {
+                    return module.newFeatureSequenceReader(mapper, in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public GeoJsonFeatureStreamWriter writeFeatureCollection(OutputStream out, Box<?> bbox) {
+                try {
+                    return module.newFeatureCollectionWriter(mapper, out, bbox);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         };
     }
 
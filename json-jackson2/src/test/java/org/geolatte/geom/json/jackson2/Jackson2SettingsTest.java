@@ -1,15 +1,24 @@
 package org.geolatte.geom.json.jackson2;
 
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.CoordinatePrecision;
 import org.geolatte.geom.json.Setting;
 import org.geolatte.geom.json.test.MapperLike;
 import org.geolatte.geom.json.test.SettingsSpec;
 
+import java.util.Collections;
 import java.util.Map;
 
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+
 public class Jackson2SettingsTest extends SettingsSpec {
     @Override
     protected MapperLike newMapper(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings) {
         return Jackson2MapperFactory.create(defaultCrs, settings);
     }
+
+    @Override
+    protected MapperLike newMapper(CoordinatePrecision precision) {
+        return Jackson2MapperFactory.create(WGS84, Collections.emptyMap(), precision);
+    }
 }
@@ -6,7 +6,6 @@ import org.geolatte.geom.json.Settings;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ValueDeserializer;
 
 public class CrsDeserializer extends ValueDeserializer<CoordinateReferenceSystem> {
@@ -19,7 +18,6 @@ public class CrsDeserializer extends ValueDeserializer<CoordinateReferenceSystem
 
     @Override
     public CoordinateReferenceSystem<?> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        JsonNode root = p.readValueAsTree();
-        return reader.resolve(new Jackson3JsonTreeNode(root, ctxt));
+        return reader.resolve(new Jackson3JsonTokenSource(p, ctxt));
     }
 }
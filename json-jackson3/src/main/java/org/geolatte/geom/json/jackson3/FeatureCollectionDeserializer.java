@@ -6,7 +6,6 @@ import org.geolatte.geom.json.GeoJsonFeatureCollectionReader;
 import org.geolatte.geom.json.Settings;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ValueDeserializer;
 
 @SuppressWarnings("rawtypes")
@@ -20,7 +19,6 @@ public class FeatureCollectionDeserializer extends ValueDeserializer<FeatureColl
 
     @Override
     public FeatureCollection<?, ?> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) {
-        JsonNode root = jsonParser.readValueAsTree();
-        return reader.read(new Jackson3JsonTreeNode(root, deserializationContext));
+        return reader.read(new Jackson3JsonTokenSource(jsonParser, deserializationContext));
     }
 }
@@ -7,7 +7,6 @@ import org.geolatte.geom.json.Settings;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ValueDeserializer;
 
 /**
@@ -24,7 +23,6 @@ public class FeatureDeserializer extends ValueDeserializer<Feature> {
 
     @Override
     public Feature<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        JsonNode root = p.readValueAsTree();
-        return reader.read(new Jackson3JsonTreeNode(root, ctxt));
+        return reader.read(new Jackson3JsonTokenSource(p, ctxt));
     }
 }
@@ -2,12 +2,22 @@ package org.geolatte.geom.json.jackson3;
 
 import org.geolatte.geom.*;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.json.CoordinatePrecision;
+import org.geolatte.geom.json.GeoJsonFeatureStreamReader;
+import org.geolatte.geom.json.GeoJsonFeatureStreamWriter;
 import org.geolatte.geom.json.Setting;
 import org.geolatte.geom.json.Settings;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
 import tools.jackson.core.Version;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.databind.ValueDeserializer;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +34,8 @@ public class GeolatteGeomModule extends SimpleModule {
 
     private final Settings settings = new Settings();
 
+    private final CoordinateReferenceSystem<?> defaultCrs;
+
     private final Map<Class, ValueDeserializer> dezers = new HashMap<>();
 
     private final GeometrySerializer geometrySerializer;
@@ -38,6 +50,8 @@ public class GeolatteGeomModule extends SimpleModule {
 
         super("GeolatteGeomModule", new Version(2, 0, 0, "", "org.geolatte", "geolatte-json"));
 
+        this.defaultCrs = defaultCrs;
+
         geometrySerializer = new GeometrySerializer(settings);
         FeatureSerializer featureSerializer = new FeatureSerializer(settings);
         addSerializer(Feature.class, featureSerializer);
@@ -68,6 +82,16 @@ public class GeolatteGeomModule extends SimpleModule {
         settings.override(setting, value);
     }
 
+    /**
+     * Sets the number of decimals with which coordinates are serialized.
+     *
+     * @param precision the decimals per type of axis
+     * @see CoordinatePrecision
+     */
+    public void setCoordinatePrecision(CoordinatePrecision precision) {
+        settings.setCoordinatePrecision(precision);
+    }
+
     public GeometrySerializer getGeometrySerializer() {
         return this.geometrySerializer;
     }
@@ -86,4 +110,61 @@ public class GeolatteGeomModule extends SimpleModule {
         other.addSerializer(this.crsSerializer);
         getGeometryDeserializers().forEach(other::addDeserializer);
     }
+
+    /**
+     * Creates a reader that decodes the features of a GeoJSON {@code FeatureCollection} one at a time.
+     *
+     * <p>Unlike {@code mapper.readValue(in, FeatureCollection.class)}, the features are not collected
+     * in memory, so that FeatureCollections of any size can be processed.</p>
+     *
+     * @param mapper the {@code ObjectMapper} used to create the parser and to decode feature properties
+     * @param in the input
+     */
+    public GeoJsonFeatureStreamReader newFeatureCollectionReader(ObjectMapper mapper, InputStream in) {
+        JsonParser parser = mapper.createParser(in);
+        return GeoJsonFeatureStreamReader.forFeatureCollection(newTokenSource(parser), parser::close, defaultCrs, settings);
+    }
+
+    /**
+     * Creates a reader that decodes a GeoJSON text sequence (RFC 8142), or newline-delimited GeoJSON, of
+     * {@code Feature} objects one at a time.
+     *
+     * @param mapper the {@code ObjectMapper} used to create the parser and to decode feature properties
+     * @param in the input
+     */
+    public GeoJsonFeatureStreamReader newFeatureSequenceReader(ObjectMapper mapper, InputStream in) {
+        JsonParser parser = mapper.createParser(GeoJsonFeatureStreamReader.toSequenceInput(in));
+        return GeoJsonFeatureStreamReader.forSequence(newTokenSource(parser), parser::close, defaultCrs, settings);
+    }
+
+    // parsers created by an ObjectMapper carry the mapper's DeserializationContext
+    private static Jackson3JsonTokenSource newTokenSource(JsonParser parser) {
+        return new Jackson3JsonTokenSource(parser, (DeserializationContext) parser.objectReadContext());
+    }
+
+    /**
+     * Creates a writer that writes a GeoJSON {@code FeatureCollection} one feature at a time.
+     *
+     * <p>If {@link Setting#SERIALIZE_FEATURE_COLLECTION_BBOX} is set, the bbox of the written features is
+     * written as a trailing member of the FeatureCollection.</p>
+     *
+     * @param mapper the {@code ObjectMapper} used to create the generator and to serialize the features
+     * @param out the output, which is closed when the writer is closed
+     */
+    public GeoJsonFeatureStreamWriter newFeatureCollectionWriter(ObjectMapper mapper, OutputStream out) {
+        return newFeatureCollectionWriter(mapper, out, null);
+    }
+
+    /**
+     * Creates a writer that writes a GeoJSON {@code FeatureCollection} with the specified bbox one feature at a time.
+     *
+     * @param mapper the {@code ObjectMapper} used to create the generator and to serialize the features
+     * @param out the output, which is closed when the writer is closed
+     * @param bbox the precomputed bbox of the FeatureCollection, or null
+     */
+    public GeoJsonFeatureStreamWriter newFeatureCollectionWriter(ObjectMapper mapper, OutputStream out, Box<?> bbox) {
+        JsonGenerator gen = mapper.createGenerator(out);
+        Jackson3GeoJsonWriter writer = new Jackson3GeoJsonWriter(gen, (SerializationContext) gen.objectWriteContext());
+        return GeoJsonFeatureStreamWriter.open(writer, gen::close, settings, bbox);
+    }
 }
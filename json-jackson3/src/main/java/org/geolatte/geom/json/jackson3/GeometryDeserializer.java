@@ -6,7 +6,6 @@ import org.geolatte.geom.json.GeoJsonGeometryReader;
 import org.geolatte.geom.json.Settings;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ValueDeserializer;
 
 /**
@@ -23,7 +22,6 @@ public class GeometryDeserializer extends ValueDeserializer<Geometry<?>> {
 
     @Override
     public Geometry<?> deserialize(JsonParser p, DeserializationContext ctxt) {
-        JsonNode root = p.readValueAsTree();
-        return reader.read(new Jackson3JsonTreeNode(root, ctxt));
+        return reader.read(new Jackson3JsonTokenSource(p, ctxt));
     }
 }
@@ -62,6 +62,25 @@ final class Jackson3GeoJsonWriter implements GeoJsonWriter {
         gen.writeArray(values, offset, length);
     }
 
+    @Override
+    public void writePositionArray(double[] coordinates, int offset, int numPositions, int dimension) {
+        gen.writeStartArray();
+        for (int i = 0; i < numPositions; i++) {
+            gen.writeArray(coordinates, offset + i * dimension, dimension);
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void writeNumber(char[] encoded, int offset, int length) {
+        gen.writeNumber(encoded, offset, length);
+    }
+
+    @Override
+    public void writeNumber(double value) {
+        gen.writeNumber(value);
+    }
+
     @Override
     public void writePojo(Object value) {
         gen.writePOJO(value);
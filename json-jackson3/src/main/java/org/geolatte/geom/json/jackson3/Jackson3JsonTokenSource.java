@@ -0,0 +1,94 @@
+package org.geolatte.geom.json.jackson3;
+
+import org.geolatte.geom.json.spi.JsonTokenSource;
+import org.geolatte.geom.json.spi.JsonTreeNode;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Jackson 3 implementation of {@link JsonTokenSource} that wraps a native
+ * {@link JsonParser}.
+ */
+final class Jackson3JsonTokenSource implements JsonTokenSource {
+
+    private final JsonParser parser;
+    private final DeserializationContext ctxt;
+
+    Jackson3JsonTokenSource(JsonParser parser, DeserializationContext ctxt) {
+        this.parser = parser;
+        this.ctxt = ctxt;
+    }
+
+    @Override
+    public Token currentToken() {
+        return toToken(parser.currentToken());
+    }
+
+    @Override
+    public Token nextToken() {
+        return toToken(parser.nextToken());
+    }
+
+    @Override
+    public String currentName() {
+        return parser.currentName();
+    }
+
+    @Override
+    public String getText() {
+        return parser.getString();
+    }
+
+    @Override
+    public double getDoubleValue() {
+        return parser.getDoubleValue();
+    }
+
+    @Override
+    public void skipChildren() {
+        parser.skipChildren();
+    }
+
+    @Override
+    public JsonTreeNode readTree() {
+        JsonNode node = ctxt.readTree(parser);
+        return new Jackson3JsonTreeNode(node, ctxt);
+    }
+
+    @Override
+    public Object readJavaObject() {
+        return ctxt.readValue(parser, Object.class);
+    }
+
+    private static Token toToken(JsonToken token) {
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return Token.START_OBJECT;
+            case END_OBJECT:
+                return Token.END_OBJECT;
+            case START_ARRAY:
+                return Token.START_ARRAY;
+            case END_ARRAY:
+                return Token.END_ARRAY;
+            case PROPERTY_NAME:
+                return Token.PROPERTY_NAME;
+            case VALUE_STRING:
+                return Token.STRING;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Token.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return Token.BOOLEAN;
+            case VALUE_NULL:
+                return Token.NULL;
+            default:
+                return Token.OTHER;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.geolatte.geom.json;
 
+import org.geolatte.geom.Box;
 import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.jackson3.GeolatteGeomModule;
 import org.geolatte.geom.json.test.MapperLike;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -17,8 +20,14 @@ import java.util.Map;
 final class Jackson3MapperFactory {
 
     static MapperLike create(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings) {
+        return create(defaultCrs, settings, CoordinatePrecision.FULL_PRECISION);
+    }
+
+    static MapperLike create(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings,
+                             CoordinatePrecision precision) {
         GeolatteGeomModule module = new GeolatteGeomModule(defaultCrs);
         settings.forEach(module::set);
+        module.setCoordinatePrecision(precision);
 
         ObjectMapper mapper = JsonMapper.builder().addModule(module).build();
         return new MapperLike() {
@@ -31,6 +40,21 @@ final class Jackson3MapperFactory {
             public <T> T readValue(String json, Class<T> type) {
                 return mapper.readValue(json, type);
             }
+
+            @Override
+            public GeoJsonFeatureStreamReader readFeatureCollection(InputStream in) {
+                return module.newFeatureCollectionReader(mapper, in);
+            }
+
+            @Override
+            public GeoJsonFeatureStreamReader readFeatureSequence(InputStream in) {
+                return module.newFeatureSequenceReader(mapper, in);
+            }
+
+            @Override
+            public GeoJsonFeatureStreamWriter writeFeatureCollection(OutputStream out, Box<?> bbox) {
+                return module.newFeatureCollectionWriter(mapper, out, bbox);
+            }
         };
     }
 
@@ -4,11 +4,19 @@ import org.geolatte.geom.crs.CoordinateReferenceSystem;
 import org.geolatte.geom.json.test.MapperLike;
 import org.geolatte.geom.json.test.SettingsSpec;
 
+import java.util.Collections;
 import java.util.Map;
 
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+
 public class Jackson3SettingsTest extends SettingsSpec {
     @Override
     protected MapperLike newMapper(CoordinateReferenceSystem<?> defaultCrs, Map<Setting, Boolean> settings) {
         return Jackson3MapperFactory.create(defaultCrs, settings);
     }
+
+    @Override
+    protected MapperLike newMapper(CoordinatePrecision precision) {
+        return Jackson3MapperFactory.create(WGS84, Collections.emptyMap(), precision);
+    }
 }
@@ -0,0 +1,42 @@
+package org.geolatte.geom.mvt;
+
+/**
+ * A geometry encoded as a sequence of vector tile geometry commands.
+ */
+public final class EncodedGeometry {
+
+    private final MvtGeometryType type;
+    private final int[] commands;
+
+    EncodedGeometry(MvtGeometryType type, int[] commands) {
+        this.type = type;
+        this.commands = commands;
+    }
+
+    /**
+     * Returns the geometry type of the feature.
+     *
+     * @return the geometry type
+     */
+    public MvtGeometryType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the command integers, as they appear in the {@code geometry} field of a vector tile feature.
+     *
+     * @return the command integers
+     */
+    public int[] getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns true iff nothing of the geometry remains after clipping to the tile.
+     *
+     * @return true iff there are no commands
+     */
+    public boolean isEmpty() {
+        return commands.length == 0;
+    }
+}
@@ -0,0 +1,26 @@
+package org.geolatte.geom.mvt;
+
+/**
+ * The geometry types of a vector tile feature, with their protobuf enumeration values.
+ */
+public enum MvtGeometryType {
+    UNKNOWN(0),
+    POINT(1),
+    LINESTRING(2),
+    POLYGON(3);
+
+    private final int value;
+
+    MvtGeometryType(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of this type in the vector tile protobuf encoding.
+     *
+     * @return the protobuf value
+     */
+    public int getValue() {
+        return value;
+    }
+}
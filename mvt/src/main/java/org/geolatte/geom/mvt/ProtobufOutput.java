@@ -0,0 +1,137 @@
+package org.geolatte.geom.mvt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable buffer that receives protobuf-encoded fields.
+ *
+ * <p>Only the wire types used by the vector tile format are supported.</p>
+ */
+final class ProtobufOutput {
+
+    static final int VARINT = 0;
+    static final int FIXED64 = 1;
+    static final int LENGTH_DELIMITED = 2;
+    static final int FIXED32 = 5;
+
+    private byte[] bytes;
+    private int size;
+
+    ProtobufOutput() {
+        this(256);
+    }
+
+    ProtobufOutput(int capacity) {
+        bytes = new byte[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    void writeTag(int field, int wireType) {
+        writeVarint((field << 3) | wireType);
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeFixed32(int value) {
+        ensureCapacity(4);
+        for (int i = 0; i < 4; i++) {
+            bytes[size++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    void writeFixed64(long value) {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            bytes[size++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    void writeVarintField(int field, long value) {
+        writeTag(field, VARINT);
+        writeVarint(value);
+    }
+
+    void writeStringField(int field, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(utf8.length);
+        writeBytes(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Writes the content of the specified output as an embedded message.
+     */
+    void writeMessageField(int field, ProtobufOutput message) {
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(message.size);
+        writeBytes(message.bytes, 0, message.size);
+    }
+
+    /**
+     * Appends the fields in the specified output.
+     */
+    void write(ProtobufOutput other) {
+        writeBytes(other.bytes, 0, other.size);
+    }
+
+    /**
+     * Writes a packed repeated field of unsigned varints.
+     */
+    void writePackedField(int field, int[] values, int count) {
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            length += varintSize(values[i] & 0xFFFFFFFFL);
+        }
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(length);
+        for (int i = 0; i < count; i++) {
+            writeVarint(values[i] & 0xFFFFFFFFL);
+        }
+    }
+
+    private void writeBytes(byte[] src, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(src, offset, bytes, size, length);
+        size += length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    static int varintSize(long value) {
+        int result = 1;
+        while ((value & ~0x7FL) != 0) {
+            result++;
+            value >>>= 7;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,453 @@
+package org.geolatte.geom.mvt;
+
+import org.geolatte.geom.*;
+import org.geolatte.geom.crs.CompoundCoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.trans.CoordinateOperation;
+import org.geolatte.geom.crs.trans.TransformOperations;
+
+import java.util.Arrays;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+
+/**
+ * Encodes geometries as vector tile geometry commands for one tile.
+ *
+ * <p>Each position sequence is processed in a single pass over reusable coordinate arrays: it is reprojected to Web
+ * Mercator (unless it already is), scaled to the tile grid, clipped to the tile extended by the buffer, rounded to
+ * integers with removal of consecutive duplicate points, and written as delta-encoded commands. Rings are oriented
+ * as the vector tile specification requires: exterior rings clockwise and interior rings counter-clockwise in tile
+ * coordinates, where the y-axis points down.</p>
+ *
+ * <p>Geometries can be in any coordinate reference system that can be transformed to Web Mercator; only the first two
+ * coordinates of each position are used. Geometry collections other than the homogeneous multi-geometries can't
+ * be represented in a vector tile feature.</p>
+ *
+ * <p>Instances reuse their internal buffers and are therefore not thread-safe.</p>
+ */
+public final class TileGeometryEncoder {
+
+    public static final int DEFAULT_EXTENT = 4096;
+    public static final int DEFAULT_BUFFER = 64;
+
+    private static final int MOVE_TO = 1;
+    private static final int LINE_TO = 2;
+    private static final int CLOSE_PATH = 7;
+
+    private final TileId tile;
+    private final int extent;
+    private final int buffer;
+
+    //from Web Mercator to tile coordinates: px = (x - minX) * scale, py = (maxY - y) * scale
+    private final double minX;
+    private final double maxY;
+    private final double scale;
+    private final double clipMin;
+    private final double clipMax;
+
+    //the transformation to Web Mercator for the last seen reference system; null if no transformation is needed
+    private CoordinateReferenceSystem<?> lastCrs;
+    private CoordinateOperation toWebMercator;
+
+    //reusable buffers
+    private double[] position = new double[4];
+    private double[] coords = new double[256];
+    private double[] clipA = new double[256];
+    private double[] clipB = new double[256];
+    private final double[] segmentT = new double[2];
+    private int[] grid = new int[256];
+    private int[] commands = new int[256];
+    private int numCommands;
+    private int cursorX;
+    private int cursorY;
+
+    //the bounding box of the last projected sequence, in tile coordinates
+    private double bMinX, bMinY, bMaxX, bMaxY;
+
+    public TileGeometryEncoder(TileId tile) {
+        this(tile, DEFAULT_EXTENT, DEFAULT_BUFFER);
+    }
+
+    /**
+     * Creates an encoder for the specified tile.
+     *
+     * @param tile the tile
+     * @param extent the number of grid cells along each side of the tile
+     * @param buffer the number of grid cells beyond each side of the tile that are retained when clipping
+     */
+    public TileGeometryEncoder(TileId tile, int extent, int buffer) {
+        if (extent <= 0) throw new IllegalArgumentException("Extent must be strictly positive");
+        if (buffer < 0) throw new IllegalArgumentException("Buffer must not be negative");
+        this.tile = tile;
+        this.extent = extent;
+        this.buffer = buffer;
+        Envelope<C2D> envelope = tile.envelope();
+        this.minX = envelope.lowerLeft().getX();
+        this.maxY = envelope.upperRight().getY();
+        this.scale = extent / tile.getSize();
+        this.clipMin = -buffer;
+        this.clipMax = extent + buffer;
+    }
+
+    public TileId getTile() {
+        return tile;
+    }
+
+    public int getExtent() {
+        return extent;
+    }
+
+    public int getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Encodes the geometry.
+     *
+     * @param geometry the geometry to encode
+     * @return the encoded geometry, which is empty when nothing of the geometry lies within the buffered tile
+     * @throws IllegalArgumentException when the geometry is a heterogeneous geometry collection
+     */
+    public EncodedGeometry encode(Geometry<?> geometry) {
+        MvtGeometryType type = encodeCommands(geometry);
+        return new EncodedGeometry(type, Arrays.copyOf(commands, numCommands));
+    }
+
+    /**
+     * Encodes the geometry into the internal command buffer.
+     */
+    MvtGeometryType encodeCommands(Geometry<?> geometry) {
+        numCommands = 0;
+        cursorX = 0;
+        cursorY = 0;
+        if (geometry instanceof Point || geometry instanceof MultiPoint) {
+            if (!geometry.isEmpty()) encodePoints(geometry);
+            return MvtGeometryType.POINT;
+        }
+        if (geometry instanceof LineString) {
+            if (!geometry.isEmpty()) encodeLine(geometry, geometry.getPositions());
+            return MvtGeometryType.LINESTRING;
+        }
+        if (geometry instanceof MultiLineString) {
+            for (LineString<?> line : ((MultiLineString<?>) geometry).components()) {
+                if (!line.isEmpty()) encodeLine(geometry, line.getPositions());
+            }
+            return MvtGeometryType.LINESTRING;
+        }
+        if (geometry instanceof Polygon) {
+            encodePolygon(geometry, (Polygon<?>) geometry);
+            return MvtGeometryType.POLYGON;
+        }
+        if (geometry instanceof MultiPolygon) {
+            for (Polygon<?> polygon : ((MultiPolygon<?>) geometry).components()) {
+                encodePolygon(geometry, polygon);
+            }
+            return MvtGeometryType.POLYGON;
+        }
+        throw new IllegalArgumentException("Can't encode a " + geometry.getGeometryType() + " in a vector tile");
+    }
+
+    int[] commands() {
+        return commands;
+    }
+
+    int numCommands() {
+        return numCommands;
+    }
+
+    private void encodePoints(Geometry<?> geometry) {
+        int n = project(geometry, geometry.getPositions());
+        int header = numCommands;
+        addCommand(0);
+        int count = 0;
+        for (int i = 0; i < 2 * n; i += 2) {
+            double x = coords[i];
+            double y = coords[i + 1];
+            if (x < clipMin || x > clipMax || y < clipMin || y > clipMax) continue;
+            addPoint((int) Math.round(x), (int) Math.round(y));
+            count++;
+        }
+        if (count == 0) {
+            numCommands = header;
+        } else {
+            commands[header] = command(MOVE_TO, count);
+        }
+    }
+
+    private void encodeLine(Geometry<?> geometry, PositionSequence<?> positions) {
+        int n = project(geometry, positions);
+        if (n < 2 || isOutside()) return;
+        if (isInside()) {
+            emitLine(coords, n);
+            return;
+        }
+        //Liang-Barsky clipping of each segment, consecutive visible segments are joined in one part
+        ensureClipCapacity(4 * n);
+        double[] part = clipA;
+        int partLength = 0;
+        double[] t = segmentT;
+        for (int i = 0; i < 2 * (n - 1); i += 2) {
+            double x0 = coords[i], y0 = coords[i + 1], x1 = coords[i + 2], y1 = coords[i + 3];
+            if (!clipSegment(x0, y0, x1, y1, t)) {
+                if (partLength > 0) emitLine(part, partLength);
+                partLength = 0;
+                continue;
+            }
+            double dx = x1 - x0, dy = y1 - y0;
+            if (partLength == 0) {
+                part[0] = x0 + t[0] * dx;
+                part[1] = y0 + t[0] * dy;
+                partLength = 1;
+            }
+            part[2 * partLength] = t[1] < 1 ? x0 + t[1] * dx : x1;
+            part[2 * partLength + 1] = t[1] < 1 ? y0 + t[1] * dy : y1;
+            partLength++;
+            if (t[1] < 1) {
+                emitLine(part, partLength);
+                partLength = 0;
+            }
+        }
+        if (partLength > 0) emitLine(part, partLength);
+    }
+
+    private void encodePolygon(Geometry<?> geometry, Polygon<?> polygon) {
+        if (polygon.isEmpty()) return;
+        if (!encodeRing(geometry, polygon.getExteriorRing().getPositions(), true)) return;
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            encodeRing(geometry, polygon.getInteriorRingN(i).getPositions(), false);
+        }
+    }
+
+    private boolean encodeRing(Geometry<?> geometry, PositionSequence<?> positions, boolean exterior) {
+        int n = project(geometry, positions);
+        if (n < 4 || isOutside()) return false;
+        if (isInside()) {
+            return emitRing(coords, n, exterior);
+        }
+        //Sutherland-Hodgman clipping against the four sides of the buffered tile, the closing point is dropped
+        ensureClipCapacity(2 * n);
+        System.arraycopy(coords, 0, clipA, 0, 2 * (n - 1));
+        int m = n - 1;
+        m = clipRing(true, m, 0, clipMin, false);
+        m = clipRing(false, m, 0, clipMax, true);
+        m = clipRing(true, m, 1, clipMin, false);
+        m = clipRing(false, m, 1, clipMax, true);
+        return m >= 3 && emitRing(clipA, m, exterior);
+    }
+
+    /**
+     * Clips the ring in one clip buffer against one side of the buffered tile, and writes the result in the other
+     * clip buffer.
+     *
+     * @param fromA whether the ring is read from clipA (and written to clipB), or the other way round
+     * @param n the number of points of the ring
+     * @param axis 0 for a vertical side, 1 for a horizontal side
+     * @param max whether the side bounds the maximum (instead of minimum) coordinate
+     * @return the number of points of the clipped ring
+     */
+    private int clipRing(boolean fromA, int n, int axis, double bound, boolean max) {
+        if (n == 0) return 0;
+        //each point results in at most two points
+        ensureClipCapacity(4 * n);
+        double[] in = fromA ? clipA : clipB;
+        double[] out = fromA ? clipB : clipA;
+        int m = 0;
+        int prev = 2 * (n - 1);
+        boolean prevIn = max ? in[prev + axis] <= bound : in[prev + axis] >= bound;
+        for (int i = 0; i < 2 * n; i += 2) {
+            boolean curIn = max ? in[i + axis] <= bound : in[i + axis] >= bound;
+            if (curIn != prevIn) {
+                double f = (bound - in[prev + axis]) / (in[i + axis] - in[prev + axis]);
+                out[2 * m + axis] = bound;
+                out[2 * m + 1 - axis] = in[prev + 1 - axis] + f * (in[i + 1 - axis] - in[prev + 1 - axis]);
+                m++;
+            }
+            if (curIn) {
+                out[2 * m] = in[i];
+                out[2 * m + 1] = in[i + 1];
+                m++;
+            }
+            prev = i;
+            prevIn = curIn;
+        }
+        return m;
+    }
+
+    /**
+     * Computes the parameter range [t0, t1] of the part of the segment within the buffered tile.
+     *
+     * @return false if no part of the segment is within the buffered tile
+     */
+    private boolean clipSegment(double x0, double y0, double x1, double y1, double[] t) {
+        double dx = x1 - x0, dy = y1 - y0;
+        t[0] = 0;
+        t[1] = 1;
+        return clipT(-dx, x0 - clipMin, t) && clipT(dx, clipMax - x0, t)
+                && clipT(-dy, y0 - clipMin, t) && clipT(dy, clipMax - y0, t);
+    }
+
+    private static boolean clipT(double p, double q, double[] t) {
+        if (p == 0) return q >= 0;
+        double r = q / p;
+        if (p < 0) {
+            if (r > t[1]) return false;
+            if (r > t[0]) t[0] = r;
+        } else {
+            if (r < t[0]) return false;
+            if (r < t[1]) t[1] = r;
+        }
+        return true;
+    }
+
+    private void emitLine(double[] points, int n) {
+        int m = quantize(points, n);
+        if (m < 2) return;
+        writePath(m);
+    }
+
+    private boolean emitRing(double[] points, int n, boolean exterior) {
+        int m = quantize(points, n);
+        //drop the closing point
+        if (m > 1 && grid[0] == grid[2 * (m - 1)] && grid[1] == grid[2 * (m - 1) + 1]) m--;
+        if (m < 3) return false;
+        long area = 0;
+        for (int i = 0; i < 2 * m; i += 2) {
+            int j = (i + 2) % (2 * m);
+            area += (long) grid[i] * grid[j + 1] - (long) grid[j] * grid[i + 1];
+        }
+        if (area == 0) return false;
+        if ((area > 0) != exterior) {
+            reverseGrid(m);
+        }
+        writePath(m);
+        addCommand(command(CLOSE_PATH, 1));
+        return true;
+    }
+
+    /**
+     * Rounds the points to the tile grid, and removes consecutive duplicates.
+     *
+     * @return the number of points in the grid buffer
+     */
+    private int quantize(double[] points, int n) {
+        if (grid.length < 2 * n) grid = new int[2 * n];
+        int m = 0;
+        for (int i = 0; i < 2 * n; i += 2) {
+            int x = (int) Math.round(points[i]);
+            int y = (int) Math.round(points[i + 1]);
+            if (m > 0 && grid[2 * m - 2] == x && grid[2 * m - 1] == y) continue;
+            grid[2 * m] = x;
+            grid[2 * m + 1] = y;
+            m++;
+        }
+        return m;
+    }
+
+    private void reverseGrid(int m) {
+        for (int i = 0, j = m - 1; i < j; i++, j--) {
+            int x = grid[2 * i], y = grid[2 * i + 1];
+            grid[2 * i] = grid[2 * j];
+            grid[2 * i + 1] = grid[2 * j + 1];
+            grid[2 * j] = x;
+            grid[2 * j + 1] = y;
+        }
+    }
+
+    private void writePath(int m) {
+        addCommand(command(MOVE_TO, 1));
+        addPoint(grid[0], grid[1]);
+        addCommand(command(LINE_TO, m - 1));
+        for (int i = 2; i < 2 * m; i += 2) {
+            addPoint(grid[i], grid[i + 1]);
+        }
+    }
+
+    /**
+     * Reads the positions into the coordinate buffer, transforms them to tile coordinates and determines their
+     * bounding box.
+     *
+     * @return the number of positions
+     */
+    private int project(Geometry<?> geometry, PositionSequence<?> positions) {
+        int n = positions.size();
+        if (coords.length < 2 * n) coords = new double[Math.max(2 * n, 2 * coords.length)];
+        if (position.length < positions.getCoordinateDimension()) {
+            position = new double[positions.getCoordinateDimension()];
+        }
+        for (int i = 0; i < n; i++) {
+            positions.getCoordinates(i, position);
+            coords[2 * i] = position[0];
+            coords[2 * i + 1] = position[1];
+        }
+        CoordinateOperation op = operationFor(geometry.getCoordinateReferenceSystem());
+        if (op != null) {
+            op.forward(coords, 0, coords, 0, n, 2);
+        }
+        bMinX = bMinY = Double.POSITIVE_INFINITY;
+        bMaxX = bMaxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < 2 * n; i += 2) {
+            double x = (coords[i] - minX) * scale;
+            double y = (maxY - coords[i + 1]) * scale;
+            coords[i] = x;
+            coords[i + 1] = y;
+            if (x < bMinX) bMinX = x;
+            if (x > bMaxX) bMaxX = x;
+            if (y < bMinY) bMinY = y;
+            if (y > bMaxY) bMaxY = y;
+        }
+        return n;
+    }
+
+    private boolean isInside() {
+        return bMinX >= clipMin && bMaxX <= clipMax && bMinY >= clipMin && bMaxY <= clipMax;
+    }
+
+    private boolean isOutside() {
+        return bMaxX < clipMin || bMinX > clipMax || bMaxY < clipMin || bMinY > clipMax;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CoordinateOperation operationFor(CoordinateReferenceSystem<?> crs) {
+        if (crs == lastCrs) return toWebMercator;
+        CoordinateReferenceSystem<?> base = crs.isCompound() ? ((CompoundCoordinateReferenceSystem<?>) crs).getBase() : crs;
+        CoordinateOperation op = null;
+        if (!isWebMercator(base)) {
+            op = TransformOperations.from((CoordinateReferenceSystem) base, WEB_MERCATOR).getOperation();
+        }
+        lastCrs = crs;
+        toWebMercator = op;
+        return op;
+    }
+
+    private static boolean isWebMercator(CoordinateReferenceSystem<?> crs) {
+        int code = crs.getCrsId().getCode();
+        return crs.equals(WEB_MERCATOR) || code == 3857 || code == 900913;
+    }
+
+    private void ensureClipCapacity(int length) {
+        if (clipA.length < length) {
+            clipA = Arrays.copyOf(clipA, Math.max(length, 2 * clipA.length));
+            clipB = Arrays.copyOf(clipB, clipA.length);
+        }
+    }
+
+    private void addPoint(int x, int y) {
+        addCommand(zigZag(x - cursorX));
+        addCommand(zigZag(y - cursorY));
+        cursorX = x;
+        cursorY = y;
+    }
+
+    private void addCommand(int value) {
+        if (numCommands == commands.length) commands = Arrays.copyOf(commands, 2 * commands.length);
+        commands[numCommands++] = value;
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private static int zigZag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+}
@@ -0,0 +1,100 @@
+package org.geolatte.geom.mvt;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Envelope;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+
+/**
+ * Identifies a tile in the Web Mercator tile pyramid by its zoom level and column (x) and row (y) indices.
+ *
+ * <p>Rows are counted from the top (north) of the map, as in the XYZ tiling scheme.</p>
+ */
+public final class TileId {
+
+    /**
+     * Half the width of the Web Mercator world, in meters.
+     */
+    public static final double HALF_WORLD = 20037508.342789244;
+
+    private final int z;
+    private final int x;
+    private final int y;
+
+    private TileId(int z, int x, int y) {
+        this.z = z;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the tile with the specified zoom level, column and row.
+     *
+     * @param z the zoom level
+     * @param x the column index
+     * @param y the row index
+     * @return the {@code TileId}
+     * @throws IllegalArgumentException when the indices are out of range for the zoom level
+     */
+    public static TileId of(int z, int x, int y) {
+        if (z < 0 || z > 30) {
+            throw new IllegalArgumentException("Zoom level must be between 0 and 30, was " + z);
+        }
+        int size = 1 << z;
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            throw new IllegalArgumentException(String.format("Tile %d/%d/%d does not exist", z, x, y));
+        }
+        return new TileId(z, x, y);
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the width (and height) of this tile, in Web Mercator meters.
+     *
+     * @return the width of this tile
+     */
+    public double getSize() {
+        return 2 * HALF_WORLD / (1 << z);
+    }
+
+    /**
+     * Returns the extent of this tile in Web Mercator.
+     *
+     * @return the {@code Envelope} of this tile
+     */
+    public Envelope<C2D> envelope() {
+        double size = getSize();
+        double minX = -HALF_WORLD + x * size;
+        double maxY = HALF_WORLD - y * size;
+        return new Envelope<>(minX, maxY - size, minX + size, maxY, WEB_MERCATOR);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TileId that = (TileId) o;
+        return z == that.z && x == that.x && y == that.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * z + x) + y;
+    }
+
+    @Override
+    public String toString() {
+        return z + "/" + x + "/" + y;
+    }
+}
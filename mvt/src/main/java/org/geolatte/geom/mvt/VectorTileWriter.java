@@ -0,0 +1,188 @@
+package org.geolatte.geom.mvt;
+
+import org.geolatte.geom.Geometry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds a Mapbox Vector Tile (version 2) from geometries and their properties.
+ *
+ * <p>Features are encoded as soon as they are added: only the protobuf bytes of each layer, and the key and value
+ * tables, are retained. Property values of type {@code String}, {@code Boolean}, {@code Float}, {@code Double} and
+ * the integral {@code Number} types are encoded with the corresponding vector tile value type; other values are
+ * encoded as their string representation, and null values are skipped.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class VectorTileWriter {
+
+    private static final int VERSION = 2;
+
+    private final TileGeometryEncoder encoder;
+    private final Map<String, Layer> layers = new LinkedHashMap<>();
+    private final ProtobufOutput feature = new ProtobufOutput();
+    private int[] tags = new int[32];
+
+    public VectorTileWriter(TileId tile) {
+        this(new TileGeometryEncoder(tile));
+    }
+
+    /**
+     * Creates a writer for the tile that encodes geometries with the specified encoder.
+     *
+     * @param encoder the geometry encoder, which determines the tile, extent and buffer
+     */
+    public VectorTileWriter(TileGeometryEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Adds a feature without identifier to the specified layer.
+     *
+     * @param layerName the name of the layer
+     * @param geometry the geometry of the feature
+     * @param properties the properties of the feature, may be null
+     * @return false if the feature was dropped because its geometry lies outside the buffered tile
+     */
+    public boolean addFeature(String layerName, Geometry<?> geometry, Map<String, ?> properties) {
+        return addFeature(layerName, null, geometry, properties);
+    }
+
+    /**
+     * Adds a feature to the specified layer.
+     *
+     * @param layerName the name of the layer
+     * @param id the identifier of the feature
+     * @param geometry the geometry of the feature
+     * @param properties the properties of the feature, may be null
+     * @return false if the feature was dropped because its geometry lies outside the buffered tile
+     */
+    public boolean addFeature(String layerName, long id, Geometry<?> geometry, Map<String, ?> properties) {
+        return addFeature(layerName, Long.valueOf(id), geometry, properties);
+    }
+
+    private boolean addFeature(String layerName, Long id, Geometry<?> geometry, Map<String, ?> properties) {
+        MvtGeometryType type = encoder.encodeCommands(geometry);
+        if (encoder.numCommands() == 0) return false;
+        Layer layer = layers.computeIfAbsent(layerName, Layer::new);
+
+        int numTags = 0;
+        if (properties != null) {
+            if (tags.length < 2 * properties.size()) tags = new int[2 * properties.size()];
+            for (Map.Entry<String, ?> property : properties.entrySet()) {
+                if (property.getValue() == null) continue;
+                tags[numTags++] = layer.keyIndex(property.getKey());
+                tags[numTags++] = layer.valueIndex(property.getValue());
+            }
+        }
+
+        feature.clear();
+        if (id != null) {
+            feature.writeVarintField(1, id);
+        }
+        if (numTags > 0) {
+            feature.writePackedField(2, tags, numTags);
+        }
+        feature.writeVarintField(3, type.getValue());
+        feature.writePackedField(4, encoder.commands(), encoder.numCommands());
+        layer.features.writeMessageField(2, feature);
+        return true;
+    }
+
+    /**
+     * Returns the encoded tile.
+     *
+     * @return the protobuf-encoded tile
+     */
+    public byte[] toByteArray() {
+        return encodeTile().toByteArray();
+    }
+
+    /**
+     * Writes the encoded tile to the output stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        encodeTile().writeTo(out);
+    }
+
+    private ProtobufOutput encodeTile() {
+        ProtobufOutput tile = new ProtobufOutput();
+        ProtobufOutput layerOut = new ProtobufOutput();
+        for (Layer layer : layers.values()) {
+            layerOut.clear();
+            layer.writeTo(layerOut, encoder.getExtent());
+            tile.writeMessageField(3, layerOut);
+        }
+        return tile;
+    }
+
+    private static final class Layer {
+
+        final String name;
+        final ProtobufOutput features = new ProtobufOutput(1024);
+        final Map<String, Integer> keys = new LinkedHashMap<>();
+        final Map<Object, Integer> values = new HashMap<>();
+        final ProtobufOutput encodedValues = new ProtobufOutput();
+
+        Layer(String name) {
+            this.name = name;
+        }
+
+        int keyIndex(String key) {
+            return keys.computeIfAbsent(key, k -> keys.size());
+        }
+
+        int valueIndex(Object value) {
+            Integer index = values.get(value);
+            if (index == null) {
+                index = values.size();
+                values.put(value, index);
+                writeValue(value);
+            }
+            return index;
+        }
+
+        private void writeValue(Object value) {
+            ProtobufOutput out = new ProtobufOutput(16);
+            if (value instanceof String) {
+                out.writeStringField(1, (String) value);
+            } else if (value instanceof Float) {
+                out.writeTag(2, ProtobufOutput.FIXED32);
+                out.writeFixed32(Float.floatToIntBits((Float) value));
+            } else if (value instanceof Double) {
+                out.writeTag(3, ProtobufOutput.FIXED64);
+                out.writeFixed64(Double.doubleToLongBits((Double) value));
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                long l = ((Number) value).longValue();
+                if (l >= 0) {
+                    out.writeVarintField(5, l);
+                } else {
+                    out.writeVarintField(6, (l << 1) ^ (l >> 63));
+                }
+            } else if (value instanceof Boolean) {
+                out.writeVarintField(7, (Boolean) value ? 1 : 0);
+            } else {
+                out.writeStringField(1, value.toString());
+            }
+            encodedValues.writeMessageField(4, out);
+        }
+
+        void writeTo(ProtobufOutput out, int extent) {
+            out.writeVarintField(15, VERSION);
+            out.writeStringField(1, name);
+            out.write(features);
+            for (String key : keys.keySet()) {
+                out.writeStringField(3, key);
+            }
+            out.write(encodedValues);
+            out.writeVarintField(5, extent);
+        }
+    }
+}
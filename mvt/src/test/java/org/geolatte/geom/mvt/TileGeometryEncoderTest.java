@@ -0,0 +1,198 @@
+package org.geolatte.geom.mvt;
+
+import org.geolatte.geom.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.geolatte.geom.mvt.TileId.HALF_WORLD;
+import static org.junit.Assert.*;
+
+/**
+ * The expected command sequences for the first tests are the examples of the vector tile specification (v2.1).
+ */
+public class TileGeometryEncoderTest {
+
+    private final TileGeometryEncoder encoder = new TileGeometryEncoder(TileId.of(0, 0, 0));
+    private final TileGeometryEncoder unbuffered = new TileGeometryEncoder(TileId.of(0, 0, 0), 4096, 0);
+
+    @Test
+    public void testPoint() {
+        EncodedGeometry encoded = encoder.encode(point(WEB_MERCATOR, px(25, 17)));
+        assertEquals(MvtGeometryType.POINT, encoded.getType());
+        assertArrayEquals(new int[]{9, 50, 34}, encoded.getCommands());
+    }
+
+    @Test
+    public void testMultiPoint() {
+        EncodedGeometry encoded = encoder.encode(multipoint(point(WEB_MERCATOR, px(5, 7)), point(WEB_MERCATOR, px(3, 2))));
+        assertArrayEquals(new int[]{17, 10, 14, 3, 9}, encoded.getCommands());
+    }
+
+    @Test
+    public void testLineString() {
+        EncodedGeometry encoded = encoder.encode(linestring(WEB_MERCATOR, px(2, 2), px(2, 10), px(10, 10)));
+        assertEquals(MvtGeometryType.LINESTRING, encoded.getType());
+        assertArrayEquals(new int[]{9, 4, 4, 18, 0, 16, 16, 0}, encoded.getCommands());
+    }
+
+    @Test
+    public void testMultiLineString() {
+        EncodedGeometry encoded = encoder.encode(multilinestring(
+                linestring(WEB_MERCATOR, px(2, 2), px(2, 10), px(10, 10)),
+                linestring(WEB_MERCATOR, px(1, 1), px(3, 5))));
+        assertArrayEquals(new int[]{9, 4, 4, 18, 0, 16, 16, 0, 9, 17, 17, 10, 4, 8}, encoded.getCommands());
+    }
+
+    @Test
+    public void testPolygon() {
+        EncodedGeometry encoded = encoder.encode(polygon(WEB_MERCATOR, ring(px(3, 6), px(8, 12), px(20, 34), px(3, 6))));
+        assertEquals(MvtGeometryType.POLYGON, encoded.getType());
+        assertArrayEquals(new int[]{9, 6, 12, 18, 10, 12, 24, 44, 15}, encoded.getCommands());
+    }
+
+    @Test
+    public void testRingsAreOriented() {
+        //exterior ring counter-clockwise and interior ring clockwise in tile coordinates, i.e. the wrong way round
+        Polygon<C2D> polygon = polygon(WEB_MERCATOR,
+                ring(px(0, 0), px(0, 10), px(10, 10), px(10, 0), px(0, 0)),
+                ring(px(2, 2), px(4, 2), px(4, 4), px(2, 4), px(2, 2)));
+        List<int[]> rings = decode(encoder.encode(polygon).getCommands());
+        assertEquals(2, rings.size());
+        assertTrue(signedArea(rings.get(0)) > 0);
+        assertTrue(signedArea(rings.get(1)) < 0);
+    }
+
+    @Test
+    public void testDuplicatePointsAreRemoved() {
+        EncodedGeometry encoded = encoder.encode(linestring(WEB_MERCATOR, px(2, 2), px(2.2, 2.1), px(2, 10), px(1.9, 10.4)));
+        assertArrayEquals(new int[]{9, 4, 4, 10, 0, 16}, encoded.getCommands());
+    }
+
+    @Test
+    public void testDegenerateLineIsDropped() {
+        assertTrue(encoder.encode(linestring(WEB_MERCATOR, px(2, 2), px(2.2, 2.1))).isEmpty());
+    }
+
+    @Test
+    public void testLineIsClipped() {
+        EncodedGeometry encoded = unbuffered.encode(linestring(WEB_MERCATOR, px(-100, 100), px(200, 100)));
+        assertArrayEquals(new int[]{9, 0, 200, 10, 400, 0}, encoded.getCommands());
+    }
+
+    @Test
+    public void testLineLeavingAndReenteringTheTileIsSplit() {
+        List<int[]> parts = decode(unbuffered.encode(
+                linestring(WEB_MERCATOR, px(10, 10), px(10, -10), px(20, -10), px(20, 10))).getCommands());
+        assertEquals(2, parts.size());
+        assertArrayEquals(new int[]{10, 10, 10, 0}, parts.get(0));
+        assertArrayEquals(new int[]{20, 0, 20, 10}, parts.get(1));
+    }
+
+    @Test
+    public void testPointsOutsideTheBufferAreDropped() {
+        EncodedGeometry encoded = encoder.encode(multipoint(
+                point(WEB_MERCATOR, px(-65, 10)), point(WEB_MERCATOR, px(-63.6, 10))));
+        assertArrayEquals(new int[]{9, 127, 20}, encoded.getCommands());
+    }
+
+    @Test
+    public void testPolygonIsClipped() {
+        List<int[]> rings = decode(unbuffered.encode(
+                polygon(WEB_MERCATOR, ring(px(-100, -100), px(100, -100), px(100, 100), px(-100, 100), px(-100, -100))))
+                .getCommands());
+        assertEquals(1, rings.size());
+        assertEquals(100 * 100, signedArea(rings.get(0)));
+        for (int i = 0; i < rings.get(0).length; i++) {
+            assertTrue(rings.get(0)[i] == 0 || rings.get(0)[i] == 100);
+        }
+    }
+
+    @Test
+    public void testPolygonCoveringTheTileIsClippedToTheBufferedTile() {
+        List<int[]> rings = decode(encoder.encode(
+                polygon(WEB_MERCATOR, ring(px(-5000, -5000), px(9000, -5000), px(9000, 9000), px(-5000, 9000), px(-5000, -5000))))
+                .getCommands());
+        assertEquals(1, rings.size());
+        assertEquals(4224L * 4224L, signedArea(rings.get(0)));
+    }
+
+    @Test
+    public void testHolesOfDroppedPolygonsAreDropped() {
+        assertTrue(encoder.encode(polygon(WEB_MERCATOR,
+                ring(px(-500, -500), px(-500, -200), px(-200, -200), px(-200, -500), px(-500, -500)),
+                ring(px(-400, -400), px(-300, -400), px(-300, -300), px(-400, -300), px(-400, -400))))
+                .isEmpty());
+    }
+
+    @Test
+    public void testGeographicGeometryIsReprojected() {
+        TileGeometryEncoder tileEncoder = new TileGeometryEncoder(TileId.of(1, 1, 0));
+        EncodedGeometry encoded = tileEncoder.encode(point(WGS84, g(0, 0)));
+        assertArrayEquals(new int[]{9, 0, 8192}, encoded.getCommands());
+        encoded = tileEncoder.encode(linestring(WGS84, g(90, 0), g(180, 85.0511287798066)));
+        assertArrayEquals(new int[]{9, 4096, 8192, 10, 4096, 8191}, encoded.getCommands());
+    }
+
+    @Test
+    public void testEmptyGeometry() {
+        assertTrue(encoder.encode(new LineString<>(WEB_MERCATOR)).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGeometryCollectionIsRejected() {
+        encoder.encode(geometrycollection(point(WEB_MERCATOR, px(1, 1)), linestring(WEB_MERCATOR, px(1, 1), px(2, 2))));
+    }
+
+    //returns the Web Mercator coordinate of a grid position in tile 0/0/0 with extent 4096
+    private static C2D px(double x, double y) {
+        double resolution = 2 * HALF_WORLD / 4096;
+        return c(x * resolution - HALF_WORLD, HALF_WORLD - y * resolution);
+    }
+
+    //decodes the command integers into parts of absolute grid coordinates (x0, y0, x1, y1, ...)
+    static List<int[]> decode(int[] commands) {
+        List<int[]> parts = new ArrayList<>();
+        List<Integer> current = null;
+        int x = 0, y = 0;
+        int i = 0;
+        while (i < commands.length) {
+            int id = commands[i] & 0x7;
+            int count = commands[i++] >>> 3;
+            if (id == 7) continue;
+            if (id == 1) {
+                if (current != null) parts.add(toArray(current));
+                current = new ArrayList<>();
+            }
+            for (int k = 0; k < count; k++) {
+                x += unZigZag(commands[i++]);
+                y += unZigZag(commands[i++]);
+                current.add(x);
+                current.add(y);
+            }
+        }
+        if (current != null) parts.add(toArray(current));
+        return parts;
+    }
+
+    static long signedArea(int[] ring) {
+        long area = 0;
+        for (int i = 0; i < ring.length; i += 2) {
+            int j = (i + 2) % ring.length;
+            area += (long) ring[i] * ring[j + 1] - (long) ring[j] * ring[i + 1];
+        }
+        return area / 2;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int unZigZag(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+}
@@ -0,0 +1,44 @@
+package org.geolatte.geom.mvt;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Envelope;
+import org.junit.Test;
+
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WEB_MERCATOR;
+import static org.geolatte.geom.mvt.TileId.HALF_WORLD;
+import static org.junit.Assert.assertEquals;
+
+public class TileIdTest {
+
+    @Test
+    public void testEnvelopeOfWorldTile() {
+        assertEquals(new Envelope<C2D>(-HALF_WORLD, -HALF_WORLD, HALF_WORLD, HALF_WORLD, WEB_MERCATOR),
+                TileId.of(0, 0, 0).envelope());
+    }
+
+    @Test
+    public void testRowsAreCountedFromTheTop() {
+        assertEquals(new Envelope<C2D>(0, 0, HALF_WORLD, HALF_WORLD, WEB_MERCATOR), TileId.of(1, 1, 0).envelope());
+        assertEquals(new Envelope<C2D>(-HALF_WORLD, -HALF_WORLD, 0, 0, WEB_MERCATOR), TileId.of(1, 0, 1).envelope());
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(HALF_WORLD / 512, TileId.of(10, 3, 4).getSize(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnOutOfRange() {
+        TileId.of(2, 4, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeZoom() {
+        TileId.of(-1, 0, 0);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("12/2104/1350", TileId.of(12, 2104, 1350).toString());
+    }
+}
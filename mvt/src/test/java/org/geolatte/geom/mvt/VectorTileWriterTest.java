@@ -0,0 +1,165 @@
+package org.geolatte.geom.mvt;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.geolatte.geom.builder.DSL.*;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.Assert.*;
+
+public class VectorTileWriterTest {
+
+    private final VectorTileWriter writer = new VectorTileWriter(TileId.of(1, 1, 0));
+
+    @Test
+    public void testTileStructure() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("name", "a");
+        properties.put("lanes", 2);
+        properties.put("oneway", true);
+        properties.put("missing", null);
+        assertTrue(writer.addFeature("roads", 42L, linestring(WGS84, g(10, 10), g(20, 20)), properties));
+
+        Map<String, Object> other = new LinkedHashMap<>();
+        other.put("name", "a");
+        other.put("width", -1.5d);
+        assertTrue(writer.addFeature("roads", linestring(WGS84, g(30, 10), g(40, 20)), other));
+        assertTrue(writer.addFeature("places", point(WGS84, g(10, 10)), null));
+
+        List<Field> layers = fields(writer.toByteArray());
+        assertEquals(2, layers.size());
+        assertEquals(3, layers.get(0).number);
+
+        List<Field> roads = fields(layers.get(0).bytes);
+        assertEquals(2L, value(roads, 15));
+        assertEquals("roads", string(roads, 1));
+        assertEquals(4096L, value(roads, 5));
+        assertEquals(List.of("name", "lanes", "oneway", "width"), strings(roads, 3));
+
+        List<Field> values = all(roads, 4);
+        assertEquals(4, values.size());
+        assertEquals("a", string(fields(values.get(0).bytes), 1));
+        assertEquals(2L, value(fields(values.get(1).bytes), 5));
+        assertEquals(1L, value(fields(values.get(2).bytes), 7));
+        assertEquals(-1.5d, Double.longBitsToDouble(value(fields(values.get(3).bytes), 3)), 0.0);
+
+        List<Field> features = all(roads, 2);
+        assertEquals(2, features.size());
+        List<Field> first = fields(features.get(0).bytes);
+        assertEquals(42L, value(first, 1));
+        assertArrayEquals(new int[]{0, 0, 1, 1, 2, 2}, packed(first, 2));
+        assertEquals(2L, value(first, 3));
+        List<Field> second = fields(features.get(1).bytes);
+        assertNull(find(second, 1));
+        assertArrayEquals(new int[]{0, 0, 3, 3}, packed(second, 2));
+
+        List<Field> places = fields(layers.get(1).bytes);
+        assertEquals("places", string(places, 1));
+        List<Field> place = fields(all(places, 2).get(0).bytes);
+        assertNull(find(place, 2));
+        assertEquals(1L, value(place, 3));
+    }
+
+    @Test
+    public void testFeatureOutsideTileIsDropped() {
+        assertFalse(writer.addFeature("roads", linestring(WGS84, g(-40, 10), g(-30, 20)), null));
+        assertEquals(0, writer.toByteArray().length);
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        writer.addFeature("places", point(WGS84, g(10, 10)), null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        assertArrayEquals(writer.toByteArray(), out.toByteArray());
+    }
+
+    //a minimal protobuf decoder for verifying the encoded tiles
+
+    static class Field {
+        int number;
+        long value;
+        byte[] bytes;
+    }
+
+    static List<Field> fields(byte[] bytes) {
+        List<Field> result = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < bytes.length) {
+            long tag = varint(bytes, pos);
+            Field field = new Field();
+            field.number = (int) (tag >>> 3);
+            switch ((int) (tag & 0x7)) {
+                case 0:
+                    field.value = varint(bytes, pos);
+                    break;
+                case 1:
+                    for (int i = 0; i < 8; i++) field.value |= (bytes[pos[0]++] & 0xFFL) << (8 * i);
+                    break;
+                case 2:
+                    int length = (int) varint(bytes, pos);
+                    field.bytes = java.util.Arrays.copyOfRange(bytes, pos[0], pos[0] + length);
+                    pos[0] += length;
+                    break;
+                case 5:
+                    for (int i = 0; i < 4; i++) field.value |= (bytes[pos[0]++] & 0xFFL) << (8 * i);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected wire type");
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    static long varint(byte[] bytes, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    static Field find(List<Field> fields, int number) {
+        return fields.stream().filter(f -> f.number == number).findFirst().orElse(null);
+    }
+
+    static List<Field> all(List<Field> fields, int number) {
+        List<Field> result = new ArrayList<>();
+        for (Field f : fields) if (f.number == number) result.add(f);
+        return result;
+    }
+
+    static long value(List<Field> fields, int number) {
+        return find(fields, number).value;
+    }
+
+    static String string(List<Field> fields, int number) {
+        return new String(find(fields, number).bytes, StandardCharsets.UTF_8);
+    }
+
+    static List<String> strings(List<Field> fields, int number) {
+        List<String> result = new ArrayList<>();
+        for (Field f : all(fields, number)) result.add(new String(f.bytes, StandardCharsets.UTF_8));
+        return result;
+    }
+
+    static int[] packed(List<Field> fields, int number) {
+        byte[] bytes = find(fields, number).bytes;
+        List<Integer> result = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < bytes.length) result.add((int) varint(bytes, pos));
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -82,7 +82,8 @@ case "$AXIS" in
             exit 0
         fi
 
-        for pom in json-core/pom.xml json-jackson3/pom.xml json-jackson2/pom.xml; do
+        # benchmarks/pom.xml depends on geolatte-geojson-jackson2, so it is bumped as well
+        for pom in json-core/pom.xml json-jackson3/pom.xml json-jackson2/pom.xml benchmarks/pom.xml; do
             sed -i "s|<version>${OLD}</version>|<version>${VERSION}</version>|g" "$REPO_ROOT/$pom"
         done
 
@@ -90,6 +91,7 @@ case "$AXIS" in
         echo "  json-core/pom.xml"
         echo "  json-jackson3/pom.xml"
         echo "  json-jackson2/pom.xml"
+        echo "  benchmarks/pom.xml"
         echo
         echo "Next steps:"
         echo "  mvn -pl json-core,json-jackson3,json-jackson2 -am clean install"